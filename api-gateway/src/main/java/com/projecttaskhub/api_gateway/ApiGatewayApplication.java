@@ -4,7 +4,7 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 
-@SpringBootApplication
+@SpringBootApplication(scanBasePackages = {"com.projecttaskhub.api_gateway", "loadbalancer", "view"})
 @EnableDiscoveryClient
 public class ApiGatewayApplication {
 
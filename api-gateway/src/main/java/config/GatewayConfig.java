@@ -8,6 +8,7 @@ import org.springframework.cloud.gateway.route.RouteLocator;
 @Configuration
 public class GatewayConfig {
 
+    // Les filtres d'observabilité de Spring Cloud Gateway ajoutent traceparent à chaque requête routée
     @Bean
     public RouteLocator customRouteLocator(RouteLocatorBuilder builder) {
         return builder.routes()
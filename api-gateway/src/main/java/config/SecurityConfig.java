@@ -28,6 +28,7 @@ public class SecurityConfig {
                         .pathMatchers("/api/auth/**").permitAll()
                         .pathMatchers("/api/projects/**").hasAnyRole("USER", "ADMIN")
                         .pathMatchers("/api/tasks/**").hasAnyRole("USER", "ADMIN")
+                        .pathMatchers("/api/views/**").hasAnyRole("USER", "ADMIN")
                         .anyExchange().authenticated()
                 )
                 .oauth2ResourceServer(oauth2 -> oauth2
@@ -0,0 +1,102 @@
+package loadbalancer;
+
+import io.micrometer.core.instrument.Meter;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Statistiques de charge d'une instance : latence EWMA "peak" et requêtes en cours.
+ * La latence décroît vers zéro en l'absence de trafic, ce qui permet de re-sonder
+ * une instance écartée après un pic.
+ */
+public class InstanceStats {
+
+    // Coût imputé à une instance sans mesure mais déjà sollicitée
+    private static final double PENALTY_NANOS = 1_000_000_000d;
+
+    private final String instanceId;
+    private final long upSinceMillis;
+    private final AtomicInteger outstanding = new AtomicInteger();
+
+    private double ewmaNanos;
+    private long stampNanos = System.nanoTime();
+
+    private volatile List<Meter.Id> meterIds = List.of();
+
+    public InstanceStats(String instanceId, long upSinceMillis) {
+        this.instanceId = instanceId;
+        this.upSinceMillis = upSinceMillis;
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    public int getOutstanding() {
+        return outstanding.get();
+    }
+
+    void requestStarted() {
+        outstanding.incrementAndGet();
+    }
+
+    void requestCompleted() {
+        outstanding.updateAndGet(current -> Math.max(current - 1, 0));
+    }
+
+    void observe(long rttNanos, double decayNanos) {
+        observe(rttNanos, decayNanos, System.nanoTime());
+    }
+
+    // now : horloge System.nanoTime(), explicite pour les tests
+    synchronized void observe(long rttNanos, double decayNanos, long now) {
+        double weight = Math.exp(-Math.max(now - stampNanos, 0) / decayNanos);
+        if (rttNanos > ewmaNanos * weight) {
+            // "Peak" : on prend immédiatement un pic de latence en compte
+            ewmaNanos = rttNanos;
+        } else {
+            // Moyenne pondérée depuis la valeur mémorisée : le poids porte déjà la décroissance
+            ewmaNanos = ewmaNanos * weight + rttNanos * (1 - weight);
+        }
+        stampNanos = now;
+    }
+
+    double ewmaNanos(double decayNanos) {
+        return ewmaNanos(decayNanos, System.nanoTime());
+    }
+
+    synchronized double ewmaNanos(double decayNanos, long now) {
+        return decayed(now, decayNanos);
+    }
+
+    double cost(double decayNanos) {
+        double rtt = ewmaNanos(decayNanos);
+        int pending = outstanding.get();
+        if (rtt == 0 && pending != 0) {
+            return PENALTY_NANOS + pending;
+        }
+        return rtt * (pending + 1);
+    }
+
+    double warmupWeight(long slowStartMillis, double minWeight) {
+        if (slowStartMillis <= 0) {
+            return 1.0;
+        }
+        double age = System.currentTimeMillis() - upSinceMillis;
+        return Math.max(minWeight, Math.min(1.0, age / slowStartMillis));
+    }
+
+    List<Meter.Id> getMeterIds() {
+        return meterIds;
+    }
+
+    void setMeterIds(List<Meter.Id> meterIds) {
+        this.meterIds = meterIds;
+    }
+
+    private double decayed(long now, double decayNanos) {
+        double elapsed = Math.max(now - stampNanos, 0);
+        return ewmaNanos * Math.exp(-elapsed / decayNanos);
+    }
+}
@@ -0,0 +1,129 @@
+package loadbalancer;
+
+import com.netflix.appinfo.LeaseInfo;
+import com.projecttaskhub.shareddto.discovery.InstanceLoad;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.netflix.eureka.EurekaServiceInstance;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class InstanceStatsRegistry {
+
+    private final MeterRegistry meterRegistry;
+    private final LoadBalancerProperties properties;
+
+    private final Map<String, Map<String, InstanceStats>> statsByService = new ConcurrentHashMap<>();
+
+    public InstanceStats stats(ServiceInstance instance) {
+        return statsByService
+                .computeIfAbsent(instance.getServiceId(), serviceId -> new ConcurrentHashMap<>())
+                .computeIfAbsent(instanceKey(instance), key -> register(instance, key));
+    }
+
+    public double cost(InstanceStats stats, ServiceInstance instance) {
+        // La charge publiée par le backend amplifie le coût observé côté gateway
+        return stats.cost(decayNanos()) * (1 + publishedScore(instance) / properties.getSaturationScore());
+    }
+
+    public boolean isSaturated(ServiceInstance instance) {
+        return publishedScore(instance) >= properties.getSaturationScore();
+    }
+
+    private double publishedScore(ServiceInstance instance) {
+        return InstanceLoad.publishedScore(instance.getMetadata(), properties.getLoadMaxAge().toMillis());
+    }
+
+    public double warmupWeight(InstanceStats stats) {
+        return stats.warmupWeight(properties.getSlowStart().toMillis(), properties.getMinWarmupWeight());
+    }
+
+    public void requestStarted(ServiceInstance instance) {
+        stats(instance).requestStarted();
+    }
+
+    public void requestCompleted(ServiceInstance instance, long rttNanos, boolean failed) {
+        InstanceStats stats = stats(instance);
+        long observed = failed ? Math.max(rttNanos, properties.getFailurePenalty().toNanos()) : rttNanos;
+        stats.observe(observed, decayNanos());
+        stats.requestCompleted();
+    }
+
+    // Oublie les instances qui ont disparu du registre Eureka (et leurs métriques)
+    public void retain(String serviceId, List<ServiceInstance> instances) {
+        Map<String, InstanceStats> byInstance = statsByService.get(serviceId);
+        if (byInstance == null || byInstance.size() <= instances.size()) {
+            return;
+        }
+        Set<String> live = instances.stream().map(this::instanceKey).collect(Collectors.toSet());
+        byInstance.entrySet().removeIf(entry -> {
+            if (live.contains(entry.getKey())) {
+                return false;
+            }
+            entry.getValue().getMeterIds().forEach(meterRegistry::remove);
+            log.info("Instance {} de {} retirée du load balancer", entry.getKey(), serviceId);
+            return true;
+        });
+    }
+
+    private InstanceStats register(ServiceInstance instance, String key) {
+        InstanceStats stats = new InstanceStats(key, upSince(instance));
+        double decayNanos = decayNanos();
+
+        List<Meter.Id> meterIds = List.of(
+                Gauge.builder("gateway.loadbalancer.latency.ewma", stats, s -> s.ewmaNanos(decayNanos) / 1_000_000d)
+                        .description("Latence EWMA (peak) observée par instance")
+                        .baseUnit("milliseconds")
+                        .tag("service", instance.getServiceId())
+                        .tag("instance", key)
+                        .register(meterRegistry)
+                        .getId(),
+                Gauge.builder("gateway.loadbalancer.outstanding", stats, InstanceStats::getOutstanding)
+                        .description("Requêtes en cours par instance")
+                        .tag("service", instance.getServiceId())
+                        .tag("instance", key)
+                        .register(meterRegistry)
+                        .getId(),
+                Gauge.builder("gateway.loadbalancer.warmup.weight", stats, this::warmupWeight)
+                        .description("Poids de montée en charge (1 = instance chaude)")
+                        .tag("service", instance.getServiceId())
+                        .tag("instance", key)
+                        .register(meterRegistry)
+                        .getId()
+        );
+        stats.setMeterIds(meterIds);
+        return stats;
+    }
+
+    private long upSince(ServiceInstance instance) {
+        if (instance instanceof EurekaServiceInstance eurekaInstance) {
+            LeaseInfo leaseInfo = eurekaInstance.getInstanceInfo().getLeaseInfo();
+            if (leaseInfo != null && leaseInfo.getServiceUpTimestamp() > 0) {
+                return leaseInfo.getServiceUpTimestamp();
+            }
+        }
+        return System.currentTimeMillis();
+    }
+
+    private String instanceKey(ServiceInstance instance) {
+        return instance.getInstanceId() != null
+                ? instance.getInstanceId()
+                : instance.getHost() + ":" + instance.getPort();
+    }
+
+    private double decayNanos() {
+        return properties.getDecayTime().toNanos();
+    }
+}
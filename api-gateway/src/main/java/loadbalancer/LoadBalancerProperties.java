@@ -0,0 +1,29 @@
+package loadbalancer;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "gateway.loadbalancer")
+public class LoadBalancerProperties {
+
+    // Constante de temps de la moyenne mobile (EWMA) des latences par instance
+    private Duration decayTime = Duration.ofSeconds(10);
+
+    // Durée de montée en charge d'une instance nouvellement enregistrée dans Eureka
+    private Duration slowStart = Duration.ofSeconds(30);
+
+    // Part minimale de trafic accordée à une instance en montée en charge
+    private double minWarmupWeight = 0.1;
+
+    // Latence imputée à une requête en échec (évite qu'une instance qui refuse vite paraisse rapide)
+    private Duration failurePenalty = Duration.ofSeconds(1);
+
+    // Score de charge publié dans Eureka à partir duquel une instance est évitée
+    private double saturationScore = 50;
+
+    // Au-delà, les signaux de charge publiés sont jugés périmés et ignorés
+    private Duration loadMaxAge = Duration.ofMinutes(2);
+}
@@ -0,0 +1,75 @@
+package loadbalancer;
+
+import com.projecttaskhub.sharedinfra.loadbalancer.PowerOfTwoChoices;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Load balancer "power of two choices" sur un coût peak-EWMA :
+ * on tire deux instances au hasard et on garde celle dont
+ * latence EWMA × (requêtes en cours + 1) est la plus faible.
+ * Une instance récemment enregistrée n'est retenue qu'avec une
+ * probabilité égale à son poids de montée en charge (slow start) et le coût
+ * est pondéré par la charge que chaque backend publie dans Eureka.
+ */
+@Slf4j
+public class PeakEwmaLoadBalancer implements ReactorServiceInstanceLoadBalancer {
+
+    private final ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider;
+    private final String serviceId;
+    private final InstanceStatsRegistry statsRegistry;
+
+    public PeakEwmaLoadBalancer(ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider,
+                                String serviceId,
+                                InstanceStatsRegistry statsRegistry) {
+        this.serviceInstanceListSupplierProvider = serviceInstanceListSupplierProvider;
+        this.serviceId = serviceId;
+        this.statsRegistry = statsRegistry;
+    }
+
+    @Override
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        ServiceInstanceListSupplier supplier = serviceInstanceListSupplierProvider
+                .getIfAvailable(NoopServiceInstanceListSupplier::new);
+        return supplier.get(request).next().map(this::select);
+    }
+
+    private Response<ServiceInstance> select(List<ServiceInstance> instances) {
+        if (instances.isEmpty()) {
+            log.warn("Aucune instance disponible pour le service: {}", serviceId);
+            return new EmptyResponse();
+        }
+
+        statsRegistry.retain(serviceId, instances);
+
+        // Une instance qui se déclare saturée dans Eureka délaisse son trafic aux autres
+        return new DefaultResponse(PowerOfTwoChoices.select(instances, statsRegistry::isSaturated, this::pick));
+    }
+
+    private ServiceInstance pick(ServiceInstance a, ServiceInstance b) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        InstanceStats statsA = statsRegistry.stats(a);
+        InstanceStats statsB = statsRegistry.stats(b);
+
+        // Slow start : une instance froide cède sa place selon son poids de montée en charge
+        boolean skipA = random.nextDouble() >= statsRegistry.warmupWeight(statsA);
+        boolean skipB = random.nextDouble() >= statsRegistry.warmupWeight(statsB);
+        if (skipA != skipB) {
+            return skipA ? b : a;
+        }
+
+        return statsRegistry.cost(statsA, a) <= statsRegistry.cost(statsB, b) ? a : b;
+    }
+}
@@ -0,0 +1,22 @@
+package view;
+
+import com.projecttaskhub.shareddto.dto.ProjectDTO;
+import com.projecttaskhub.shareddto.dto.TaskDTO;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// Projet et ses tâches fusionnés en une seule réponse ; complete=false si une branche a échoué
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectView {
+    private ProjectDTO project;
+    private List<TaskDTO> tasks;
+    private boolean complete;
+    private List<String> errors;
+}
@@ -0,0 +1,46 @@
+package view;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.projecttaskhub.shareddto.dto.ProjectDTO;
+import com.projecttaskhub.shareddto.dto.TaskDTO;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Élément du flux NDJSON de la vue composite : le projet, puis chaque tâche, puis les éventuelles erreurs
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ProjectViewChunk {
+
+    public static final String PROJECT = "project";
+    public static final String TASK = "task";
+    public static final String ERROR = "error";
+    public static final String TASKS = "tasks";
+
+    private String type;
+    private ProjectDTO project;
+    private TaskDTO task;
+    // Branche en échec ("project" ou "tasks") pour un élément de type error
+    private String leg;
+    private String error;
+
+    public static ProjectViewChunk project(ProjectDTO project) {
+        return new ProjectViewChunk(PROJECT, project, null, null, null);
+    }
+
+    public static ProjectViewChunk task(TaskDTO task) {
+        return new ProjectViewChunk(TASK, null, task, null, null);
+    }
+
+    public static ProjectViewChunk error(String leg, String error) {
+        return new ProjectViewChunk(ERROR, null, null, leg, error);
+    }
+
+    @JsonIgnore
+    public boolean isProjectFailure() {
+        return ERROR.equals(type) && PROJECT.equals(leg);
+    }
+}
@@ -0,0 +1,35 @@
+package view;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/views")
+@RequiredArgsConstructor
+public class ProjectViewController {
+
+    private final ProjectViewService projectViewService;
+
+    @GetMapping(value = "/project/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ProjectView> getProjectView(
+            @PathVariable Long id,
+            @RequestHeader(HttpHeaders.AUTHORIZATION) String authorization) {
+        return projectViewService.getProjectView(id, authorization);
+    }
+
+    // Variante en flux : le projet puis les tâches au fil de leur arrivée
+    @GetMapping(value = "/project/{id}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ProjectViewChunk> streamProjectView(
+            @PathVariable Long id,
+            @RequestHeader(HttpHeaders.AUTHORIZATION) String authorization) {
+        return projectViewService.streamProjectView(id, authorization);
+    }
+}
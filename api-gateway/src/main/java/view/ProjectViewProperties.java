@@ -0,0 +1,18 @@
+package view;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "gateway.views")
+public class ProjectViewProperties {
+
+    private String projectServiceUri = "http://project-service";
+    private String taskServiceUri = "http://task-service";
+
+    // Délai maximal de chaque appel de la vue composite
+    private Duration projectTimeout = Duration.ofSeconds(2);
+    private Duration tasksTimeout = Duration.ofSeconds(3);
+}
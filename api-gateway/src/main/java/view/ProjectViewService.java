@@ -0,0 +1,128 @@
+package view;
+
+import com.projecttaskhub.shareddto.dto.ProjectDTO;
+import com.projecttaskhub.shareddto.dto.TaskDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Vue composite "projet + tâches" : les deux backends sont appelés en parallèle.
+ * Politique d'échec partiel : le projet est obligatoire (son échec fait échouer la vue),
+ * les tâches sont optionnelles (leur échec donne une vue incomplète).
+ */
+@Service
+@Slf4j
+public class ProjectViewService {
+
+    private final WebClient webClient;
+    private final ProjectViewProperties properties;
+
+    public ProjectViewService(WebClient.Builder loadBalancedWebClientBuilder, ProjectViewProperties properties) {
+        this.webClient = loadBalancedWebClientBuilder
+                .defaultHeader("X-Gateway", "api-gateway")
+                .build();
+        this.properties = properties;
+    }
+
+    public Mono<ProjectView> getProjectView(Long projectId, String authorization) {
+        Mono<ProjectDTO> project = fetchProject(projectId, authorization)
+                .onErrorMap(e -> toResponseStatus("project", e));
+
+        Mono<TasksLeg> tasks = fetchTasks(projectId, authorization)
+                .collectList()
+                .map(list -> new TasksLeg(list, null))
+                .onErrorResume(e -> Mono.just(new TasksLeg(List.of(), describe("tasks", e))));
+
+        // zip souscrit aux deux branches simultanément
+        return Mono.zip(project, tasks)
+                .map(result -> ProjectView.builder()
+                        .project(result.getT1())
+                        .tasks(result.getT2().tasks())
+                        .complete(result.getT2().error() == null)
+                        .errors(result.getT2().error() == null ? List.of() : List.of(result.getT2().error()))
+                        .build());
+    }
+
+    public Flux<ProjectViewChunk> streamProjectView(Long projectId, String authorization) {
+        Flux<ProjectViewChunk> project = fetchProject(projectId, authorization)
+                .map(ProjectViewChunk::project)
+                .onErrorResume(e -> Mono.just(ProjectViewChunk.error(ProjectViewChunk.PROJECT, describe("project", e))))
+                .flux();
+
+        Flux<ProjectViewChunk> tasks = fetchTasks(projectId, authorization)
+                .map(ProjectViewChunk::task)
+                .onErrorResume(e -> Mono.just(ProjectViewChunk.error(ProjectViewChunk.TASKS, describe("tasks", e))));
+
+        // mergeSequential souscrit aux deux branches tout de suite mais émet le projet en premier ;
+        // les tâches ne sont retenues que le temps que le projet arrive.
+        return Flux.mergeSequential(project, tasks)
+                .takeUntil(ProjectViewChunk::isProjectFailure);
+    }
+
+    private Mono<ProjectDTO> fetchProject(Long projectId, String authorization) {
+        return webClient.get()
+                .uri(properties.getProjectServiceUri() + "/projects/{id}", projectId)
+                .header(HttpHeaders.AUTHORIZATION, authorization)
+                .accept(MediaType.APPLICATION_JSON)
+                .retrieve()
+                .bodyToMono(ProjectDTO.class)
+                .timeout(properties.getProjectTimeout());
+    }
+
+    private Flux<TaskDTO> fetchTasks(Long projectId, String authorization) {
+        Flux<TaskDTO> tasks = webClient.get()
+                .uri(properties.getTaskServiceUri() + "/tasks/project/{projectId}", projectId)
+                .header(HttpHeaders.AUTHORIZATION, authorization)
+                .accept(MediaType.APPLICATION_JSON)
+                .retrieve()
+                // Le décodeur Jackson découpe le tableau JSON élément par élément, sans le charger entier
+                .bodyToFlux(TaskDTO.class);
+        return withDeadline(tasks, properties.getTasksTimeout());
+    }
+
+    // Délai global de la branche (Flux.timeout seul ne borne que l'écart entre deux éléments)
+    private static <T> Flux<T> withDeadline(Flux<T> source, Duration deadline) {
+        return Flux.defer(() -> {
+            long deadlineNanos = System.nanoTime() + deadline.toNanos();
+            return source.timeout(
+                    Mono.delay(deadline),
+                    item -> Mono.delay(Duration.ofNanos(Math.max(deadlineNanos - System.nanoTime(), 0))));
+        });
+    }
+
+    private Throwable toResponseStatus(String leg, Throwable e) {
+        if (e instanceof WebClientResponseException.NotFound) {
+            return new ResponseStatusException(HttpStatus.NOT_FOUND, describe(leg, e), e);
+        }
+        if (e instanceof TimeoutException) {
+            return new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT, describe(leg, e), e);
+        }
+        return new ResponseStatusException(HttpStatus.BAD_GATEWAY, describe(leg, e), e);
+    }
+
+    private String describe(String leg, Throwable e) {
+        log.warn("Échec de la branche {} de la vue projet: {}", leg, e.toString());
+        if (e instanceof TimeoutException) {
+            return leg + ": délai dépassé";
+        }
+        if (e instanceof WebClientResponseException responseException) {
+            return leg + ": " + responseException.getStatusCode().value();
+        }
+        return leg + ": indisponible";
+    }
+
+    private record TasksLeg(List<TaskDTO> tasks, String error) {
+    }
+}
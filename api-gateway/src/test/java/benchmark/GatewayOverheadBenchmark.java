@@ -0,0 +1,214 @@
+package benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.projecttaskhub.testsupport.StubJwtIssuer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Surcoût de la gateway par route et par filtre, face à des backends factices en mémoire
+ * et à un émetteur JWKS local (aucun Eureka, Config Server ni Keycloak).
+ * <p>
+ * Chaque {@link GatewayVariant} est démarrée dans son propre contexte Spring ; la variante
+ * DIRECT appelle les backends sans gateway. Exécuté uniquement sur demande :
+ * <pre>
+ * ./scripts/bench-gateway.sh
+ * mvn -pl api-gateway test -Dtest=GatewayOverheadBenchmark -Dgateway.benchmark=true [-Dgateway.benchmark.concurrency=64]
+ * </pre>
+ * Résultats : tableau sur la sortie standard et target/gateway-benchmark.json.
+ */
+@EnabledIfSystemProperty(named = "gateway.benchmark", matches = "true")
+class GatewayOverheadBenchmark {
+
+    private static final String PROJECT_JSON = """
+            {"id":42,"name":"Refonte du portail client","description":"Projet de référence du benchmark",\
+            "startDate":"2025-01-06T09:00:00","endDate":"2025-06-30T18:00:00","status":"IN_PROGRESS",\
+            "owner":"user1","createdAt":"2025-01-02T10:15:00","updatedAt":"2025-03-14T16:42:00"}""";
+    private static final String TASK_JSON = """
+            {"id":"650000000000000000000042","title":"Migrer l'authentification","description":"Tâche de référence",\
+            "projectId":42,"status":"IN_PROGRESS","priority":"HIGH","assignedTo":"user1",\
+            "dueDate":"2025-04-01T18:00:00","createdAt":"2025-02-01T09:00:00","updatedAt":"2025-03-10T11:30:00"}""";
+
+    private enum Route {
+        PROJECTS("/api/projects/42", "/projects/42"),
+        TASKS("/api/tasks/650000000000000000000042", "/tasks/650000000000000000000042");
+
+        private final String gatewayPath;
+        private final String backendPath;
+
+        Route(String gatewayPath, String backendPath) {
+            this.gatewayPath = gatewayPath;
+            this.backendPath = backendPath;
+        }
+    }
+
+    private record Result(GatewayVariant variant, Route route, RouteLoad.Measurement measurement) {
+    }
+
+    @Test
+    void measureGatewayOverhead() throws Exception {
+        int concurrency = Integer.getInteger("gateway.benchmark.concurrency", 64);
+        List<Result> results = new ArrayList<>();
+
+        try (StubJwtIssuer issuer = new StubJwtIssuer(8180);
+             StubBackend projectService = new StubBackend(PROJECT_JSON);
+             StubBackend taskService = new StubBackend(TASK_JSON)) {
+            // Realm attendu par SecurityConfig : le port 8180 doit être libre pendant le benchmark
+            issuer.start();
+
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(2))
+                    .build();
+            RouteLoad load = new RouteLoad(client, issuer.issue("user1"),
+                    Integer.getInteger("gateway.benchmark.warmup-requests", 20_000),
+                    Integer.getInteger("gateway.benchmark.requests", 20_000),
+                    concurrency,
+                    Duration.ofSeconds(Integer.getInteger("gateway.benchmark.duration-seconds", 10)));
+
+            for (GatewayVariant variant : GatewayVariant.values()) {
+                if (!variant.usesGateway()) {
+                    results.add(new Result(variant, Route.PROJECTS,
+                            load.measure(URI.create(projectService.uri() + Route.PROJECTS.backendPath))));
+                    results.add(new Result(variant, Route.TASKS,
+                            load.measure(URI.create(taskService.uri() + Route.TASKS.backendPath))));
+                    continue;
+                }
+                try (ConfigurableApplicationContext gateway = start(variant, projectService, taskService)) {
+                    String base = "http://127.0.0.1:" + gateway.getEnvironment().getProperty("local.server.port");
+                    for (Route route : Route.values()) {
+                        results.add(new Result(variant, route, load.measure(URI.create(base + route.gatewayPath))));
+                    }
+                }
+            }
+        }
+
+        print(results, concurrency);
+        write(results, concurrency);
+        for (Result result : results) {
+            assertEquals(0, result.measurement().errors(),
+                    "Réponses non 200 pour " + result.variant() + " " + result.route());
+        }
+    }
+
+    private static ConfigurableApplicationContext start(GatewayVariant variant, StubBackend projectService,
+                                                        StubBackend taskService) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.main.web-application-type", "reactive");
+        properties.put("spring.main.banner-mode", "off");
+        properties.put("spring.cloud.config.enabled", false);
+        properties.put("spring.cloud.config.import-check.enabled", false);
+        properties.put("eureka.client.enabled", false);
+        properties.put("spring.cloud.discovery.client.simple.instances.project-service[0].uri", projectService.uri());
+        properties.put("spring.cloud.discovery.client.simple.instances.task-service[0].uri", taskService.uri());
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.org.springframework.cloud.gateway", "WARN");
+        properties.put("logging.level.org.springframework.security", "WARN");
+        properties.put("spring.security.oauth2.resourceserver.jwt.authorities-claim-name", "roles");
+        properties.put("spring.security.oauth2.resourceserver.jwt.authority-prefix", "ROLE_");
+
+        List<String> excluded = new ArrayList<>(List.of(
+                "org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration",
+                "org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration",
+                "org.springframework.boot.autoconfigure.amqp.RabbitAutoConfiguration"));
+        if (!variant.secured()) {
+            // Sans ces auto-configurations, aucune chaîne de filtres de sécurité n'est installée
+            excluded.addAll(List.of(
+                    "org.springframework.boot.autoconfigure.security.reactive.ReactiveSecurityAutoConfiguration",
+                    "org.springframework.boot.autoconfigure.security.reactive.ReactiveUserDetailsServiceAutoConfiguration",
+                    "org.springframework.boot.actuate.autoconfigure.security.reactive.ReactiveManagementWebSecurityAutoConfiguration",
+                    "org.springframework.boot.autoconfigure.security.oauth2.resource.reactive.ReactiveOAuth2ResourceServerAutoConfiguration"));
+        }
+        properties.put("spring.autoconfigure.exclude", String.join(",", excluded));
+
+        return new SpringApplicationBuilder(variant.sources())
+                .properties(properties)
+                .run();
+    }
+
+    private static void print(List<Result> results, int concurrency) {
+        System.out.printf("%n%-34s %-9s %10s %10s %10s %12s %14s%n",
+                "Variante", "Route", "p50 µs", "p99 µs", "moy. µs", "req/s (" + concurrency + ")", "octets/req");
+        for (Result result : results) {
+            RouteLoad.Measurement m = result.measurement();
+            System.out.printf("%-34s %-9s %10.1f %10.1f %10.1f %12.0f %14.0f%n",
+                    result.variant().label(), result.route(), m.p50Micros(), m.p99Micros(), m.meanMicros(),
+                    m.maxThroughput(), m.allocatedBytesPerRequest());
+        }
+
+        System.out.printf("%nCoût par élément (écart avec la variante précédente)%n");
+        System.out.printf("%-34s %-9s %12s %12s %14s%n", "Élément", "Route", "Δ p50 µs", "Δ req/s", "Δ octets/req");
+        for (Result result : results) {
+            Result previous = previous(results, result);
+            if (previous == null) {
+                continue;
+            }
+            RouteLoad.Measurement now = result.measurement();
+            RouteLoad.Measurement before = previous.measurement();
+            System.out.printf("%-34s %-9s %+12.1f %+12.0f %+14.0f%n",
+                    result.variant().label(), result.route(),
+                    now.p50Micros() - before.p50Micros(),
+                    now.maxThroughput() - before.maxThroughput(),
+                    now.allocatedBytesPerRequest() - before.allocatedBytesPerRequest());
+        }
+    }
+
+    private static void write(List<Result> results, int concurrency) throws Exception {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Result result : results) {
+            RouteLoad.Measurement m = result.measurement();
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("variant", result.variant().name());
+            row.put("route", result.route().name());
+            row.put("p50Micros", m.p50Micros());
+            row.put("p99Micros", m.p99Micros());
+            row.put("meanMicros", m.meanMicros());
+            row.put("maxThroughput", m.maxThroughput());
+            row.put("allocatedBytesPerRequest", m.allocatedBytesPerRequest());
+            Result previous = previous(results, result);
+            if (previous != null) {
+                row.put("addedP50Micros", m.p50Micros() - previous.measurement().p50Micros());
+                row.put("addedBytesPerRequest",
+                        m.allocatedBytesPerRequest() - previous.measurement().allocatedBytesPerRequest());
+            }
+            rows.add(row);
+        }
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("concurrency", concurrency);
+        report.put("javaVersion", System.getProperty("java.version"));
+        report.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        report.put("results", rows);
+
+        File output = new File("target/gateway-benchmark.json");
+        output.getParentFile().mkdirs();
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(output, report);
+        System.out.println("Résultats écrits dans " + output.getAbsolutePath());
+    }
+
+    private static Result previous(List<Result> results, Result result) {
+        int ordinal = result.variant().ordinal();
+        if (ordinal == 0) {
+            return null;
+        }
+        GatewayVariant before = GatewayVariant.values()[ordinal - 1];
+        return results.stream()
+                .filter(candidate -> candidate.variant() == before && candidate.route() == result.route())
+                .findFirst()
+                .orElse(null);
+    }
+}
@@ -0,0 +1,91 @@
+package benchmark;
+
+import config.GatewayConfig;
+import config.SecurityConfig;
+import filter.AuthenticationFilter;
+import loadbalancer.LoadBalancerConfig;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.cloud.gateway.route.RouteLocator;
+import org.springframework.cloud.gateway.route.builder.RouteLocatorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Configurations mesurées, de la plus nue à la configuration de production. Chaque
+ * variante ajoute un seul élément à la précédente : l'écart entre deux variantes
+ * successives est le coût de cet élément.
+ */
+enum GatewayVariant {
+
+    DIRECT("Backend direct (sans gateway)", null, false),
+    ROUTING("Routage lb:// seul", new Class<?>[]{Base.class, PlainRoutes.class}, false),
+    REWRITE("+ RewritePath", new Class<?>[]{Base.class, RewriteRoutes.class}, false),
+    HEADER("+ X-Gateway", new Class<?>[]{Base.class, GatewayConfig.class}, false),
+    AUTH_FILTER("+ AuthenticationFilter", new Class<?>[]{Base.class, GatewayConfig.class, AuthenticationFilter.class}, false),
+    SECURITY("+ Sécurité (JWT, CORS)",
+            new Class<?>[]{Base.class, GatewayConfig.class, AuthenticationFilter.class, SecurityConfig.class}, true);
+
+    private final String label;
+    private final Class<?>[] sources;
+    private final boolean secured;
+
+    GatewayVariant(String label, Class<?>[] sources, boolean secured) {
+        this.label = label;
+        this.sources = sources;
+        this.secured = secured;
+    }
+
+    String label() {
+        return label;
+    }
+
+    Class<?>[] sources() {
+        return sources;
+    }
+
+    boolean usesGateway() {
+        return sources != null;
+    }
+
+    boolean secured() {
+        return secured;
+    }
+
+    // Socle commun : auto-configuration (gateway, LoadBalancer, actuator) et load balancer peak-EWMA
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @ComponentScan("loadbalancer")
+    @Import(LoadBalancerConfig.class)
+    static class Base {
+    }
+
+    // Mêmes routes que GatewayConfig, sans aucun filtre : le backend reçoit /api/...
+    @Configuration
+    static class PlainRoutes {
+        @Bean
+        RouteLocator plainRoutes(RouteLocatorBuilder builder) {
+            return builder.routes()
+                    .route("project-service", r -> r.path("/api/projects/**").uri("lb://project-service"))
+                    .route("task-service", r -> r.path("/api/tasks/**").uri("lb://task-service"))
+                    .build();
+        }
+    }
+
+    @Configuration
+    static class RewriteRoutes {
+        @Bean
+        RouteLocator rewriteRoutes(RouteLocatorBuilder builder) {
+            return builder.routes()
+                    .route("project-service", r -> r.path("/api/projects/**")
+                            .filters(f -> f.rewritePath("/api/projects/(?<segment>.*)", "/${segment}"))
+                            .uri("lb://project-service"))
+                    .route("task-service", r -> r.path("/api/tasks/**")
+                            .filters(f -> f.rewritePath("/api/tasks/(?<segment>.*)", "/${segment}"))
+                            .uri("lb://task-service"))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package benchmark;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Mesures sur une URL :
+ * <ul>
+ *     <li>latence : requêtes séquentielles (un seul client), donc sans file d'attente ;</li>
+ *     <li>débit maximal : {@code concurrency} clients en boucle fermée pendant {@code duration} ;</li>
+ *     <li>allocation par requête : octets alloués par les threads Reactor (boucles Netty,
+ *     schedulers) pendant la phase de latence, hors client et backends factices.</li>
+ * </ul>
+ */
+final class RouteLoad {
+
+    // Threads qui exécutent le traitement de la gateway (serveur et client Netty, schedulers Reactor)
+    private static final List<String> GATEWAY_THREAD_PREFIXES = List.of("reactor-", "parallel-", "boundedElastic-");
+
+    private final HttpClient client;
+    private final String token;
+    private final int warmupRequests;
+    private final int latencyRequests;
+    private final int concurrency;
+    private final Duration duration;
+
+    RouteLoad(HttpClient client, String token, int warmupRequests, int latencyRequests, int concurrency, Duration duration) {
+        this.client = client;
+        this.token = token;
+        this.warmupRequests = warmupRequests;
+        this.latencyRequests = latencyRequests;
+        this.concurrency = concurrency;
+        this.duration = duration;
+    }
+
+    Measurement measure(URI uri) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+        AtomicLong errors = new AtomicLong();
+
+        for (int i = 0; i < warmupRequests; i++) {
+            send(request, errors);
+        }
+
+        Histogram latencies = new Histogram(TimeUnit.SECONDS.toNanos(10), 3);
+        long allocatedBefore = gatewayAllocatedBytes();
+        for (int i = 0; i < latencyRequests; i++) {
+            long start = System.nanoTime();
+            send(request, errors);
+            latencies.recordValue(Math.min(System.nanoTime() - start, latencies.getHighestTrackableValue()));
+        }
+        long allocatedBytes = gatewayAllocatedBytes() - allocatedBefore;
+
+        double throughput = throughput(request, errors);
+        return new Measurement(latencies, (double) allocatedBytes / latencyRequests, throughput, errors.get());
+    }
+
+    private double throughput(HttpRequest request, AtomicLong errors) throws Exception {
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        AtomicLong completed = new AtomicLong();
+        long warmupEnd = System.nanoTime() + Math.min(duration.toNanos() / 2, TimeUnit.SECONDS.toNanos(3));
+        long end = warmupEnd + duration.toNanos();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(workers.submit(() -> {
+                    while (true) {
+                        long start = System.nanoTime();
+                        if (start >= end) {
+                            return null;
+                        }
+                        send(request, errors);
+                        if (start >= warmupEnd) {
+                            completed.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+        return completed.get() / (duration.toNanos() / 1e9);
+    }
+
+    private void send(HttpRequest request, AtomicLong errors) throws IOException, InterruptedException {
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            errors.incrementAndGet();
+        }
+    }
+
+    // Somme sur les threads vivants : les boucles Netty durent autant que le contexte
+    private static long gatewayAllocatedBytes() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long total = 0;
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            String name = thread.getName();
+            if (GATEWAY_THREAD_PREFIXES.stream().anyMatch(name::startsWith)) {
+                long allocated = threads.getThreadAllocatedBytes(thread.getId());
+                if (allocated > 0) {
+                    total += allocated;
+                }
+            }
+        }
+        return total;
+    }
+
+    record Measurement(Histogram latencies, double allocatedBytesPerRequest, double maxThroughput, long errors) {
+
+        double p50Micros() {
+            return latencies.getValueAtPercentile(50) / 1000.0;
+        }
+
+        double p99Micros() {
+            return latencies.getValueAtPercentile(99) / 1000.0;
+        }
+
+        double meanMicros() {
+            return latencies.getMean() / 1000.0;
+        }
+    }
+}
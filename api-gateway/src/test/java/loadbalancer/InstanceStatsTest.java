@@ -0,0 +1,67 @@
+package loadbalancer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Latence peak-EWMA d'une instance, sur une horloge explicite.
+ */
+class InstanceStatsTest {
+
+    private static final double DECAY_NANOS = 10_000_000_000d;
+    private static final long MILLIS = 1_000_000L;
+
+    private final InstanceStats stats = new InstanceStats("instance-1", System.currentTimeMillis());
+    private final long start = System.nanoTime();
+
+    @Test
+    void decaysTowardZeroWhenIdle() {
+        stats.observe(100 * MILLIS, DECAY_NANOS, start);
+
+        assertEquals(100 * MILLIS, stats.ewmaNanos(DECAY_NANOS, start), 1);
+        assertEquals(100 * MILLIS * Math.exp(-1), stats.ewmaNanos(DECAY_NANOS, start + 10_000 * MILLIS), 1);
+        assertEquals(100 * MILLIS * Math.exp(-3), stats.ewmaNanos(DECAY_NANOS, start + 30_000 * MILLIS), 1);
+    }
+
+    @Test
+    void adoptsPeakImmediately() {
+        stats.observe(10 * MILLIS, DECAY_NANOS, start);
+        stats.observe(200 * MILLIS, DECAY_NANOS, start + MILLIS);
+
+        assertEquals(200 * MILLIS, stats.ewmaNanos(DECAY_NANOS, start + MILLIS), 1);
+    }
+
+    // Instance rarement sollicitée : la moyenne part de la valeur mémorisée, décroissance comptée une fois
+    @Test
+    void blendsFromStoredValueAfterIdleTime() {
+        stats.observe(100 * MILLIS, DECAY_NANOS, start);
+        stats.observe(10 * MILLIS, DECAY_NANOS, start + 10_000 * MILLIS);
+
+        double weight = Math.exp(-1);
+        double expected = 100 * MILLIS * weight + 10 * MILLIS * (1 - weight);
+        assertEquals(expected, stats.ewmaNanos(DECAY_NANOS, start + 10_000 * MILLIS), 1);
+    }
+
+    @Test
+    void convergesToSteadyLatency() {
+        stats.observe(1_000 * MILLIS, DECAY_NANOS, start);
+        long now = start;
+        for (int i = 0; i < 1_000; i++) {
+            now += 100 * MILLIS;
+            stats.observe(10 * MILLIS, DECAY_NANOS, now);
+        }
+
+        assertEquals(10 * MILLIS, stats.ewmaNanos(DECAY_NANOS, now), 0.01 * 10 * MILLIS);
+    }
+
+    @Test
+    void chargesPenaltyForPendingRequestsWithoutMeasure() {
+        assertEquals(0, stats.cost(DECAY_NANOS));
+
+        stats.requestStarted();
+        stats.requestStarted();
+
+        assertEquals(1_000_000_000d + 2, stats.cost(DECAY_NANOS));
+    }
+}
@@ -0,0 +1,110 @@
+package loadbalancer;
+
+import com.projecttaskhub.shareddto.discovery.InstanceLoad;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.ServiceInstanceListSuppliers;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Choix "power of two choices" de la gateway, sans Eureka (instances statiques, pas de slow start).
+ */
+class PeakEwmaLoadBalancerTest {
+
+    private static final String SERVICE_ID = "project-service";
+    private static final long MILLIS = 1_000_000L;
+
+    private InstanceStatsRegistry statsRegistry;
+
+    @BeforeEach
+    void setUp() {
+        LoadBalancerProperties properties = new LoadBalancerProperties();
+        properties.setSlowStart(Duration.ZERO);
+        statsRegistry = new InstanceStatsRegistry(new SimpleMeterRegistry(), properties);
+    }
+
+    @Test
+    void returnsEmptyResponseWithoutInstances() {
+        assertFalse(choose(loadBalancer()).hasServer());
+    }
+
+    @Test
+    void prefersLowerLatency() {
+        ServiceInstance slow = instance("slow", Map.of());
+        ServiceInstance fast = instance("fast", Map.of());
+        statsRegistry.requestCompleted(slow, 500 * MILLIS, false);
+        statsRegistry.requestCompleted(fast, 5 * MILLIS, false);
+
+        assertEquals(Set.of("fast"), chosen(loadBalancer(slow, fast), 100));
+    }
+
+    @Test
+    void weighsLatencyByOutstandingRequests() {
+        ServiceInstance busy = instance("busy", Map.of());
+        ServiceInstance idle = instance("idle", Map.of());
+        statsRegistry.requestCompleted(busy, 10 * MILLIS, false);
+        statsRegistry.requestCompleted(idle, 20 * MILLIS, false);
+        for (int i = 0; i < 3; i++) {
+            statsRegistry.requestStarted(busy);
+        }
+
+        assertEquals(Set.of("idle"), chosen(loadBalancer(busy, idle), 100));
+    }
+
+    @Test
+    void avoidsSaturatedInstanceWhileAnotherRemains() {
+        ServiceInstance saturated = instance("saturated", load(100));
+        ServiceInstance slow = instance("slow", Map.of());
+        statsRegistry.requestCompleted(saturated, 5 * MILLIS, false);
+        statsRegistry.requestCompleted(slow, 500 * MILLIS, false);
+
+        assertEquals(Set.of("slow"), chosen(loadBalancer(saturated, slow), 100));
+        // Toutes saturées : le choix continue plutôt que de refuser
+        assertEquals(Set.of("saturated"), chosen(loadBalancer(saturated), 10));
+    }
+
+    private PeakEwmaLoadBalancer loadBalancer(ServiceInstance... instances) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("supplier", ServiceInstanceListSuppliers.from(SERVICE_ID, instances));
+        return new PeakEwmaLoadBalancer(beanFactory.getBeanProvider(ServiceInstanceListSupplier.class),
+                SERVICE_ID, statsRegistry);
+    }
+
+    private Set<String> chosen(PeakEwmaLoadBalancer loadBalancer, int requests) {
+        Set<String> chosen = new HashSet<>();
+        for (int i = 0; i < requests; i++) {
+            chosen.add(choose(loadBalancer).getServer().getInstanceId());
+        }
+        return chosen;
+    }
+
+    private static Response<ServiceInstance> choose(PeakEwmaLoadBalancer loadBalancer) {
+        return loadBalancer.choose(new DefaultRequest<>()).block();
+    }
+
+    private static ServiceInstance instance(String id, Map<String, String> metadata) {
+        return new DefaultServiceInstance(id, SERVICE_ID, id + ".local", 8081, false, metadata);
+    }
+
+    private static Map<String, String> load(int inFlight) {
+        return InstanceLoad.builder()
+                .inFlight(inFlight)
+                .updatedAt(System.currentTimeMillis())
+                .build()
+                .toMetadata();
+    }
+}
@@ -0,0 +1,112 @@
+package com.projecttaskhub.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compare un résultat JMH (JSON, avec -prof gc) à la référence versionnée et signale
+ * les régressions de temps et d'allocation par opération au-delà des seuils.
+ * <p>
+ * Usage : BaselineComparator baseline.json current.json [seuilTemps%] [seuilAlloc%]
+ * Code de sortie 1 en cas de régression.
+ */
+public final class BaselineComparator {
+
+    private static final String ALLOC_METRIC = "gc.alloc.rate.norm";
+
+    private BaselineComparator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineComparator baseline.json current.json [seuilTemps%] [seuilAlloc%]");
+            System.exit(2);
+        }
+        double timeThreshold = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+        double allocThreshold = args.length > 3 ? Double.parseDouble(args[3]) : 5.0;
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        Map<String, Result> baseline = read(objectMapper.readTree(new File(args[0])));
+        Map<String, Result> current = read(objectMapper.readTree(new File(args[1])));
+
+        if (baseline.isEmpty()) {
+            System.out.println("Aucune référence enregistrée : lancer scripts/bench-jmh.sh baseline");
+            return;
+        }
+
+        boolean regression = false;
+        System.out.printf("%-75s %14s %9s %14s %9s%n", "Benchmark", "Temps", "Δ", "Alloc (o/op)", "Δ");
+        for (Map.Entry<String, Result> entry : current.entrySet()) {
+            Result now = entry.getValue();
+            Result before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("%-75s %10.3f %-3s %9s %14.0f %9s%n",
+                        entry.getKey(), now.score, now.unit, "nouveau", now.allocBytes, "");
+                continue;
+            }
+            double timeDelta = percent(before.score, now.score);
+            double allocDelta = percent(before.allocBytes, now.allocBytes);
+            // Une variation plus petite que l'erreur mesurée n'est pas une régression
+            boolean slower = timeDelta > timeThreshold && now.score - before.score > now.error + before.error;
+            boolean heavier = allocDelta > allocThreshold;
+            regression |= slower || heavier;
+            System.out.printf("%-75s %10.3f %-3s %+8.1f%% %14.0f %+8.1f%%%s%n",
+                    entry.getKey(), now.score, now.unit, timeDelta, now.allocBytes, allocDelta,
+                    slower || heavier ? "  <-- régression" : "");
+        }
+
+        if (regression) {
+            System.out.printf("Régression au-delà des seuils (temps %.0f%%, allocation %.0f%%)%n", timeThreshold, allocThreshold);
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, Result> read(JsonNode results) {
+        Map<String, Result> byKey = new TreeMap<>();
+        for (JsonNode result : results) {
+            JsonNode primary = result.path("primaryMetric");
+            byKey.put(key(result), new Result(
+                    primary.path("score").asDouble(),
+                    primary.path("scoreError").asDouble(),
+                    primary.path("scoreUnit").asText(),
+                    allocBytes(result.path("secondaryMetrics"))));
+        }
+        return byKey;
+    }
+
+    private static String key(JsonNode result) {
+        String benchmark = result.path("benchmark").asText().replace("com.projecttaskhub.benchmarks.", "");
+        Map<String, String> params = new LinkedHashMap<>();
+        result.path("params").fields().forEachRemaining(param -> params.put(param.getKey(), param.getValue().asText()));
+        return params.isEmpty() ? benchmark : benchmark + params;
+    }
+
+    // JMH préfixe les métriques de profileur par « · » selon les versions
+    private static double allocBytes(JsonNode secondaryMetrics) {
+        Iterator<Map.Entry<String, JsonNode>> fields = secondaryMetrics.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (field.getKey().replace("·", "").equals(ALLOC_METRIC)) {
+                return field.getValue().path("score").asDouble();
+            }
+        }
+        return Double.NaN;
+    }
+
+    private static double percent(double before, double now) {
+        if (Double.isNaN(before) || Double.isNaN(now) || before == 0) {
+            return 0;
+        }
+        return (now - before) / before * 100;
+    }
+
+    private record Result(double score, double error, String unit, double allocBytes) {
+    }
+}
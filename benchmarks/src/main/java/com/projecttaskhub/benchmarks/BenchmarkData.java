@@ -0,0 +1,125 @@
+package com.projecttaskhub.benchmarks;
+
+import com.projecttaskhub.shareddto.dto.ProjectStatus;
+import com.projecttaskhub.shareddto.dto.TaskPriority;
+import com.projecttaskhub.shareddto.dto.TaskStatus;
+import com.projecttaskhub.shareddto.event.ProjectEvent;
+import com.projecttaskhub.shareddto.event.TaskEvent;
+import com.projecttaskhub.task_service.entity.ProjectSnapshot;
+import com.projecttaskhub.task_service.entity.Task;
+import entity.Project;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+/**
+ * Jeux de données déterministes (graine fixe) proches de la production :
+ * titres et descriptions de longueur variable, champs optionnels parfois absents.
+ */
+final class BenchmarkData {
+
+    private static final LocalDateTime REFERENCE = LocalDateTime.of(2025, 6, 2, 9, 30, 15);
+    private static final TaskStatus[] TASK_STATUSES = TaskStatus.values();
+    private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+    private static final ProjectStatus[] PROJECT_STATUSES = ProjectStatus.values();
+
+    private BenchmarkData() {
+    }
+
+    static List<Task> tasks(int count) {
+        Random random = new Random(42);
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long projectId = 1 + random.nextInt(500);
+            tasks.add(Task.builder()
+                    .id(String.format("%024x", 0x65f1a2b3c4d5e6f7L + i))
+                    .title("Tâche " + i + " - " + words(random, 3 + random.nextInt(6)))
+                    .description(random.nextInt(4) == 0 ? null : words(random, 10 + random.nextInt(40)))
+                    .projectId(projectId)
+                    .project(new ProjectSnapshot("Projet " + projectId,
+                            PROJECT_STATUSES[random.nextInt(PROJECT_STATUSES.length)],
+                            1_717_320_615_000L + projectId))
+                    .status(TASK_STATUSES[random.nextInt(TASK_STATUSES.length)])
+                    .priority(PRIORITIES[random.nextInt(PRIORITIES.length)])
+                    .assignedTo(random.nextInt(5) == 0 ? null : "user" + random.nextInt(200))
+                    .dueDate(random.nextBoolean() ? null : REFERENCE.plusDays(random.nextInt(90)))
+                    .createdAt(REFERENCE.minusDays(random.nextInt(365)))
+                    .updatedAt(REFERENCE.minusHours(random.nextInt(500)))
+                    .build());
+        }
+        return tasks;
+    }
+
+    static List<Project> projects(int count) {
+        Random random = new Random(7);
+        List<Project> projects = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Project project = new Project();
+            project.setId((long) i + 1);
+            project.setName("Projet " + i + " - " + words(random, 2 + random.nextInt(4)));
+            project.setDescription(random.nextInt(3) == 0 ? null : words(random, 20 + random.nextInt(80)));
+            project.setStartDate(REFERENCE.minusDays(random.nextInt(365)));
+            project.setEndDate(random.nextBoolean() ? null : REFERENCE.plusDays(random.nextInt(365)));
+            project.setStatus(PROJECT_STATUSES[random.nextInt(PROJECT_STATUSES.length)]);
+            project.setOwner("user" + random.nextInt(200));
+            project.setCreatedAt(REFERENCE.minusDays(random.nextInt(400)));
+            project.setUpdatedAt(REFERENCE.minusHours(random.nextInt(500)));
+            projects.add(project);
+        }
+        return projects;
+    }
+
+    static TaskEvent taskEvent() {
+        return TaskEvent.builder()
+                .eventType("TASK_UPDATED")
+                .taskId("65f1a2b3c4d5e6f7a8b9c0d1")
+                .projectId(42L)
+                .taskTitle("Préparer la revue de sprint")
+                .status(TaskStatus.IN_PROGRESS)
+                .priority(TaskPriority.HIGH)
+                .assignedTo("user17")
+                .dueDate(REFERENCE.plusDays(3))
+                .eventData("Tâche mise à jour")
+                .timestamp(REFERENCE)
+                .build();
+    }
+
+    static ProjectEvent projectUpdatedEvent() {
+        ProjectEvent event = new ProjectEvent();
+        event.setEventType("PROJECT_UPDATED");
+        event.setProjectId(42L);
+        event.setProjectName("Refonte du portail client");
+        event.setStatus(ProjectStatus.IN_PROGRESS);
+        event.setVersion(ProjectEvent.versionOf(REFERENCE));
+        event.setEventData("Projet mis à jour");
+        event.setTimestamp(REFERENCE);
+        return event;
+    }
+
+    // PROJECT_CREATED groupé tel que publié par l'import en masse (un lot complet)
+    static ProjectEvent projectsImportedEvent(int count) {
+        ProjectEvent event = new ProjectEvent();
+        event.setEventType("PROJECT_CREATED");
+        event.setProjectIds(LongStream.rangeClosed(100_000, 100_000L + count - 1).boxed().toList());
+        event.setEventData(count + " projets importés");
+        event.setTimestamp(REFERENCE);
+        return event;
+    }
+
+    private static String words(Random random, int count) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            int length = 3 + random.nextInt(8);
+            for (int j = 0; j < length; j++) {
+                builder.append((char) ('a' + random.nextInt(26)));
+            }
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,70 @@
+package com.projecttaskhub.benchmarks;
+
+import com.projecttaskhub.shareddto.dto.ProjectDTO;
+import com.projecttaskhub.shareddto.dto.TaskDTO;
+import com.projecttaskhub.task_service.entity.Task;
+import com.projecttaskhub.task_service.mapper.TaskMapper;
+import entity.Project;
+import mapper.ProjectMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coût CPU des mappers MapStruct tels qu'appelés par les contrôleurs
+ * (une entité, une page, une liste complète).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class MappingBenchmark {
+
+    @Param({"1", "100", "10000"})
+    private int size;
+
+    private final TaskMapper taskMapper = Mappers.getMapper(TaskMapper.class);
+    private final ProjectMapper projectMapper = Mappers.getMapper(ProjectMapper.class);
+
+    private List<Task> tasks;
+    private List<Project> projects;
+
+    @Setup
+    public void setUp() {
+        tasks = BenchmarkData.tasks(size);
+        projects = BenchmarkData.projects(size);
+    }
+
+    @Benchmark
+    public List<TaskDTO> taskToDtoList() {
+        return taskMapper.toDtoList(tasks);
+    }
+
+    // Appels unitaires (ex. GET /tasks/{id} répété, handlers CQRS)
+    @Benchmark
+    public void taskToDto(Blackhole blackhole) {
+        for (Task task : tasks) {
+            blackhole.consume(taskMapper.toDto(task));
+        }
+    }
+
+    @Benchmark
+    public List<ProjectDTO> projectToDtoList() {
+        return projectMapper.toDtoList(projects);
+    }
+}
@@ -0,0 +1,80 @@
+package com.projecttaskhub.benchmarks;
+
+import com.projecttaskhub.shareddto.dto.TaskDTO;
+import com.projecttaskhub.task_service.cqrs.bus.CqrsBusProperties;
+import com.projecttaskhub.task_service.cqrs.bus.MessageBus;
+import com.projecttaskhub.task_service.cqrs.bus.MessageHandler;
+import com.projecttaskhub.task_service.cqrs.bus.MessageType;
+import com.projecttaskhub.task_service.cqrs.bus.Middleware;
+import com.projecttaskhub.task_service.cqrs.query.GetTaskByIdQuery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Surcoût d'aiguillage du MessageBus de task-service par rapport à un appel direct du handler :
+ * recherche dans la table des handlers, puis 0 à 3 middlewares sans effet.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class MessageBusBenchmark {
+
+    @Param({"0", "3"})
+    private int middlewares;
+
+    // Handler réduit au minimum : seul le coût d'aiguillage est mesuré
+    private final TaskDTO task = new TaskDTO();
+    private final MessageHandler<GetTaskByIdQuery, TaskDTO> handler = query -> task;
+    private final GetTaskByIdQuery query = GetTaskByIdQuery.builder().id("task-1").build();
+
+    private MessageBus bus;
+
+    @Setup
+    public void setUp() {
+        List<String> chain = Collections.nCopies(middlewares, "pass");
+        CqrsBusProperties properties = new CqrsBusProperties();
+        properties.setQueryMiddlewares(chain);
+        bus = new MessageBus(List.of(registry -> registry.query(GetTaskByIdQuery.class, handler)),
+                List.of(new PassThroughMiddleware()), properties);
+    }
+
+    @Benchmark
+    public TaskDTO direct() {
+        return handler.handle(query);
+    }
+
+    @Benchmark
+    public TaskDTO bus() {
+        return bus.query(query);
+    }
+
+    private static final class PassThroughMiddleware implements Middleware {
+
+        @Override
+        public String name() {
+            return "pass";
+        }
+
+        @Override
+        public MessageHandler<Object, Object> wrap(MessageType type, CqrsBusProperties.MessageSettings settings,
+                                                   MessageHandler<Object, Object> next) {
+            return message -> next.handle(message);
+        }
+    }
+}
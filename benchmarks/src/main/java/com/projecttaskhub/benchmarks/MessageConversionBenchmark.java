@@ -0,0 +1,84 @@
+package com.projecttaskhub.benchmarks;
+
+import com.projecttaskhub.shareddto.event.ProjectEvent;
+import com.projecttaskhub.shareddto.event.TaskEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion des événements RabbitMQ par Jackson2JsonMessageConverter, configuré comme
+ * dans les RabbitConfig des services (constructeur par défaut).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class MessageConversionBenchmark {
+
+    // Taille d'un lot de l'import en masse (ProjectImportService.CHUNK_SIZE)
+    private static final int IMPORT_CHUNK_SIZE = 1000;
+
+    private final Jackson2JsonMessageConverter converter = new Jackson2JsonMessageConverter();
+
+    private TaskEvent taskEvent;
+    private ProjectEvent projectEvent;
+    private ProjectEvent importEvent;
+    private Message taskMessage;
+    private Message projectMessage;
+    private Message importMessage;
+
+    @Setup
+    public void setUp() {
+        taskEvent = BenchmarkData.taskEvent();
+        projectEvent = BenchmarkData.projectUpdatedEvent();
+        importEvent = BenchmarkData.projectsImportedEvent(IMPORT_CHUNK_SIZE);
+        taskMessage = converter.toMessage(taskEvent, new MessageProperties());
+        projectMessage = converter.toMessage(projectEvent, new MessageProperties());
+        importMessage = converter.toMessage(importEvent, new MessageProperties());
+    }
+
+    @Benchmark
+    public Message taskEventToMessage() {
+        return converter.toMessage(taskEvent, new MessageProperties());
+    }
+
+    @Benchmark
+    public Object taskEventFromMessage() {
+        return converter.fromMessage(taskMessage);
+    }
+
+    @Benchmark
+    public Message projectEventToMessage() {
+        return converter.toMessage(projectEvent, new MessageProperties());
+    }
+
+    @Benchmark
+    public Object projectEventFromMessage() {
+        return converter.fromMessage(projectMessage);
+    }
+
+    @Benchmark
+    public Message projectsImportedEventToMessage() {
+        return converter.toMessage(importEvent, new MessageProperties());
+    }
+
+    @Benchmark
+    public Object projectsImportedEventFromMessage() {
+        return converter.fromMessage(importMessage);
+    }
+}
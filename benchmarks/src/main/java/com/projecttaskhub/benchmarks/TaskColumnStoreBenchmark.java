@@ -0,0 +1,112 @@
+package com.projecttaskhub.benchmarks;
+
+import com.projecttaskhub.shareddto.dto.TaskPriority;
+import com.projecttaskhub.shareddto.dto.TaskStatus;
+import com.projecttaskhub.task_service.eventstore.TaskState;
+import com.projecttaskhub.task_service.index.TaskColumnStore;
+import com.projecttaskhub.task_service.index.TaskFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filtres conjonctifs de l'index des tâches en mémoire (task-index) : comptages par bitmaps
+ * creux (projet, assigné), denses (statut, priorité) et fenêtre d'échéance, puis sélection
+ * d'IDs. Les comptages ne doivent rien allouer (gc.alloc.rate.norm).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class TaskColumnStoreBenchmark {
+
+    private static final int PROJECTS = 500;
+    private static final int ASSIGNEES = 2_000;
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 6, 9, 0);
+
+    @Param({"100000", "1000000"})
+    private int tasks;
+
+    private TaskColumnStore store;
+
+    private final TaskFilter projectOpen = TaskFilter.builder()
+            .projectId(42L)
+            .statuses(EnumSet.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS, TaskStatus.REVIEW))
+            .build();
+    private final TaskFilter assigneeDueSoon = TaskFilter.builder()
+            .assignedTo("user7")
+            .statuses(EnumSet.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS))
+            .dueFrom(START.plusDays(30))
+            .dueTo(START.plusDays(37))
+            .build();
+    private final TaskFilter projectAssigneeUrgent = TaskFilter.builder()
+            .projectId(42L)
+            .assignedTo("user7")
+            .priorities(EnumSet.of(TaskPriority.HIGH, TaskPriority.URGENT))
+            .build();
+    private final TaskFilter statusPriority = TaskFilter.builder()
+            .statuses(EnumSet.of(TaskStatus.REVIEW))
+            .priorities(EnumSet.of(TaskPriority.URGENT))
+            .build();
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        TaskStatus[] statuses = TaskStatus.values();
+        TaskPriority[] priorities = TaskPriority.values();
+        store = new TaskColumnStore(tasks);
+        for (int i = 0; i < tasks; i++) {
+            store.apply(TaskState.builder()
+                    .id("task-" + i)
+                    .projectId((long) random.nextInt(PROJECTS))
+                    .status(statuses[random.nextInt(statuses.length)])
+                    .priority(priorities[random.nextInt(priorities.length)])
+                    .assignedTo(random.nextInt(10) == 0 ? null : "user" + random.nextInt(ASSIGNEES))
+                    .dueDate(random.nextInt(4) == 0 ? null : START.plusHours(random.nextInt(24 * 180)))
+                    .sequence(1)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public long countProjectOpen() {
+        return store.count(projectOpen);
+    }
+
+    @Benchmark
+    public long countAssigneeDueSoon() {
+        return store.count(assigneeDueSoon);
+    }
+
+    @Benchmark
+    public long countProjectAssigneeUrgent() {
+        return store.count(projectAssigneeUrgent);
+    }
+
+    // Sans bitmap creux : parcours de tous les mots des bitmaps denses
+    @Benchmark
+    public long countStatusPriority() {
+        return store.count(statusPriority);
+    }
+
+    @Benchmark
+    public List<String> selectProjectOpen() {
+        return store.ids(projectOpen, 50);
+    }
+}
@@ -60,6 +60,26 @@ if [ -d "shared-dto" ]; then
         exit 1
     fi
     cd ..
+    # Briques communes (traces), embarquées par la gateway et les services
+    cd shared-infra
+    mvn clean install -DskipTests -q
+    if [ $? -eq 0 ]; then
+        echo "✅ shared-infra compilé avec succès"
+    else
+        echo "❌ Erreur lors de la compilation de shared-infra"
+        exit 1
+    fi
+    cd ..
+    # Doublures de test (émetteur JWT), requises par les tests de la gateway
+    cd test-support
+    mvn clean install -DskipTests -q
+    if [ $? -eq 0 ]; then
+        echo "✅ test-support compilé avec succès"
+    else
+        echo "❌ Erreur lors de la compilation de test-support"
+        exit 1
+    fi
+    cd ..
 else
     echo "⚠️  shared-dto non trouvé, création du module..."
     mkdir -p shared-dto/src/main/java/com/projecttaskhub/shared
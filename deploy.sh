@@ -92,6 +92,8 @@ check_jar_files() {
         if [ -d "shared-dto" ]; then
             log_info "Compilation de shared-dto..."
             cd shared-dto && mvn clean install -DskipTests -q && cd ..
+            cd shared-infra && mvn clean install -DskipTests -q && cd ..
+            cd test-support && mvn clean install -DskipTests -q && cd ..
         fi
         
         # Compiler les services manquants
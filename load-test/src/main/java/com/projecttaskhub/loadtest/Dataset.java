@@ -0,0 +1,92 @@
+package com.projecttaskhub.loadtest;
+
+import java.util.Random;
+import java.util.random.RandomGenerator;
+
+/**
+ * Modèle déterministe du jeu de données synthétique, partagé par le chargement (seed)
+ * et l'injection (run) : mêmes paramètres, mêmes IDs et mêmes popularités.
+ * <ul>
+ *     <li>projets : IDs 1..projects, popularité Zipf sur un ordre mélangé (les projets
+ *     chauds ne sont pas les premiers IDs) ;</li>
+ *     <li>utilisateurs : user1..userN, Zipf (propriétaires, assignations, auteurs des requêtes) ;</li>
+ *     <li>tâches : ObjectId dérivé de l'index, projet et assigné tirés selon Zipf.</li>
+ * </ul>
+ */
+final class Dataset {
+
+    private final int projects;
+    private final long tasks;
+    private final int users;
+    private final double exponent;
+    private final long seed;
+
+    private final long[] projectIdsByRank;
+    private final ZipfSampler projectPopularity;
+    private final ZipfSampler userActivity;
+
+    Dataset(int projects, long tasks, int users, double exponent, long seed) {
+        this.projects = projects;
+        this.tasks = tasks;
+        this.users = users;
+        this.exponent = exponent;
+        this.seed = seed;
+
+        this.projectIdsByRank = new long[projects];
+        for (int i = 0; i < projects; i++) {
+            projectIdsByRank[i] = i + 1L;
+        }
+        Random shuffle = new Random(seed);
+        for (int i = projects - 1; i > 0; i--) {
+            int j = shuffle.nextInt(i + 1);
+            long swap = projectIdsByRank[i];
+            projectIdsByRank[i] = projectIdsByRank[j];
+            projectIdsByRank[j] = swap;
+        }
+        this.projectPopularity = new ZipfSampler(projects, exponent);
+        this.userActivity = new ZipfSampler(users, exponent);
+    }
+
+    int projects() {
+        return projects;
+    }
+
+    long tasks() {
+        return tasks;
+    }
+
+    int users() {
+        return users;
+    }
+
+    long seed() {
+        return seed;
+    }
+
+    long sampleProjectId(RandomGenerator random) {
+        return projectIdsByRank[projectPopularity.sample(random)];
+    }
+
+    String sampleUser(RandomGenerator random) {
+        return user(userActivity.sample(random));
+    }
+
+    String user(int index) {
+        return "user" + (index + 1);
+    }
+
+    long sampleTaskIndex(RandomGenerator random) {
+        return random.nextLong(tasks);
+    }
+
+    // ObjectId valide (24 hexadécimaux) et stable pour un index donné
+    static String taskId(long index) {
+        return String.format("65%022x", index);
+    }
+
+    String describe() {
+        return String.format("%d projets, %d tâches, %d utilisateurs, Zipf s=%.2f (top 1%% des projets = %.0f%% des accès), graine %d",
+                projects, tasks, users, exponent,
+                projectPopularity.share(Math.max(1, projects / 100)) * 100, seed);
+    }
+}
@@ -0,0 +1,212 @@
+package com.projecttaskhub.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projecttaskhub.testsupport.StubJwtIssuer;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Injecteur de charge : N workers envoient les opérations du scénario et enregistrent
+ * les latences (µs) dans un histogramme HdrHistogram par endpoint.
+ * <p>
+ * Sans --rate, modèle fermé : chaque worker enchaîne les requêtes, le débit est celui que
+ * le système absorbe. Avec --rate, modèle ouvert : les requêtes ont des instants de départ
+ * prévus à intervalle fixe et la latence est mesurée depuis cet instant prévu, ce qui
+ * compte l'attente due à un service ralenti (correction de l'omission coordonnée).
+ * Les requêtes parties pendant l'échauffement ne sont pas enregistrées.
+ */
+final class LoadDriver {
+
+    // Latences jusqu'à 60 s, 3 chiffres significatifs
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.SECONDS.toMicros(60);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final Dataset dataset;
+    private final Scenario scenario;
+    private final int concurrency;
+    private final double rate;
+    private final Duration warmup;
+    private final Duration duration;
+    private final String taskBase;
+    private final String projectBase;
+    private final URI tokenUri;
+    private final long seed;
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, String> tokens = new ConcurrentHashMap<>();
+    private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+    private final Map<Operation, Map<String, LongAdder>> errors = new EnumMap<>(Operation.class);
+
+    LoadDriver(Dataset dataset, LoadTestOptions options) {
+        this.dataset = dataset;
+        this.scenario = Scenario.fromName(options.string("scenario", "mixed"));
+        this.concurrency = options.integer("concurrency", 32);
+        this.rate = options.decimal("rate", 0);
+        this.warmup = options.duration("warmup", Duration.ofSeconds(30));
+        this.duration = options.duration("duration", Duration.ofMinutes(2));
+        String gateway = options.string("gateway-url", null);
+        this.taskBase = gateway != null ? gateway + "/api" : options.string("task-url", "http://localhost:8082");
+        this.projectBase = gateway != null ? gateway + "/api" : options.string("project-url", "http://localhost:8081");
+        this.tokenUri = URI.create(options.string("token-uri",
+                "http://localhost:8180" + StubJwtIssuer.REALM_PATH + "/protocol/openid-connect/token"));
+        this.seed = dataset.seed() + 2;
+
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(Math.max(2, concurrency / 4)))
+                .build();
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new Recorder(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(operation, new ConcurrentHashMap<>());
+        }
+    }
+
+    LoadReport run() throws InterruptedException {
+        System.out.printf("Scénario %s, %d workers, %s, échauffement %ds, mesure %ds, cible %s / %s%n",
+                scenario, concurrency, rate > 0 ? String.format("%.0f req/s (modèle ouvert)", rate) : "modèle fermé",
+                warmup.toSeconds(), duration.toSeconds(), taskBase, projectBase);
+
+        long startNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100);
+        long measureFromNanos = startNanos + warmup.toNanos();
+        long endNanos = measureFromNanos + duration.toNanos();
+        long intervalNanos = rate > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / rate) : 0;
+        AtomicLong tickets = new AtomicLong();
+
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        SplittableRandom root = new SplittableRandom(seed);
+        for (int i = 0; i < concurrency; i++) {
+            SplittableRandom random = root.split();
+            workers.execute(() -> work(random, startNanos, measureFromNanos, endNanos, intervalNanos, tickets));
+        }
+        workers.shutdown();
+        if (!workers.awaitTermination(duration.plus(warmup).plus(REQUEST_TIMEOUT).toSeconds() + 10, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+        }
+
+        Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+        Map<Operation, Map<String, Long>> errorCounts = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, recorders.get(operation).getIntervalHistogram());
+            Map<String, Long> counts = new TreeMap<>();
+            errors.get(operation).forEach((status, count) -> counts.put(status, count.sum()));
+            errorCounts.put(operation, counts);
+        }
+        return new LoadReport(scenario, dataset.describe(), concurrency, rate, duration, histograms, errorCounts);
+    }
+
+    private void work(SplittableRandom random, long startNanos, long measureFromNanos, long endNanos,
+                      long intervalNanos, AtomicLong tickets) {
+        Operation.Context context = new Operation.Context(taskBase, projectBase, dataset, random);
+        while (true) {
+            long intendedStart;
+            if (intervalNanos > 0) {
+                intendedStart = startNanos + tickets.getAndIncrement() * intervalNanos;
+                if (intendedStart >= endNanos) {
+                    return;
+                }
+                long wait;
+                while ((wait = intendedStart - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+            } else {
+                intendedStart = Math.max(System.nanoTime(), startNanos);
+                if (intendedStart >= endNanos) {
+                    return;
+                }
+                long wait;
+                while ((wait = startNanos - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+            }
+            execute(context, scenario.next(random), intendedStart, intendedStart >= measureFromNanos);
+        }
+    }
+
+    private void execute(Operation.Context context, Operation operation, long intendedStart, boolean measured) {
+        String status;
+        try {
+            HttpRequest request = operation.request(context)
+                    .timeout(REQUEST_TIMEOUT)
+                    .header("Authorization", "Bearer " + token(dataset.sampleUser(context.random())))
+                    .build();
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            status = response.statusCode() < 400 ? null : String.valueOf(response.statusCode());
+        } catch (IOException e) {
+            status = e.getClass().getSimpleName();
+        } catch (IllegalStateException e) {
+            // Jeton indisponible : compté comme erreur, le worker continue
+            status = "token";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (!measured) {
+            return;
+        }
+        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStart);
+        recorders.get(operation).recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+        if (status != null) {
+            errors.get(operation).computeIfAbsent(status, key -> new LongAdder()).increment();
+        }
+    }
+
+    // Un jeton par utilisateur, obtenu une fois auprès de l'émetteur (grant password)
+    private String token(String username) {
+        return tokens.computeIfAbsent(username, this::requestToken);
+    }
+
+    private String requestToken(String username) {
+        String form = "grant_type=password&client_id=load-test&username="
+                + URLEncoder.encode(username, StandardCharsets.UTF_8) + "&password=load-test";
+        HttpRequest request = HttpRequest.newBuilder(tokenUri)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form))
+                .build();
+        try {
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Émetteur JWT: HTTP " + response.statusCode() + " pour " + username);
+            }
+            return objectMapper.readTree(response.body()).path("access_token").asText();
+        } catch (IOException e) {
+            throw new IllegalStateException("Émetteur JWT injoignable (" + tokenUri + ")", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Préchauffe le cache de jetons (utilisateurs les plus actifs d'abord) : échoue tôt si
+    // l'émetteur est absent et évite de mesurer ses temps de réponse
+    void prefetchTokens(int users) {
+        List<String> usernames = new ArrayList<>();
+        for (int i = 0; i < Math.min(users, dataset.users()); i++) {
+            usernames.add(dataset.user(i));
+        }
+        usernames.parallelStream().forEach(this::token);
+    }
+}
@@ -0,0 +1,136 @@
+package com.projecttaskhub.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Résultat d'un tir : débit, percentiles de latence et erreurs par endpoint.
+ * Affiché en tableau et écrit en JSON (comparaison entre tirs) ainsi qu'en fichiers .hgrm
+ * (distribution complète, lisible par le HdrHistogram plotter).
+ */
+final class LoadReport {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final Scenario scenario;
+    private final String dataset;
+    private final int concurrency;
+    private final double rate;
+    private final Duration duration;
+    private final Map<Operation, Histogram> histograms;
+    private final Map<Operation, Map<String, Long>> errors;
+
+    LoadReport(Scenario scenario, String dataset, int concurrency, double rate, Duration duration,
+               Map<Operation, Histogram> histograms, Map<Operation, Map<String, Long>> errors) {
+        this.scenario = scenario;
+        this.dataset = dataset;
+        this.concurrency = concurrency;
+        this.rate = rate;
+        this.duration = duration;
+        this.histograms = histograms;
+        this.errors = errors;
+    }
+
+    void print(PrintStream out) {
+        double seconds = duration.toMillis() / 1000.0;
+        out.printf("%n%-32s %9s %9s %9s %9s %9s %9s %9s %8s%n",
+                "Endpoint", "Requêtes", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "Erreurs");
+
+        Histogram total = new Histogram(3);
+        long totalErrors = 0;
+        for (Map.Entry<Operation, Histogram> entry : histograms.entrySet()) {
+            Histogram histogram = entry.getValue();
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            total.add(histogram);
+            long errorCount = errorCount(entry.getKey());
+            totalErrors += errorCount;
+            printRow(out, entry.getKey().label(), histogram, seconds, errorCount);
+        }
+        printRow(out, "TOTAL", total, seconds, totalErrors);
+
+        errors.forEach((operation, byStatus) -> {
+            if (!byStatus.isEmpty()) {
+                out.printf("  %s : %s%n", operation.label(), byStatus);
+            }
+        });
+    }
+
+    void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("timestamp", Instant.now().toString());
+        report.put("scenario", scenario.name());
+        report.put("dataset", dataset);
+        report.put("concurrency", concurrency);
+        report.put("targetRate", rate > 0 ? rate : null);
+        report.put("durationSeconds", duration.toSeconds());
+
+        List<Map<String, Object>> endpoints = new ArrayList<>();
+        for (Map.Entry<Operation, Histogram> entry : histograms.entrySet()) {
+            Histogram histogram = entry.getValue();
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            Map<String, Object> endpoint = new LinkedHashMap<>();
+            endpoint.put("endpoint", entry.getKey().label());
+            endpoint.put("requests", histogram.getTotalCount());
+            endpoint.put("throughput", histogram.getTotalCount() / (duration.toMillis() / 1000.0));
+            Map<String, Double> latencies = new LinkedHashMap<>();
+            for (double percentile : PERCENTILES) {
+                latencies.put("p" + percentile, millis(histogram.getValueAtPercentile(percentile)));
+            }
+            latencies.put("max", millis(histogram.getMaxValue()));
+            latencies.put("mean", histogram.getMean() / 1000.0);
+            endpoint.put("latencyMs", latencies);
+            endpoint.put("errors", errors.get(entry.getKey()));
+            endpoints.add(endpoint);
+
+            try (PrintStream hgrm = new PrintStream(
+                    directory.resolve(entry.getKey().name().toLowerCase() + ".hgrm").toFile())) {
+                // Valeurs en µs, distribution exprimée en ms
+                histogram.outputPercentileDistribution(hgrm, 1000.0);
+            }
+        }
+        report.put("endpoints", endpoints);
+
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(directory.resolve("load-test-report.json").toFile(), report);
+        System.out.println("Rapport écrit dans " + directory.toAbsolutePath());
+    }
+
+    private long errorCount(Operation operation) {
+        return errors.get(operation).values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    private static void printRow(PrintStream out, String label, Histogram histogram, double seconds, long errorCount) {
+        out.printf("%-32s %9d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f %8d%n",
+                label,
+                histogram.getTotalCount(),
+                histogram.getTotalCount() / seconds,
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()),
+                errorCount);
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,70 @@
+package com.projecttaskhub.loadtest;
+
+import com.projecttaskhub.testsupport.StubJwtIssuer;
+
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Point d'entrée du test de charge.
+ * <pre>
+ * issuer                 émetteur JWT de substitution sur :8180 (à lancer avant les services)
+ * seed [--projects=..]   charge le jeu de données dans Postgres et MongoDB
+ * run  [--scenario=..]   injecte la charge et écrit le rapport dans target/load-test
+ * </pre>
+ * Voir la section « Tests de charge » du README pour l'enchaînement complet.
+ */
+public final class LoadTestMain {
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            usage();
+            System.exit(2);
+        }
+        LoadTestOptions options = LoadTestOptions.parse(args, 1);
+        switch (args[0]) {
+            case "issuer" -> issuer(options);
+            case "seed" -> new DatasetGenerator(options.dataset(), options).generate();
+            case "run" -> run(options);
+            default -> {
+                usage();
+                System.exit(2);
+            }
+        }
+    }
+
+    private static void issuer(LoadTestOptions options) throws Exception {
+        StubJwtIssuer issuer = new StubJwtIssuer(options.integer("port", 8180));
+        Runtime.getRuntime().addShutdownHook(new Thread(issuer::close));
+        issuer.start();
+        new CountDownLatch(1).await();
+    }
+
+    private static void run(LoadTestOptions options) throws Exception {
+        Dataset dataset = options.dataset();
+        System.out.println("Jeu de données : " + dataset.describe());
+
+        LoadDriver driver = new LoadDriver(dataset, options);
+        driver.prefetchTokens(options.integer("prefetch-users", 1_000));
+        LoadReport report = driver.run();
+
+        report.print(System.out);
+        report.write(Path.of(options.string("output", "target/load-test")));
+        System.exit(0);
+    }
+
+    private static void usage() {
+        System.err.println("""
+                Usage: LoadTestMain <issuer|seed|run> [--option=valeur ...]
+                  issuer  --port=8180
+                  seed    --projects=20000 --tasks=2000000 --users=5000 --zipf=1.1 --seed=42
+                          --postgres-url=.. --postgres-user=.. --postgres-password=.. --mongo-uri=.. --mongo-database=taskdb
+                  run     --scenario=read-heavy|mixed|write-heavy --concurrency=32 --rate=<req/s>
+                          --warmup=30s --duration=2m --task-url=http://localhost:8082 --project-url=http://localhost:8081
+                          --gateway-url=http://localhost:8080 --token-uri=.. --output=target/load-test
+                          (mêmes --projects/--tasks/--users/--zipf/--seed que pour seed)""");
+    }
+}
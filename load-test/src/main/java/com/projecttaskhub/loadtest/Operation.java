@@ -0,0 +1,133 @@
+package com.projecttaskhub.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * Requêtes unitaires du test de charge, une par endpoint mesuré. Le libellé sert de clé
+ * aux histogrammes : les variables de chemin n'y figurent pas.
+ */
+enum Operation {
+
+    GET_TASK("GET /tasks/{id}") {
+        @Override
+        HttpRequest.Builder request(Context context) {
+            return get(context.taskBase(), "/tasks/" + Dataset.taskId(context.dataset().sampleTaskIndex(context.random())));
+        }
+    },
+    TASKS_BY_PROJECT("GET /tasks/project/{id}") {
+        @Override
+        HttpRequest.Builder request(Context context) {
+            return get(context.taskBase(), "/tasks/project/" + context.dataset().sampleProjectId(context.random()));
+        }
+    },
+    COUNT_TASKS_BY_PROJECT("GET /tasks/project/{id}/count") {
+        @Override
+        HttpRequest.Builder request(Context context) {
+            return get(context.taskBase(), "/tasks/project/" + context.dataset().sampleProjectId(context.random()) + "/count");
+        }
+    },
+    MY_TASKS("GET /tasks/my-tasks") {
+        @Override
+        HttpRequest.Builder request(Context context) {
+            return get(context.taskBase(), "/tasks/my-tasks");
+        }
+    },
+    CREATE_TASK("POST /tasks") {
+        @Override
+        HttpRequest.Builder request(Context context) {
+            RandomGenerator random = context.random();
+            Map<String, Object> command = new LinkedHashMap<>();
+            command.put("title", "Tâche de charge " + Long.toHexString(random.nextLong()));
+            command.put("description", "Créée par le test de charge");
+            command.put("projectId", context.dataset().sampleProjectId(random));
+            command.put("status", "TODO");
+            command.put("priority", PRIORITIES[random.nextInt(PRIORITIES.length)]);
+            command.put("assignedTo", context.dataset().sampleUser(random));
+            command.put("dueDate", LocalDateTime.now().plusDays(1 + random.nextInt(60)).withNano(0));
+            return json(context.taskBase(), "/tasks", "POST", command);
+        }
+    },
+    UPDATE_TASK("PUT /tasks/{id}") {
+        @Override
+        HttpRequest.Builder request(Context context) {
+            RandomGenerator random = context.random();
+            long index = context.dataset().sampleTaskIndex(random);
+            Map<String, Object> command = new LinkedHashMap<>();
+            command.put("title", "Tâche " + index + " (modifiée)");
+            command.put("status", STATUSES[random.nextInt(STATUSES.length)]);
+            command.put("priority", PRIORITIES[random.nextInt(PRIORITIES.length)]);
+            return json(context.taskBase(), "/tasks/" + Dataset.taskId(index), "PUT", command);
+        }
+    },
+    GET_PROJECT("GET /projects/{id}") {
+        @Override
+        HttpRequest.Builder request(Context context) {
+            return get(context.projectBase(), "/projects/" + context.dataset().sampleProjectId(context.random()));
+        }
+    },
+    MY_PROJECTS("GET /projects/my-projects") {
+        @Override
+        HttpRequest.Builder request(Context context) {
+            return get(context.projectBase(), "/projects/my-projects?view=summary");
+        }
+    },
+    SEARCH_PROJECTS("GET /projects/search") {
+        @Override
+        HttpRequest.Builder request(Context context) {
+            String query = "Projet " + context.dataset().sampleProjectId(context.random());
+            return get(context.projectBase(), "/projects/search?view=summary&name="
+                    + URLEncoder.encode(query, StandardCharsets.UTF_8));
+        }
+    };
+
+    private static final String[] STATUSES = {"TODO", "IN_PROGRESS", "REVIEW", "DONE"};
+    private static final String[] PRIORITIES = {"LOW", "MEDIUM", "HIGH", "URGENT"};
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final String label;
+
+    Operation(String label) {
+        this.label = label;
+    }
+
+    String label() {
+        return label;
+    }
+
+    abstract HttpRequest.Builder request(Context context);
+
+    private static HttpRequest.Builder get(String base, String path) {
+        return HttpRequest.newBuilder(URI.create(base + path)).GET();
+    }
+
+    private static HttpRequest.Builder json(String base, String path, String method, Map<String, Object> body) {
+        try {
+            return HttpRequest.newBuilder(URI.create(base + path))
+                    .header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofByteArray(OBJECT_MAPPER.writeValueAsBytes(body)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Paramètres d'une requête : URL de base des services sans « / » final (directes ou via
+     * la gateway, ex. http://localhost:8080/api), jeu de données et générateur du worker courant.
+     */
+    record Context(String taskBase, String projectBase, Dataset dataset, RandomGenerator random) {
+    }
+}
@@ -0,0 +1,70 @@
+package com.projecttaskhub.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * Mélanges pondérés d'opérations. Les poids sont relatifs (pas forcément sur 100).
+ */
+enum Scenario {
+
+    READ_HEAVY(Map.of(
+            Operation.GET_TASK, 35,
+            Operation.TASKS_BY_PROJECT, 10,
+            Operation.COUNT_TASKS_BY_PROJECT, 10,
+            Operation.MY_TASKS, 10,
+            Operation.GET_PROJECT, 20,
+            Operation.MY_PROJECTS, 5,
+            Operation.SEARCH_PROJECTS, 5,
+            Operation.CREATE_TASK, 3,
+            Operation.UPDATE_TASK, 2)),
+
+    MIXED(Map.of(
+            Operation.GET_TASK, 25,
+            Operation.TASKS_BY_PROJECT, 10,
+            Operation.COUNT_TASKS_BY_PROJECT, 5,
+            Operation.MY_TASKS, 10,
+            Operation.GET_PROJECT, 15,
+            Operation.MY_PROJECTS, 5,
+            Operation.SEARCH_PROJECTS, 5,
+            Operation.CREATE_TASK, 15,
+            Operation.UPDATE_TASK, 10)),
+
+    WRITE_HEAVY(Map.of(
+            Operation.GET_TASK, 15,
+            Operation.TASKS_BY_PROJECT, 5,
+            Operation.MY_TASKS, 5,
+            Operation.GET_PROJECT, 10,
+            Operation.CREATE_TASK, 40,
+            Operation.UPDATE_TASK, 25));
+
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+
+    Scenario(Map<Operation, Integer> weights) {
+        // EnumMap : ordre stable, donc tirages reproductibles pour une graine donnée
+        Map<Operation, Integer> ordered = new EnumMap<>(weights);
+        this.operations = ordered.keySet().toArray(Operation[]::new);
+        this.cumulativeWeights = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += ordered.get(operations[i]);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    Operation next(RandomGenerator random) {
+        int draw = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (draw < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    static Scenario fromName(String name) {
+        return valueOf(name.trim().toUpperCase().replace('-', '_'));
+    }
+}
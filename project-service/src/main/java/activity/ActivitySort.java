@@ -0,0 +1,17 @@
+package activity;
+
+// Tris proposés par /projects/activity, chacun servi par un index de project_activity
+public enum ActivitySort {
+    LAST_ACTIVITY("pa.last_activity_at DESC, pa.project_id"),
+    OVERDUE("pa.overdue_tasks DESC, pa.project_id");
+
+    private final String orderBy;
+
+    ActivitySort(String orderBy) {
+        this.orderBy = orderBy;
+    }
+
+    String orderBy() {
+        return orderBy;
+    }
+}
@@ -0,0 +1,74 @@
+package activity;
+
+import com.projecttaskhub.shareddto.dto.ProjectActivityDTO;
+import com.projecttaskhub.shareddto.event.TaskEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Projection de l'activité des tâches par projet : compteurs ouvertes / terminées /
+ * en retard et date de dernière activité, tenus à jour à partir des événements de task-service.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProjectActivityService {
+
+    private static final int MAX_LIMIT = 500;
+
+    private final ProjectActivityStore store;
+
+    // Borne basse de la prochaine recherche de tâches passées en retard (tout revoir au démarrage)
+    private volatile LocalDateTime overdueCheckedUntil = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    @Transactional
+    public void applyTaskEvents(List<TaskEvent> events) {
+        // Seul le dernier événement de chaque tâche compte dans un lot
+        Collection<TaskEvent> latest = events.stream()
+                .filter(event -> event.getTaskId() != null && event.getProjectId() != null)
+                .map(event -> event.getTimestamp() != null ? event : withTimestamp(event))
+                .collect(Collectors.toMap(TaskEvent::getTaskId, Function.identity(),
+                        (a, b) -> a.getTimestamp().isAfter(b.getTimestamp()) ? a : b))
+                .values();
+        if (latest.isEmpty()) {
+            return;
+        }
+
+        Set<Long> projectIds = store.upsertTasks(latest);
+        store.refreshProjects(projectIds);
+        log.debug("{} événements de tâches appliqués, {} projets recalculés", events.size(), projectIds.size());
+    }
+
+    // Le retard dépend du temps qui passe : recalcule les projets dont une échéance vient d'être franchie
+    @Scheduled(fixedDelayString = "${project-activity.overdue-refresh-interval-ms:60000}")
+    @Transactional
+    public void refreshOverdue() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> projectIds = store.findProjectsNewlyOverdue(overdueCheckedUntil);
+        store.refreshProjects(projectIds);
+        overdueCheckedUntil = now;
+        if (!projectIds.isEmpty()) {
+            log.info("Retards recalculés pour {} projets", projectIds.size());
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<ProjectActivityDTO> getActivity(String owner, int minOverdue, ActivitySort sort, int limit) {
+        return store.findActivity(owner, Math.max(minOverdue, 0), sort, Math.min(Math.max(limit, 1), MAX_LIMIT));
+    }
+
+    private static TaskEvent withTimestamp(TaskEvent event) {
+        event.setTimestamp(LocalDateTime.now());
+        return event;
+    }
+}
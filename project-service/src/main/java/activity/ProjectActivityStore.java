@@ -0,0 +1,141 @@
+package activity;
+
+import com.projecttaskhub.shareddto.dto.ProjectActivityDTO;
+import com.projecttaskhub.shareddto.dto.ProjectStatus;
+import com.projecttaskhub.shareddto.event.TaskEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Accès JDBC aux tables task_activity (dernier état connu de chaque tâche)
+ * et project_activity (agrégats par projet, recalculés à partir de task_activity).
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProjectActivityStore {
+
+    // Un événement plus ancien que l'état enregistré (livraison désordonnée, rejeu) est ignoré
+    private static final String UPSERT_TASK = """
+            INSERT INTO task_activity (task_id, project_id, status, due_date, deleted, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON CONFLICT (task_id) DO UPDATE SET
+                project_id = EXCLUDED.project_id,
+                status = EXCLUDED.status,
+                due_date = EXCLUDED.due_date,
+                deleted = EXCLUDED.deleted,
+                updated_at = EXCLUDED.updated_at
+            WHERE task_activity.updated_at <= EXCLUDED.updated_at
+            """;
+
+    private static final String OPEN_TASK = "NOT deleted AND status NOT IN ('DONE', 'CANCELLED')";
+
+    // Recalcul complet des projets touchés : idempotent, indépendant de l'ordre des événements
+    private static final String REFRESH_PROJECTS = """
+            INSERT INTO project_activity (project_id, open_tasks, done_tasks, overdue_tasks, last_activity_at)
+            SELECT project_id,
+                   count(*) FILTER (WHERE %1$s),
+                   count(*) FILTER (WHERE NOT deleted AND status = 'DONE'),
+                   count(*) FILTER (WHERE %1$s AND due_date < localtimestamp),
+                   max(updated_at)
+            FROM task_activity
+            WHERE project_id = ANY (?)
+            GROUP BY project_id
+            ON CONFLICT (project_id) DO UPDATE SET
+                open_tasks = EXCLUDED.open_tasks,
+                done_tasks = EXCLUDED.done_tasks,
+                overdue_tasks = EXCLUDED.overdue_tasks,
+                last_activity_at = EXCLUDED.last_activity_at
+            """.formatted(OPEN_TASK);
+
+    private static final String PROJECTS_WITH_TASKS = "SELECT DISTINCT project_id FROM task_activity WHERE task_id = ANY (?)";
+
+    // Servie par l'index partiel idx_task_activity_open_due
+    private static final String PROJECTS_NEWLY_OVERDUE = """
+            SELECT DISTINCT project_id FROM task_activity
+            WHERE %s AND due_date >= ? AND due_date < localtimestamp
+            """.formatted(OPEN_TASK);
+
+    private static final String SELECT_ACTIVITY = """
+            SELECT p.id, p.name, p.status, p.owner,
+                   pa.open_tasks, pa.done_tasks, pa.overdue_tasks, pa.last_activity_at
+            FROM project_activity pa
+            JOIN projects p ON p.id = pa.project_id
+            WHERE (CAST(? AS VARCHAR) IS NULL OR p.owner = ?)
+              AND pa.overdue_tasks >= ?
+            ORDER BY %s
+            LIMIT ?
+            """;
+
+    private static final RowMapper<ProjectActivityDTO> ACTIVITY_MAPPER = (rs, rowNum) -> new ProjectActivityDTO(
+            rs.getLong("id"),
+            rs.getString("name"),
+            ProjectStatus.valueOf(rs.getString("status")),
+            rs.getString("owner"),
+            rs.getLong("open_tasks"),
+            rs.getLong("done_tasks"),
+            rs.getLong("overdue_tasks"),
+            toLocalDateTime(rs.getTimestamp("last_activity_at")));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Enregistre l'état des tâches (un événement par tâche) et renvoie les projets à recalculer,
+     * y compris le projet d'origine d'une tâche déplacée.
+     */
+    public Set<Long> upsertTasks(Collection<TaskEvent> events) {
+        Set<Long> projectIds = new HashSet<>(findProjectIds(events.stream().map(TaskEvent::getTaskId).toList()));
+
+        List<Object[]> rows = new ArrayList<>(events.size());
+        for (TaskEvent event : events) {
+            rows.add(new Object[]{
+                    event.getTaskId(),
+                    event.getProjectId(),
+                    event.getStatus() == null ? null : event.getStatus().name(),
+                    event.getDueDate() == null ? null : Timestamp.valueOf(event.getDueDate()),
+                    "TASK_DELETED".equals(event.getEventType()),
+                    Timestamp.valueOf(event.getTimestamp())
+            });
+            projectIds.add(event.getProjectId());
+        }
+        jdbcTemplate.batchUpdate(UPSERT_TASK, rows);
+        return projectIds;
+    }
+
+    public int refreshProjects(Collection<Long> projectIds) {
+        if (projectIds.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update(REFRESH_PROJECTS, ps -> ps.setArray(1, ps.getConnection()
+                .createArrayOf("bigint", projectIds.toArray())));
+    }
+
+    // Projets dont une tâche ouverte a dépassé son échéance depuis `since`
+    public List<Long> findProjectsNewlyOverdue(LocalDateTime since) {
+        return jdbcTemplate.queryForList(PROJECTS_NEWLY_OVERDUE, Long.class, Timestamp.valueOf(since));
+    }
+
+    public List<ProjectActivityDTO> findActivity(String owner, int minOverdue, ActivitySort sort, int limit) {
+        return jdbcTemplate.query(SELECT_ACTIVITY.formatted(sort.orderBy()), ACTIVITY_MAPPER,
+                owner, owner, minOverdue, limit);
+    }
+
+    private List<Long> findProjectIds(List<String> taskIds) {
+        return jdbcTemplate.query(PROJECTS_WITH_TASKS,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("varchar", taskIds.toArray())),
+                (rs, rowNum) -> rs.getLong(1));
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+}
@@ -0,0 +1,75 @@
+package activity;
+
+import com.projecttaskhub.shareddto.event.TaskEvent;
+import io.micrometer.tracing.Link;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.TraceContext;
+import io.micrometer.tracing.Tracer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.messaging.Message;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TaskEventListener {
+
+    private static final String TRACEPARENT = "traceparent";
+
+    private final ProjectActivityService projectActivityService;
+    private final Tracer tracer;
+
+    // Lots de messages (voir RabbitConfig.taskEventBatchContainerFactory) : une transaction par lot
+    @RabbitListener(queues = "task.events.queue", containerFactory = "taskEventBatchContainerFactory")
+    public void handleTaskEvents(List<Message<TaskEvent>> messages) {
+        log.debug("Lot de {} événements de tâches reçu", messages.size());
+        List<TaskEvent> events = messages.stream().map(Message::getPayload).toList();
+
+        Span span = batchSpan(messages);
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+            projectActivityService.applyTaskEvents(events);
+        } catch (RuntimeException e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    // Un lot sert plusieurs traces : span racine relié au span producteur de chaque message
+    private Span batchSpan(List<Message<TaskEvent>> messages) {
+        Span.Builder builder = tracer.spanBuilder()
+                .name("task.events.queue receive")
+                .kind(Span.Kind.CONSUMER)
+                .tag("messaging.system", "rabbitmq")
+                .tag("messaging.destination.name", "task.events.queue")
+                .tag("messaging.batch.message_count", String.valueOf(messages.size()));
+        for (Message<TaskEvent> message : messages) {
+            TraceContext producer = producerContext(message);
+            if (producer != null) {
+                builder.addLink(new Link(producer));
+            }
+        }
+        return builder.start();
+    }
+
+    // En-tête W3C « 00-<traceId>-<spanId>-<flags> » posé par le RabbitTemplate de task-service
+    private TraceContext producerContext(Message<TaskEvent> message) {
+        if (!(message.getHeaders().get(TRACEPARENT) instanceof String traceparent)) {
+            return null;
+        }
+        String[] parts = traceparent.split("-");
+        if (parts.length != 4 || parts[1].length() != 32 || parts[2].length() != 16) {
+            return null;
+        }
+        return tracer.traceContextBuilder()
+                .traceId(parts[1])
+                .spanId(parts[2])
+                .sampled("01".equals(parts[3]))
+                .build();
+    }
+}
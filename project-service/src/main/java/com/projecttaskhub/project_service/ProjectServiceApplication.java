@@ -2,12 +2,21 @@ package com.projecttaskhub.project_service;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
-@SpringBootApplication
+@SpringBootApplication(scanBasePackages = {
+		"com.projecttaskhub.project_service", "activity", "config", "controller", "discovery",
+		"exception", "mapper", "routing", "service"
+})
+@EnableJpaRepositories(basePackages = "repository")
+@EntityScan(basePackages = "entity")
 @EnableDiscoveryClient
 @EnableFeignClients
+@EnableScheduling
 public class ProjectServiceApplication {
 
 	public static void main(String[] args) {
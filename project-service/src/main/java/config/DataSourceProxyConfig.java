@@ -0,0 +1,49 @@
+package config;
+
+import io.micrometer.observation.ObservationRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import net.ttddyy.observation.tracing.DataSourceObservationListener;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Enveloppe la DataSource principale dans un proxy datasource-proxy : journal des
+ * requêtes lentes et comptage des requêtes par thread (QueryCountHolder, utilisé
+ * par les tests pour borner le nombre de requêtes d'un appel) et spans JDBC
+ * (connexion, requête, result set) rattachés à la requête HTTP ou au message en cours.
+ */
+@Configuration
+public class DataSourceProxyConfig {
+
+    @Bean
+    public static BeanPostProcessor dataSourceProxyPostProcessor(
+            @Value("${query-log.slow-threshold-ms:200}") long slowThresholdMillis,
+            ObjectProvider<ObservationRegistry> observationRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // Seule la DataSource injectée partout est enveloppée (pas les pools sous-jacents)
+                if (bean instanceof DataSource dataSource && "dataSource".equals(beanName)
+                        && !(bean instanceof ProxyDataSource)) {
+                    // Registre résolu au premier appel : le post-processeur est créé avant lui
+                    DataSourceObservationListener observationListener =
+                            new DataSourceObservationListener(observationRegistry::getObject);
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name("projectdb")
+                            .listener(new SlowQueryLogListener(slowThresholdMillis))
+                            .listener(observationListener)
+                            .methodListener(observationListener)
+                            .countQuery()
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
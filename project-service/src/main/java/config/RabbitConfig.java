@@ -1,10 +1,14 @@
 package config;
 
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
 import org.springframework.amqp.core.*;
 import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.config.RetryInterceptorBuilder;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.retry.MessageBatchRecoverer;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -29,6 +33,35 @@ public class RabbitConfig {
                 .with("project.events");
     }
 
+    // Événements de tâches publiés par task-service (déclarés aussi de son côté)
+    @Bean
+    public TopicExchange taskExchange() {
+        return new TopicExchange("task.exchange");
+    }
+
+    // Arguments identiques dans task-service : une déclaration divergente est refusée par le broker
+    @Bean
+    public Queue taskEventQueue() {
+        return QueueBuilder.durable("task.events.queue")
+                .deadLetterExchange("")
+                .deadLetterRoutingKey("task.events.dlq")
+                .build();
+    }
+
+    // Lots rejetés après max-attempts essais, à inspecter puis republier à la main
+    @Bean
+    public Queue taskEventDeadLetterQueue() {
+        return QueueBuilder.durable("task.events.dlq").build();
+    }
+
+    @Bean
+    public Binding taskEventBinding() {
+        return BindingBuilder
+                .bind(taskEventQueue())
+                .to(taskExchange())
+                .with("task.events");
+    }
+
     @Bean
     public Jackson2JsonMessageConverter messageConverter() {
         return new Jackson2JsonMessageConverter();
@@ -38,6 +71,8 @@ public class RabbitConfig {
     public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory) {
         RabbitTemplate template = new RabbitTemplate(connectionFactory);
         template.setMessageConverter(messageConverter());
+        // Span producteur et en-tête traceparent sur chaque message publié
+        template.setObservationEnabled(true);
         return template;
     }
 
@@ -47,6 +82,38 @@ public class RabbitConfig {
         SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
         factory.setConnectionFactory(connectionFactory);
         factory.setMessageConverter(messageConverter());
+        // Span consommateur rattaché à la trace du producteur
+        factory.setObservationEnabled(true);
+        return factory;
+    }
+
+    // Livraison par lots : le listener reçoit jusqu'à batch-size messages à la fois.
+    // Pas d'observation par message en mode lot : TaskEventListener ouvre un span par lot.
+    // Un lot en échec est rejoué max-attempts fois puis rejeté sans remise en file : il part
+    // dans task.events.dlq au lieu de boucler sur un événement invalide
+    @Bean
+    public SimpleRabbitListenerContainerFactory taskEventBatchContainerFactory(
+            ConnectionFactory connectionFactory,
+            @Value("${project-activity.batch-size:200}") int batchSize,
+            @Value("${project-activity.receive-timeout-ms:500}") long receiveTimeout,
+            @Value("${project-activity.max-attempts:3}") int maxAttempts) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setMessageConverter(messageConverter());
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setPrefetchCount(batchSize);
+        factory.setReceiveTimeout(receiveTimeout);
+        factory.setDefaultRequeueRejected(false);
+        factory.setAdviceChain(RetryInterceptorBuilder.stateless()
+                .maxAttempts(maxAttempts)
+                .backOffOptions(500, 2.0, 5000)
+                .recoverer((MessageBatchRecoverer) (messages, cause) -> {
+                    throw new AmqpRejectAndDontRequeueException(
+                            "Lot de " + messages.size() + " événements de tâches rejeté", cause);
+                })
+                .build());
         return factory;
     }
 }
\ No newline at end of file
@@ -0,0 +1,62 @@
+package config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Objets de schéma que ddl-auto ne sait pas créer (extensions, index spécialisés).
+ * Exécuté au démarrage, après la mise à jour du schéma par Hibernate et avant le
+ * démarrage des listeners et tâches planifiées ; chaque instruction est idempotente.
+ * Les séquences, elles, sont alignées avant Hibernate ({@link SequenceInitializer}).
+ * Garder scripts/init-postgres.sh aligné.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SchemaInitializer implements SmartInitializingSingleton {
+
+    public static final List<String> STATEMENTS = List.of(
+            // Recherche par sous-chaîne et approximative sur le nom (ILIKE '%...%' et opérateur %)
+            "CREATE EXTENSION IF NOT EXISTS pg_trgm",
+            "CREATE INDEX IF NOT EXISTS idx_projects_name_trgm ON projects USING gin (name gin_trgm_ops)",
+            // Projection de l'activité des tâches (alimentée par task.events.queue)
+            """
+            CREATE TABLE IF NOT EXISTS task_activity (
+                task_id VARCHAR(64) PRIMARY KEY,
+                project_id BIGINT NOT NULL,
+                status VARCHAR(50),
+                due_date TIMESTAMP,
+                deleted BOOLEAN NOT NULL DEFAULT FALSE,
+                updated_at TIMESTAMP NOT NULL
+            )""",
+            "CREATE INDEX IF NOT EXISTS idx_task_activity_project ON task_activity (project_id)",
+            "CREATE INDEX IF NOT EXISTS idx_task_activity_open_due ON task_activity (due_date)"
+                    + " WHERE NOT deleted AND status NOT IN ('DONE', 'CANCELLED')",
+            """
+            CREATE TABLE IF NOT EXISTS project_activity (
+                project_id BIGINT PRIMARY KEY,
+                open_tasks INTEGER NOT NULL DEFAULT 0,
+                done_tasks INTEGER NOT NULL DEFAULT 0,
+                overdue_tasks INTEGER NOT NULL DEFAULT 0,
+                last_activity_at TIMESTAMP
+            )""",
+            "CREATE INDEX IF NOT EXISTS idx_project_activity_last ON project_activity (last_activity_at DESC, project_id)",
+            "CREATE INDEX IF NOT EXISTS idx_project_activity_overdue ON project_activity (overdue_tasks DESC, project_id)"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (String statement : STATEMENTS) {
+            log.debug("Initialisation du schéma: {}", statement);
+            jdbcTemplate.execute(statement);
+        }
+        log.info("Schéma projectdb initialisé ({} instructions)", STATEMENTS.size());
+    }
+}
@@ -0,0 +1,50 @@
+package config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Aligne l'incrément des séquences existantes sur l'allocationSize des entités. Exécuté
+ * avant la construction de l'EntityManagerFactory : Hibernate refuse de démarrer sur une
+ * séquence dont l'incrément diffère (increment_size_mismatch_strategy=EXCEPTION), ce qui
+ * est le cas de toute base créée avec BIGSERIAL. Garder scripts/init-postgres.sh aligné.
+ */
+@Component(SequenceInitializer.BEAN_NAME)
+@RequiredArgsConstructor
+@Slf4j
+public class SequenceInitializer implements InitializingBean {
+
+    static final String BEAN_NAME = "sequenceInitializer";
+
+    public static final List<String> STATEMENTS = List.of(
+            // La séquence créée par BIGSERIAL avance de 1 : l'aligner sur allocationSize de Project
+            "ALTER SEQUENCE IF EXISTS projects_id_seq INCREMENT BY 50"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        for (String statement : STATEMENTS) {
+            log.debug("Initialisation des séquences: {}", statement);
+            jdbcTemplate.execute(statement);
+        }
+    }
+
+    /**
+     * Fait dépendre l'EntityManagerFactory de {@link SequenceInitializer}.
+     */
+    @Component
+    static class EntityManagerFactoryDependency extends EntityManagerFactoryDependsOnPostProcessor {
+
+        EntityManagerFactoryDependency() {
+            super(BEAN_NAME);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package config;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Journalise les requêtes plus lentes que le seuil avec la forme de leurs paramètres
+ * (types, pas valeurs) : assez pour reconnaître la requête sans exposer de données.
+ */
+@Slf4j
+public class SlowQueryLogListener implements QueryExecutionListener {
+
+    private final long thresholdMillis;
+
+    public SlowQueryLogListener(long thresholdMillis) {
+        this.thresholdMillis = thresholdMillis;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (execInfo.getElapsedTime() < thresholdMillis) {
+            return;
+        }
+        for (QueryInfo queryInfo : queryInfoList) {
+            List<List<ParameterSetOperation>> parameters = queryInfo.getParametersList();
+            log.warn("Requête lente ({} ms, lot de {}, succès: {}): {} {}",
+                    execInfo.getElapsedTime(),
+                    Math.max(execInfo.getBatchSize(), 1),
+                    execInfo.isSuccess(),
+                    queryInfo.getQuery(),
+                    parameters.isEmpty() ? "[]" : shape(parameters.get(0)));
+        }
+    }
+
+    private static String shape(List<ParameterSetOperation> operations) {
+        return operations.stream()
+                .map(SlowQueryLogListener::typeOf)
+                .collect(Collectors.joining(", ", "[", "]"));
+    }
+
+    private static String typeOf(ParameterSetOperation operation) {
+        Object[] args = operation.getArgs();
+        if ("setNull".equals(operation.getMethod().getName()) || args.length < 2 || args[1] == null) {
+            return "null";
+        }
+        return args[1].getClass().getSimpleName();
+    }
+}
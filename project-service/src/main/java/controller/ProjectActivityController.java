@@ -0,0 +1,36 @@
+package controller;
+
+import activity.ActivitySort;
+import activity.ProjectActivityService;
+import com.projecttaskhub.shareddto.dto.ProjectActivityDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.security.Principal;
+import java.util.List;
+
+@RestController
+@RequestMapping("/projects/activity")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class ProjectActivityController {
+
+    private final ProjectActivityService projectActivityService;
+
+    // Projets triés / filtrés par activité des tâches, en une requête sur project_activity
+    @GetMapping
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<List<ProjectActivityDTO>> getActivity(
+            @RequestParam(defaultValue = "LAST_ACTIVITY") ActivitySort sort,
+            @RequestParam(defaultValue = "0") int minOverdue,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(defaultValue = "false") boolean mine,
+            Principal principal) {
+
+        String owner = mine ? principal.getName() : null;
+        List<ProjectActivityDTO> activity = projectActivityService.getActivity(owner, minOverdue, sort, limit);
+        return ResponseEntity.ok(activity);
+    }
+}
@@ -1,18 +1,33 @@
 package controller;
 
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projecttaskhub.shareddto.dto.KeysetPage;
 import com.projecttaskhub.shareddto.dto.ProjectDTO;
+import com.projecttaskhub.shareddto.dto.ProjectImportResult;
 import com.projecttaskhub.shareddto.dto.ProjectStatus;
+import com.projecttaskhub.shareddto.dto.ProjectSummaryDTO;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import service.ProjectImportService;
 import service.ProjectService;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.security.Principal;
 import java.util.List;
 
@@ -23,7 +38,15 @@ import java.util.List;
 @CrossOrigin(origins = "*")
 public class ProjectController {
 
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    // Paramètre view des listes : "summary" omet la description et ne charge aucune entité
+    private static final String FULL_VIEW = "full";
+    private static final String SUMMARY_VIEW = "summary";
+
     private final ProjectService projectService;
+    private final ProjectImportService projectImportService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
@@ -36,6 +59,20 @@ public class ProjectController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdProject);
     }
 
+    // Corps lu en flux : tableau JSON ou NDJSON (un projet par ligne)
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_JSON_VALUE, "application/x-ndjson"})
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<ProjectImportResult> importProjects(
+            HttpServletRequest request,
+            Principal principal) throws IOException {
+
+        try (MappingIterator<ProjectDTO> projects = objectMapper.readerFor(ProjectDTO.class)
+                .readValues(request.getInputStream())) {
+            ProjectImportResult result = projectImportService.importProjects(projects, principal.getName());
+            return ResponseEntity.status(HttpStatus.CREATED).body(result);
+        }
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
     public ResponseEntity<ProjectDTO> getProject(@PathVariable Long id) {
@@ -43,13 +80,73 @@ public class ProjectController {
         return ResponseEntity.ok(project);
     }
 
+    @GetMapping("/batch")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<List<ProjectDTO>> getProjectsBatch(@RequestParam List<Long> ids) {
+        List<ProjectDTO> projects = projectService.getProjectsByIds(ids);
+        return ResponseEntity.ok(projects);
+    }
+
+    @GetMapping("/{id}/exists")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<Boolean> projectExists(@PathVariable Long id) {
+        return ResponseEntity.ok(projectService.projectExists(id));
+    }
+
+    @GetMapping("/exists")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<List<Long>> existingProjectIds(@RequestParam List<Long> ids) {
+        List<Long> existingIds = projectService.findExistingProjectIds(ids);
+        return ResponseEntity.ok(existingIds);
+    }
+
     @GetMapping
     @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
-    public ResponseEntity<List<ProjectDTO>> getAllProjects() {
+    public ResponseEntity<List<?>> getAllProjects(@RequestParam(defaultValue = FULL_VIEW) String view) {
+        if (isSummary(view)) {
+            List<ProjectSummaryDTO> summaries = projectService.getAllProjectSummaries();
+            return ResponseEntity.ok(summaries);
+        }
         List<ProjectDTO> projects = projectService.getAllProjects();
         return ResponseEntity.ok(projects);
     }
 
+    // Export NDJSON écrit au fil de la lecture du curseur, sans charger la table en mémoire
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportProjects() {
+        StreamingResponseBody body = outputStream -> {
+            OutputStream out = new BufferedOutputStream(outputStream, 64 * 1024);
+            projectService.streamProjects(project -> writeLine(out, project));
+            out.flush();
+        };
+        return ResponseEntity.ok().contentType(APPLICATION_NDJSON).body(body);
+    }
+
+    // Instantané de tous les IDs en un tableau JSON écrit au fil de l'eau (filtre d'existence de task-service)
+    @GetMapping(value = "/ids", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> getAllProjectIds() {
+        StreamingResponseBody body = outputStream -> {
+            OutputStream out = new BufferedOutputStream(outputStream, 64 * 1024);
+            out.write('[');
+            boolean[] first = {true};
+            projectService.streamProjectIds(id -> writeId(out, id, first));
+            out.write(']');
+            out.flush();
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    @GetMapping("/keyset")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<KeysetPage<ProjectDTO>> getProjectsKeyset(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "50") int size) {
+        KeysetPage<ProjectDTO> page = projectService.getProjectsAfter(after, size);
+        return ResponseEntity.ok(page);
+    }
+
     @GetMapping("/paginated")
     @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
     public ResponseEntity<Page<ProjectDTO>> getProjectsPaginated(Pageable pageable) {
@@ -59,14 +156,26 @@ public class ProjectController {
 
     @GetMapping("/my-projects")
     @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
-    public ResponseEntity<List<ProjectDTO>> getMyProjects(Principal principal) {
+    public ResponseEntity<List<?>> getMyProjects(
+            Principal principal,
+            @RequestParam(defaultValue = FULL_VIEW) String view) {
+        if (isSummary(view)) {
+            List<ProjectSummaryDTO> summaries = projectService.getProjectSummariesByOwner(principal.getName());
+            return ResponseEntity.ok(summaries);
+        }
         List<ProjectDTO> projects = projectService.getProjectsByOwner(principal.getName());
         return ResponseEntity.ok(projects);
     }
 
     @GetMapping("/by-status/{status}")
     @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
-    public ResponseEntity<List<ProjectDTO>> getProjectsByStatus(@PathVariable ProjectStatus status) {
+    public ResponseEntity<List<?>> getProjectsByStatus(
+            @PathVariable ProjectStatus status,
+            @RequestParam(defaultValue = FULL_VIEW) String view) {
+        if (isSummary(view)) {
+            List<ProjectSummaryDTO> summaries = projectService.getProjectSummariesByStatus(status);
+            return ResponseEntity.ok(summaries);
+        }
         List<ProjectDTO> projects = projectService.getProjectsByStatus(status);
         return ResponseEntity.ok(projects);
     }
@@ -90,8 +199,46 @@ public class ProjectController {
 
     @GetMapping("/search")
     @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
-    public ResponseEntity<List<ProjectDTO>> searchProjects(@RequestParam String name) {
-        List<ProjectDTO> projects = projectService.searchProjectsByName(name);
+    public ResponseEntity<Page<?>> searchProjects(
+            @RequestParam String name,
+            @RequestParam(defaultValue = FULL_VIEW) String view,
+            @PageableDefault(size = 20) Pageable pageable) {
+        if (isSummary(view)) {
+            Page<ProjectSummaryDTO> summaries = projectService.searchProjectSummariesByName(name, pageable);
+            return ResponseEntity.ok(summaries);
+        }
+        Page<ProjectDTO> projects = projectService.searchProjectsByName(name, pageable);
         return ResponseEntity.ok(projects);
     }
+
+    private static boolean isSummary(String view) {
+        if (SUMMARY_VIEW.equalsIgnoreCase(view)) {
+            return true;
+        }
+        if (FULL_VIEW.equalsIgnoreCase(view)) {
+            return false;
+        }
+        throw new IllegalArgumentException("Vue inconnue: " + view + " (attendu: full ou summary)");
+    }
+
+    private void writeId(OutputStream out, long id, boolean[] first) {
+        try {
+            if (!first[0]) {
+                out.write(',');
+            }
+            first[0] = false;
+            out.write(Long.toString(id).getBytes(StandardCharsets.US_ASCII));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeLine(OutputStream out, ProjectDTO project) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(project));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
\ No newline at end of file
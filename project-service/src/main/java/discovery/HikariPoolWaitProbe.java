@@ -0,0 +1,27 @@
+package discovery;
+
+import com.projecttaskhub.sharedinfra.discovery.PoolWaitProbe;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// Threads en attente d'une connexion, publiés dans Eureka : somme sur tous les pools Hikari
+// instrumentés (pool par défaut, ou primaire et réplicas derrière la source routée, qui masque
+// les pools à un simple unwrap)
+@Component
+@RequiredArgsConstructor
+public class HikariPoolWaitProbe implements PoolWaitProbe {
+
+    private static final String PENDING = "hikaricp.connections.pending";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public int threadsAwaitingConnection() {
+        return (int) meterRegistry.find(PENDING).gauges().stream()
+                .mapToDouble(Gauge::value)
+                .filter(Double::isFinite)
+                .sum();
+    }
+}
@@ -1,34 +1,123 @@
 package repository;
 
 import com.projecttaskhub.shareddto.dto.ProjectStatus;
+import com.projecttaskhub.shareddto.dto.ProjectSummaryDTO;
 import entity.Project;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_MODE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
 
+    // Résultats mis en cache (invalidés par Hibernate à chaque écriture sur la table projects)
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     List<Project> findByOwner(String owner);
 
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     List<Project> findByStatus(ProjectStatus status);
 
     Page<Project> findByOwner(String owner, Pageable pageable);
 
+    // Projections "summary" : ni description ni entité gérée, seulement les colonnes listées
+    String SUMMARY_SELECT = "SELECT new com.projecttaskhub.shareddto.dto.ProjectSummaryDTO("
+            + "p.id, p.name, p.status, p.owner, p.startDate, p.endDate, p.createdAt, p.updatedAt) FROM Project p";
+
+    @Query(SUMMARY_SELECT + " ORDER BY p.id")
+    List<ProjectSummaryDTO> findAllSummaries();
+
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    @Query(SUMMARY_SELECT + " WHERE p.owner = :owner")
+    List<ProjectSummaryDTO> findSummariesByOwner(@Param("owner") String owner);
+
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    @Query(SUMMARY_SELECT + " WHERE p.status = :status")
+    List<ProjectSummaryDTO> findSummariesByStatus(@Param("status") ProjectStatus status);
+
     @Query("SELECT p FROM Project p WHERE p.endDate BETWEEN :start AND :end")
     List<Project> findProjectsEndingBetween(
             @Param("start") LocalDateTime start,
             @Param("end") LocalDateTime end
     );
 
-    @Query("SELECT p FROM Project p WHERE p.name LIKE %:name%")
-    List<Project> findByNameContaining(@Param("name") String name);
+    // Sous-chaîne insensible à la casse ou nom proche (trigrammes), classé par similarité.
+    // Servie par l'index GIN idx_projects_name_trgm (voir config.SchemaInitializer).
+    String SEARCH_BY_NAME_CONDITION = """
+            FROM projects p
+            WHERE p.name ILIKE '%' || :pattern || '%' OR p.name % :query
+            """;
+
+    String SEARCH_BY_NAME_ORDER = " ORDER BY similarity(p.name, :query) DESC, p.id";
+
+    String SEARCH_BY_NAME_QUERY = "SELECT p.* " + SEARCH_BY_NAME_CONDITION + SEARCH_BY_NAME_ORDER;
+
+    String COUNT_SEARCH_BY_NAME_QUERY = "SELECT count(*) " + SEARCH_BY_NAME_CONDITION;
+
+    String SEARCH_SUMMARIES_BY_NAME_QUERY = """
+            SELECT p.id AS id, p.name AS name, p.status AS status, p.owner AS owner,
+                   p.start_date AS "startDate", p.end_date AS "endDate",
+                   p.created_at AS "createdAt", p.updated_at AS "updatedAt"
+            """ + SEARCH_BY_NAME_CONDITION + SEARCH_BY_NAME_ORDER;
+
+    @Query(value = SEARCH_BY_NAME_QUERY, countQuery = COUNT_SEARCH_BY_NAME_QUERY, nativeQuery = true)
+    Page<Project> searchByName(@Param("query") String query,
+                               @Param("pattern") String pattern,
+                               Pageable pageable);
+
+    @Query(value = SEARCH_SUMMARIES_BY_NAME_QUERY, countQuery = COUNT_SEARCH_BY_NAME_QUERY, nativeQuery = true)
+    Page<ProjectSummaryView> searchSummariesByName(@Param("query") String query,
+                                                   @Param("pattern") String pattern,
+                                                   Pageable pageable);
+
+    // Parcours complet par curseur JDBC : lu par paquets de 500 lignes, sans instantané
+    // de dirty-checking ni remplissage du cache de second niveau. À consommer dans une transaction.
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("SELECT p FROM Project p ORDER BY p.id")
+    Stream<Project> streamAllOrderById();
+
+    // Tous les IDs (instantané pour le filtre d'existence de task-service), même parcours par curseur
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "5000"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p.id FROM Project p ORDER BY p.id")
+    Stream<Long> streamAllIds();
+
+    // Pagination par clé : WHERE id > :afterId sur la clé primaire, sans OFFSET
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    @Query("SELECT p FROM Project p WHERE p.id > :afterId ORDER BY p.id")
+    List<Project> findPageAfter(@Param("afterId") Long afterId, Limit limit);
 
     boolean existsByNameAndOwner(String name, String owner);
+
+    // Version ensembliste de existsByNameAndOwner pour l'import en masse
+    @Query("SELECT p.name FROM Project p WHERE p.owner = :owner AND p.name IN :names")
+    List<String> findExistingNames(@Param("owner") String owner, @Param("names") Collection<String> names);
+
+    // Lectures groupées : une seule requête WHERE id IN (...)
+    @Query("SELECT p FROM Project p WHERE p.id IN :ids")
+    List<Project> findByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT p.id FROM Project p WHERE p.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,25 @@
+package repository;
+
+import com.projecttaskhub.shareddto.dto.ProjectStatus;
+
+import java.time.LocalDateTime;
+
+// Projection des requêtes natives (les colonnes sont aliasées sur ces propriétés)
+public interface ProjectSummaryView {
+
+    Long getId();
+
+    String getName();
+
+    ProjectStatus getStatus();
+
+    String getOwner();
+
+    LocalDateTime getStartDate();
+
+    LocalDateTime getEndDate();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
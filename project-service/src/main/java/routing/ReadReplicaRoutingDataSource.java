@@ -0,0 +1,33 @@
+package routing;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Envoie les transactions en lecture seule vers un réplica sain et tout le reste
+ * vers le primaire. Doit être enveloppé dans un LazyConnectionDataSourceProxy :
+ * la connexion n'est alors demandée qu'à la première requête SQL, une fois
+ * l'attribut readOnly de la transaction connu.
+ */
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private final ReplicaPool replicaPool;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReadReplicaRoutingDataSource(ReplicaPool replicaPool, ReadYourWritesTracker readYourWritesTracker) {
+        this.replicaPool = replicaPool;
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || readYourWritesTracker.mustReadFromPrimary()) {
+            return PRIMARY;
+        }
+        String replica = replicaPool.pick();
+        return replica != null ? replica : PRIMARY;
+    }
+}
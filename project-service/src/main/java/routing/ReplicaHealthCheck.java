@@ -0,0 +1,24 @@
+package routing;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+
+/**
+ * Vérification périodique des réplicas (santé, retard) et purge des fenêtres
+ * lecture-après-écriture expirées.
+ */
+@RequiredArgsConstructor
+public class ReplicaHealthCheck {
+
+    private final ReplicaPool replicaPool;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final Duration maxReplicaLag;
+
+    @Scheduled(fixedDelayString = "${datasource-routing.health-check-interval-ms:5000}")
+    public void checkReplicas() {
+        replicaPool.checkHealth(maxReplicaLag);
+        readYourWritesTracker.purgeExpired();
+    }
+}
@@ -0,0 +1,120 @@
+package routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pools de connexions des réplicas et leur état de santé. Un réplica injoignable
+ * ou trop en retard est retiré de la rotation jusqu'à la vérification suivante.
+ */
+@Slf4j
+public class ReplicaPool implements AutoCloseable {
+
+    // Retard de rejeu du WAL, 0 si le serveur n'est pas un réplica ou s'il a tout rejoué
+    private static final String LAG_QUERY = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+            END
+            """;
+
+    private final List<Replica> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter fallbacks;
+
+    public ReplicaPool(List<HikariDataSource> dataSources, MeterRegistry meterRegistry) {
+        this.replicas = dataSources.stream().map(Replica::new).toList();
+        this.fallbacks = Counter.builder("datasource.routing.fallback")
+                .description("Transactions en lecture seule renvoyées au primaire faute de réplica sain")
+                .register(meterRegistry);
+        for (Replica replica : replicas) {
+            Gauge.builder("datasource.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                    .tag("pool", replica.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    public List<String> names() {
+        return replicas.stream().map(Replica::name).toList();
+    }
+
+    public List<HikariDataSource> dataSources() {
+        return replicas.stream().map(Replica::dataSource).toList();
+    }
+
+    // Réplica sain suivant (tourniquet), null s'il n'y en a aucun
+    public String pick() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return replica.name();
+            }
+        }
+        if (size > 0) {
+            fallbacks.increment();
+        }
+        return null;
+    }
+
+    public void checkHealth(Duration maxLag) {
+        for (Replica replica : replicas) {
+            boolean healthy = isHealthy(replica.dataSource(), maxLag);
+            if (healthy != replica.healthy) {
+                log.warn("Réplica {} {}", replica.name(), healthy ? "de nouveau disponible" : "retiré de la rotation");
+            }
+            replica.healthy = healthy;
+        }
+    }
+
+    private boolean isHealthy(DataSource dataSource, Duration maxLag) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+            resultSet.next();
+            double lagSeconds = resultSet.getDouble(1);
+            if (lagSeconds * 1000 > maxLag.toMillis()) {
+                log.debug("Retard de réplication de {} s", lagSeconds);
+                return false;
+            }
+            return true;
+        } catch (Exception e) {
+            log.debug("Vérification du réplica en échec: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(replica -> replica.dataSource().close());
+    }
+
+    private static final class Replica {
+        private final HikariDataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        private String name() {
+            return dataSource.getPoolName();
+        }
+
+        private HikariDataSource dataSource() {
+            return dataSource;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Source de données routée primaire / réplicas, activée par datasource-routing.enabled.
+ * Sans cette propriété, l'auto-configuration Spring Boot habituelle s'applique.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource-routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(RoutingDataSourceProperties.class)
+@Slf4j
+public class RoutingDataSourceConfig {
+
+    private final RoutingDataSourceProperties properties;
+
+    public RoutingDataSourceConfig(RoutingDataSourceProperties properties) {
+        this.properties = properties;
+    }
+
+    // Pool du primaire : instrumenté par Spring Boot comme l'aurait été le pool par défaut,
+    // mais jamais injecté directement (defaultCandidate = false)
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName(ReadReplicaRoutingDataSource.PRIMARY);
+        return dataSource;
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaPool replicaPool(DataSourceProperties dataSourceProperties, MeterRegistry meterRegistry) {
+        List<RoutingDataSourceProperties.Replica> replicas = properties.getReplicas();
+        List<HikariDataSource> dataSources = IntStream.range(0, replicas.size())
+                .mapToObj(i -> replicaDataSource("replica-" + (i + 1), replicas.get(i), dataSourceProperties, meterRegistry))
+                .toList();
+        log.info("Routage lecture/écriture actif: {} réplica(s)", dataSources.size());
+        return new ReplicaPool(dataSources, meterRegistry);
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker() {
+        return new ReadYourWritesTracker(properties.getReadYourWritesWindow());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource,
+                                 ReplicaPool replicaPool,
+                                 ReadYourWritesTracker readYourWritesTracker) {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(ReadReplicaRoutingDataSource.PRIMARY, primaryDataSource);
+        replicaPool.dataSources().forEach(replica -> targets.put(replica.getPoolName(), replica));
+
+        ReadReplicaRoutingDataSource routingDataSource = new ReadReplicaRoutingDataSource(replicaPool, readYourWritesTracker);
+        routingDataSource.setTargetDataSources(targets);
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public ReplicaHealthCheck replicaHealthCheck(ReplicaPool replicaPool, ReadYourWritesTracker readYourWritesTracker) {
+        return new ReplicaHealthCheck(replicaPool, readYourWritesTracker, properties.getMaxReplicaLag());
+    }
+
+    private HikariDataSource replicaDataSource(String name,
+                                               RoutingDataSourceProperties.Replica replica,
+                                               DataSourceProperties primary,
+                                               MeterRegistry meterRegistry) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl(replica.getUrl());
+        dataSource.setUsername(replica.getUsername() != null ? replica.getUsername() : primary.determineUsername());
+        dataSource.setPassword(replica.getPassword() != null ? replica.getPassword() : primary.determinePassword());
+        dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+        dataSource.setReadOnly(true);
+        // Le démarrage ne doit pas échouer si un réplica est absent : il sera simplement écarté
+        dataSource.setInitializationFailTimeout(-1);
+        dataSource.setMetricRegistry(meterRegistry);
+        return dataSource;
+    }
+}
@@ -0,0 +1,37 @@
+package routing;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "datasource-routing")
+public class RoutingDataSourceProperties {
+
+    // Désactivé : toutes les transactions vont au primaire (spring.datasource)
+    private boolean enabled = false;
+
+    // Réplicas en lecture seule, utilisés à tour de rôle par les transactions readOnly
+    private List<Replica> replicas = new ArrayList<>();
+
+    // Après une écriture, les lectures du même utilisateur restent sur le primaire
+    // pendant cette durée (0 pour désactiver la lecture de ses propres écritures)
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    // Retard de réplication au-delà duquel un réplica est écarté
+    private Duration maxReplicaLag = Duration.ofSeconds(10);
+
+    @Data
+    public static class Replica {
+        private String url;
+
+        // Par défaut, mêmes identifiants que le primaire
+        private String username;
+        private String password;
+
+        private int maximumPoolSize = 10;
+    }
+}
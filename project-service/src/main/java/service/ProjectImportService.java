@@ -0,0 +1,158 @@
+package service;
+
+import com.projecttaskhub.shareddto.dto.ProjectDTO;
+import com.projecttaskhub.shareddto.dto.ProjectImportResult;
+import com.projecttaskhub.shareddto.event.ProjectEvent;
+import entity.Project;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import mapper.ProjectMapper;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import repository.ProjectRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Import en masse de projets : lecture en flux, découpage en lots de CHUNK_SIZE,
+ * une transaction par lot. Dans chaque lot, un seul SELECT vérifie les doublons
+ * et les INSERT partent par paquets JDBC (IDs séquence + hibernate.jdbc.batch_size).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProjectImportService {
+
+    // Multiple de hibernate.jdbc.batch_size
+    private static final int CHUNK_SIZE = 1000;
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final ProjectRepository projectRepository;
+    private final ProjectMapper projectMapper;
+    private final RabbitTemplate rabbitTemplate;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+
+    public ProjectImportResult importProjects(Iterator<ProjectDTO> projects, String owner) {
+        long start = System.nanoTime();
+        ImportState state = new ImportState();
+
+        List<ProjectDTO> chunk = new ArrayList<>(CHUNK_SIZE);
+        while (projects.hasNext()) {
+            ProjectDTO projectDTO = projects.next();
+            state.received++;
+            projectDTO.setOwner(owner);
+            if (isValid(projectDTO, state)) {
+                chunk.add(projectDTO);
+            }
+            if (chunk.size() == CHUNK_SIZE) {
+                importChunk(chunk, owner, state);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, owner, state);
+        }
+
+        long durationMs = (System.nanoTime() - start) / 1_000_000;
+        log.info("Import terminé pour {}: {} reçus, {} importés, {} doublons, {} invalides en {} ms",
+                owner, state.received, state.imported, state.duplicates, state.invalid, durationMs);
+
+        return ProjectImportResult.builder()
+                .received(state.received)
+                .imported(state.imported)
+                .duplicates(state.duplicates)
+                .invalid(state.invalid)
+                .errors(state.errors)
+                .durationMs(durationMs)
+                .build();
+    }
+
+    private void importChunk(List<ProjectDTO> chunk, String owner, ImportState state) {
+        List<Long> ids = transactionTemplate.execute(status -> {
+            // Pas de remplissage du cache de second niveau pour des milliers d'entités froides
+            entityManager.unwrap(Session.class).setCacheMode(CacheMode.IGNORE);
+
+            Set<String> names = chunk.stream().map(ProjectDTO::getName).collect(Collectors.toSet());
+            Set<String> existing = new HashSet<>(projectRepository.findExistingNames(owner, names));
+
+            List<Project> toInsert = new ArrayList<>(chunk.size());
+            for (ProjectDTO projectDTO : chunk) {
+                if (existing.contains(projectDTO.getName()) || !state.seenNames.add(projectDTO.getName())) {
+                    state.duplicates++;
+                    continue;
+                }
+                Project project = projectMapper.toEntity(projectDTO);
+                project.setId(null);
+                project.setCreatedAt(LocalDateTime.now());
+                project.setUpdatedAt(LocalDateTime.now());
+                toInsert.add(project);
+            }
+
+            List<Long> insertedIds = projectRepository.saveAll(toInsert).stream()
+                    .map(Project::getId)
+                    .toList();
+            entityManager.flush();
+            entityManager.clear();
+            return insertedIds;
+        });
+
+        if (ids != null && !ids.isEmpty()) {
+            state.imported += ids.size();
+            publishProjectsCreated(ids);
+        }
+    }
+
+    private boolean isValid(ProjectDTO projectDTO, ImportState state) {
+        Set<ConstraintViolation<ProjectDTO>> violations = validator.validate(projectDTO);
+        if (violations.isEmpty()) {
+            return true;
+        }
+        state.invalid++;
+        if (state.errors.size() < MAX_REPORTED_ERRORS) {
+            String message = violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .collect(Collectors.joining(", "));
+            state.errors.add("Élément " + state.received + ": " + message);
+        }
+        return false;
+    }
+
+    // Un seul PROJECT_CREATED par lot, avec la liste des IDs créés
+    private void publishProjectsCreated(List<Long> projectIds) {
+        try {
+            ProjectEvent event = new ProjectEvent();
+            event.setEventType("PROJECT_CREATED");
+            event.setProjectIds(projectIds);
+            event.setEventData(projectIds.size() + " projets importés");
+            event.setTimestamp(LocalDateTime.now());
+
+            rabbitTemplate.convertAndSend("project.exchange", "project.events", event);
+            log.debug("Événement groupé publié: PROJECT_CREATED pour {} projets", projectIds.size());
+        } catch (Exception e) {
+            log.error("Erreur lors de la publication de l'événement groupé: {}", e.getMessage());
+        }
+    }
+
+    private static final class ImportState {
+        private long received;
+        private long imported;
+        private long duplicates;
+        private long invalid;
+        private final List<String> errors = new ArrayList<>();
+        private final Set<String> seenNames = new HashSet<>();
+    }
+}
@@ -1,22 +1,33 @@
 package service;
 
 
+import com.projecttaskhub.shareddto.dto.KeysetPage;
 import com.projecttaskhub.shareddto.dto.ProjectDTO;
 import com.projecttaskhub.shareddto.dto.ProjectStatus;
+import com.projecttaskhub.shareddto.dto.ProjectSummaryDTO;
 import com.projecttaskhub.shareddto.event.ProjectEvent;
 import entity.Project;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import mapper.ProjectMapper;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import repository.ProjectRepository;
+import repository.ProjectSummaryView;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -24,9 +35,14 @@ import java.util.List;
 @Transactional
 public class ProjectService {
 
+    private static final int MAX_BATCH_SIZE = 500;
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+    private static final int MAX_KEYSET_PAGE_SIZE = 500;
+
     private final ProjectRepository projectRepository;
     private final ProjectMapper projectMapper;
     private final RabbitTemplate rabbitTemplate;
+    private final EntityManager entityManager;
 
     public ProjectDTO createProject(ProjectDTO projectDTO) {
         // Vérifier que le projet n'existe pas déjà pour cet utilisateur
@@ -55,12 +71,78 @@ public class ProjectService {
         return projectMapper.toDto(project);
     }
 
+    @Transactional(readOnly = true)
+    public List<ProjectDTO> getProjectsByIds(Collection<Long> ids) {
+        checkBatchSize(ids);
+        List<Project> projects = projectRepository.findByIdIn(ids);
+        return projectMapper.toDtoList(projects);
+    }
+
+    @Transactional(readOnly = true)
+    public boolean projectExists(Long id) {
+        return !projectRepository.findExistingIds(List.of(id)).isEmpty();
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findExistingProjectIds(Collection<Long> ids) {
+        checkBatchSize(ids);
+        return projectRepository.findExistingIds(ids);
+    }
+
     @Transactional(readOnly = true)
     public List<ProjectDTO> getAllProjects() {
         List<Project> projects = projectRepository.findAll();
         return projectMapper.toDtoList(projects);
     }
 
+    /**
+     * Parcourt tous les projets par curseur et les passe un à un au consommateur.
+     * Chaque entité est détachée dès qu'elle est convertie : la mémoire reste
+     * constante quel que soit le nombre de lignes.
+     */
+    @Transactional(readOnly = true)
+    public long streamProjects(Consumer<ProjectDTO> consumer) {
+        long count = 0;
+        try (Stream<Project> projects = projectRepository.streamAllOrderById()) {
+            Iterator<Project> iterator = projects.iterator();
+            while (iterator.hasNext()) {
+                Project project = iterator.next();
+                consumer.accept(projectMapper.toDto(project));
+                entityManager.detach(project);
+                count++;
+            }
+        }
+        log.info("Export de {} projets terminé", count);
+        return count;
+    }
+
+    // Instantané des IDs (filtre d'existence de task-service), lu par curseur sans charger les entités
+    @Transactional(readOnly = true)
+    public long streamProjectIds(LongConsumer consumer) {
+        long count = 0;
+        try (Stream<Long> ids = projectRepository.streamAllIds()) {
+            Iterator<Long> iterator = ids.iterator();
+            while (iterator.hasNext()) {
+                consumer.accept(iterator.next());
+                count++;
+            }
+        }
+        log.info("Instantané de {} IDs de projets envoyé", count);
+        return count;
+    }
+
+    @Transactional(readOnly = true)
+    public KeysetPage<ProjectDTO> getProjectsAfter(Long afterId, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_KEYSET_PAGE_SIZE);
+        // Une ligne de plus que demandé pour savoir s'il existe une page suivante
+        List<Project> projects = projectRepository.findPageAfter(afterId == null ? 0L : afterId, Limit.of(pageSize + 1));
+
+        boolean hasNext = projects.size() > pageSize;
+        List<Project> content = hasNext ? projects.subList(0, pageSize) : projects;
+        Long nextCursor = hasNext ? content.get(content.size() - 1).getId() : null;
+        return new KeysetPage<>(projectMapper.toDtoList(content), nextCursor, hasNext);
+    }
+
     @Transactional(readOnly = true)
     public Page<ProjectDTO> getProjectsPaginated(Pageable pageable) {
         Page<Project> projects = projectRepository.findAll(pageable);
@@ -110,9 +192,64 @@ public class ProjectService {
     }
 
     @Transactional(readOnly = true)
-    public List<ProjectDTO> searchProjectsByName(String name) {
-        List<Project> projects = projectRepository.findByNameContaining(name);
-        return projectMapper.toDtoList(projects);
+    public Page<ProjectDTO> searchProjectsByName(String name, Pageable pageable) {
+        String query = searchTerm(name);
+        Page<Project> projects = projectRepository.searchByName(query, escapeLikePattern(query), searchPage(pageable));
+        return projects.map(projectMapper::toDto);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<ProjectSummaryDTO> searchProjectSummariesByName(String name, Pageable pageable) {
+        String query = searchTerm(name);
+        Page<ProjectSummaryView> projects = projectRepository.searchSummariesByName(query, escapeLikePattern(query), searchPage(pageable));
+        return projects.map(ProjectService::toSummary);
+    }
+
+    // Vues "summary" : projections sans la colonne description, aucune entité chargée
+    @Transactional(readOnly = true)
+    public List<ProjectSummaryDTO> getAllProjectSummaries() {
+        return projectRepository.findAllSummaries();
+    }
+
+    @Transactional(readOnly = true)
+    public List<ProjectSummaryDTO> getProjectSummariesByOwner(String owner) {
+        return projectRepository.findSummariesByOwner(owner);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ProjectSummaryDTO> getProjectSummariesByStatus(ProjectStatus status) {
+        return projectRepository.findSummariesByStatus(status);
+    }
+
+    private static String searchTerm(String name) {
+        String query = name == null ? "" : name.trim();
+        if (query.isEmpty()) {
+            throw new IllegalArgumentException("Le terme de recherche ne peut pas être vide");
+        }
+        return query;
+    }
+
+    // Le classement est fixé par la requête (similarité) : seul le découpage en pages est repris
+    private static Pageable searchPage(Pageable pageable) {
+        return PageRequest.of(pageable.getPageNumber(), Math.min(pageable.getPageSize(), MAX_SEARCH_PAGE_SIZE));
+    }
+
+    private static ProjectSummaryDTO toSummary(ProjectSummaryView view) {
+        return new ProjectSummaryDTO(view.getId(), view.getName(), view.getStatus(), view.getOwner(),
+                view.getStartDate(), view.getEndDate(), view.getCreatedAt(), view.getUpdatedAt());
+    }
+
+    // Les caractères saisis sont cherchés tels quels, pas comme jokers LIKE
+    private static String escapeLikePattern(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+
+    private void checkBatchSize(Collection<Long> ids) {
+        if (ids.isEmpty() || ids.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Le lot doit contenir entre 1 et " + MAX_BATCH_SIZE + " identifiants");
+        }
     }
 
     private void publishProjectEvent(String eventType, ProjectDTO projectDTO) {
@@ -121,6 +258,8 @@ public class ProjectService {
             event.setEventType(eventType);
             event.setProjectId(projectDTO.getId());
             event.setProjectName(projectDTO.getName());
+            event.setStatus(projectDTO.getStatus());
+            event.setVersion(ProjectEvent.versionOf(projectDTO.getUpdatedAt()));
             event.setEventData(projectDTO.toString());
             event.setTimestamp(LocalDateTime.now());
 
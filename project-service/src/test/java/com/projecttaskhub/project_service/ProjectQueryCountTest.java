@@ -0,0 +1,118 @@
+package com.projecttaskhub.project_service;
+
+import com.projecttaskhub.shareddto.dto.ProjectDTO;
+import com.projecttaskhub.shareddto.dto.ProjectStatus;
+import config.DataSourceProxyConfig;
+import entity.Project;
+import jakarta.persistence.EntityManager;
+import mapper.ProjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import repository.ProjectRepository;
+import service.ProjectService;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.projecttaskhub.project_service.QueryCountAssertions.assertMaxStatements;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Nombre de requêtes SQL par opération de ProjectService derrière les endpoints :
+ * échoue si une modification introduit un N+1 ou une requête supplémentaire.
+ */
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(DataSourceProxyConfig.class)
+@Testcontainers(disabledWithoutDocker = true)
+class ProjectQueryCountTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private ProjectService projectService;
+    private List<Long> ids;
+
+    @BeforeEach
+    void setUp() {
+        projectService = new ProjectService(projectRepository, Mappers.getMapper(ProjectMapper.class),
+                mock(RabbitTemplate.class), entityManager);
+
+        ids = IntStream.rangeClosed(1, 20)
+                .mapToObj(i -> testEntityManager.persist(project("Projet " + i, i % 2 == 0 ? "alice" : "bob")).getId())
+                .toList();
+        testEntityManager.flush();
+        testEntityManager.clear();
+    }
+
+    @Test
+    void getProjectIssuesOneStatement() {
+        assertMaxStatements(1, () -> projectService.getProjectById(ids.get(0)));
+    }
+
+    @Test
+    void listsIssueOneStatementEach() {
+        assertMaxStatements(1, () -> projectService.getProjectsByOwner("alice"));
+        assertMaxStatements(1, () -> projectService.getProjectsByStatus(ProjectStatus.PLANNING));
+        assertMaxStatements(1, () -> projectService.getProjectsAfter(ids.get(4), 10));
+        assertMaxStatements(1, () -> projectService.getProjectSummariesByOwner("alice"));
+        assertMaxStatements(1, () -> projectService.getAllProjectSummaries());
+    }
+
+    @Test
+    void batchLookupsIssueOneStatementWhateverTheBatchSize() {
+        assertMaxStatements(1, () -> projectService.getProjectsByIds(ids));
+        assertMaxStatements(1, () -> projectService.findExistingProjectIds(ids));
+    }
+
+    @Test
+    void paginatedListIssuesPageAndCountStatements() {
+        assertMaxStatements(2, () -> projectService.getProjectsPaginated(PageRequest.of(0, 5)));
+    }
+
+    @Test
+    void updateIssuesOneSelectAndOneUpdate() {
+        ProjectDTO changes = new ProjectDTO();
+        changes.setDescription("Nouvelle description");
+
+        assertMaxStatements(2, () -> {
+            projectService.updateProject(ids.get(0), changes);
+            testEntityManager.flush();
+        });
+    }
+
+    private static Project project(String name, String owner) {
+        Project project = new Project();
+        project.setName(name);
+        project.setOwner(owner);
+        project.setStatus(ProjectStatus.PLANNING);
+        project.setStartDate(LocalDateTime.now());
+        return project;
+    }
+}
@@ -0,0 +1,90 @@
+package com.projecttaskhub.project_service;
+
+import config.SchemaInitializer;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import repository.ProjectRepository;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Vérifie avec EXPLAIN que la recherche de projets passe par l'index trigramme
+ * créé au démarrage, et non par un parcours séquentiel de la table.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ProjectSearchPlanTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    private static JdbcTemplate jdbcTemplate;
+    private static NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @BeforeAll
+    static void createSchema() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        namedJdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+
+        jdbcTemplate.execute("""
+                CREATE TABLE projects (
+                    id BIGSERIAL PRIMARY KEY,
+                    name VARCHAR(255) NOT NULL,
+                    description TEXT,
+                    start_date TIMESTAMP NOT NULL,
+                    end_date TIMESTAMP,
+                    status VARCHAR(50) NOT NULL,
+                    owner VARCHAR(255) NOT NULL,
+                    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+                )""");
+        new SchemaInitializer(jdbcTemplate).afterSingletonsInstantiated();
+
+        jdbcTemplate.execute("""
+                INSERT INTO projects (name, start_date, status, owner)
+                SELECT 'Projet ' || md5(i::text), now(), 'PLANNING', 'user' || (i % 50)
+                FROM generate_series(1, 20000) AS i""");
+        jdbcTemplate.update("INSERT INTO projects (name, start_date, status, owner) VALUES (?, now(), 'IN_PROGRESS', 'admin')",
+                "Refonte du portail client");
+        jdbcTemplate.execute("ANALYZE projects");
+    }
+
+    @Test
+    void searchUsesTrigramIndex() {
+        String plan = String.join("\n", namedJdbcTemplate.queryForList(
+                "EXPLAIN " + ProjectRepository.SEARCH_BY_NAME_QUERY + " LIMIT 20",
+                params("portail"), String.class));
+
+        assertTrue(plan.contains("idx_projects_name_trgm"), plan);
+        assertFalse(plan.contains("Seq Scan on projects"), plan);
+    }
+
+    @Test
+    void searchIsCaseInsensitiveAndTolerantToTypos() {
+        assertTrue(searchNames("PORTAIL").contains("Refonte du portail client"));
+        assertTrue(searchNames("refonte du portial client").contains("Refonte du portail client"));
+    }
+
+    private List<String> searchNames(String query) {
+        return namedJdbcTemplate.queryForList(
+                "SELECT name FROM (" + ProjectRepository.SEARCH_BY_NAME_QUERY + " LIMIT 20) AS results",
+                params(query), String.class);
+    }
+
+    private static MapSqlParameterSource params(String query) {
+        return new MapSqlParameterSource()
+                .addValue("query", query)
+                .addValue("pattern", query);
+    }
+}
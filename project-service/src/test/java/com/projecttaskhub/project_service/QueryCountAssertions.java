@@ -0,0 +1,27 @@
+package com.projecttaskhub.project_service;
+
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.QueryCountHolder;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Borne le nombre de requêtes SQL émises par un appel, à partir des compteurs par
+ * thread du proxy datasource-proxy (config.DataSourceProxyConfig).
+ * Détecte les N+1 et les requêtes ajoutées par mégarde sur un chemin critique.
+ */
+final class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+    }
+
+    static void assertMaxStatements(int max, Runnable action) {
+        QueryCountHolder.clear();
+        action.run();
+        QueryCount count = QueryCountHolder.getGrandTotal();
+        assertTrue(count.getTotal() <= max, () -> String.format(
+                "Au plus %d requête(s) attendue(s), %d exécutée(s) (select=%d, insert=%d, update=%d, delete=%d, autre=%d)",
+                max, count.getTotal(), count.getSelect(), count.getInsert(),
+                count.getUpdate(), count.getDelete(), count.getOther()));
+    }
+}
@@ -0,0 +1,38 @@
+#!/bin/bash
+# Débit du journal des tâches : ajout d'événements et reconstruction de la projection tasks
+# (EventStoreBenchmark).
+#
+# Usage :
+#   ./scripts/bench-eventstore.sh
+#
+# Variables :
+#   TASKS       tâches créées (défaut 20000)
+#   UPDATES     mises à jour par tâche (défaut 4)
+#   PROJECTS    projets, donc partitions de reconstruction (défaut 50)
+#   THREADS     nombres d'écrivains / de threads de reconstruction mesurés (défaut 1,4,8)
+#   MONGO_URI   MongoDB existant (base taskdb_benchmark, supprimée à la fin) ; sinon conteneur
+#               Testcontainers mongo:7-jammy (Docker requis)
+
+set -e
+
+TASKS=${TASKS:-20000}
+UPDATES=${UPDATES:-4}
+PROJECTS=${PROJECTS:-50}
+THREADS=${THREADS:-1,4,8}
+
+ARGS=(-Deventstore.benchmark=true
+      -Deventstore.benchmark.tasks="$TASKS"
+      -Deventstore.benchmark.updates-per-task="$UPDATES"
+      -Deventstore.benchmark.projects="$PROJECTS"
+      -Deventstore.benchmark.threads="$THREADS")
+if [ -n "$MONGO_URI" ]; then
+    ARGS+=(-Deventstore.benchmark.mongo-uri="$MONGO_URI")
+fi
+
+mvn -B -q install -DskipTests -pl shared-dto,shared-infra
+mvn -B -pl task-service test \
+    -Dtest=EventStoreBenchmark \
+    -Dsurefire.failIfNoSpecifiedTests=false \
+    "${ARGS[@]}"
+
+echo "✅ Résultats : task-service/target/event-store-benchmark.json"
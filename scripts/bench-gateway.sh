@@ -0,0 +1,30 @@
+#!/bin/bash
+# Surcoût de l'api-gateway par route et par filtre (GatewayOverheadBenchmark).
+#
+# Usage :
+#   ./scripts/bench-gateway.sh
+#
+# Variables :
+#   CONCURRENCY   clients simultanés pour le débit maximal (défaut 64)
+#   DURATION      durée de mesure du débit par route, en secondes (défaut 10)
+#   REQUESTS      requêtes séquentielles pour la latence et l'allocation (défaut 20000)
+#
+# Backends factices et émetteur JWKS dans le même JVM : le port 8180 doit être libre
+# (arrêter Keycloak ou l'émetteur du module load-test).
+
+set -e
+
+CONCURRENCY=${CONCURRENCY:-64}
+DURATION=${DURATION:-10}
+REQUESTS=${REQUESTS:-20000}
+
+mvn -B -q install -DskipTests -pl shared-dto,shared-infra,test-support
+mvn -B -pl api-gateway test \
+    -Dtest=GatewayOverheadBenchmark \
+    -Dsurefire.failIfNoSpecifiedTests=false \
+    -Dgateway.benchmark=true \
+    -Dgateway.benchmark.concurrency="$CONCURRENCY" \
+    -Dgateway.benchmark.duration-seconds="$DURATION" \
+    -Dgateway.benchmark.requests="$REQUESTS"
+
+echo "✅ Résultats : api-gateway/target/gateway-benchmark.json"
@@ -0,0 +1,44 @@
+#!/bin/bash
+# Micro-benchmarks JMH (module benchmarks) : mapping, sérialisation JSON, conversion d'événements.
+#
+# Usage :
+#   ./scripts/bench-jmh.sh baseline   # mesure et remplace benchmarks/baseline/baseline.json
+#   ./scripts/bench-jmh.sh compare    # mesure et compare à la référence (code 1 si régression)
+#
+# Variables :
+#   JMH_ARGS        options JMH supplémentaires (ex. "MappingBenchmark -p size=100 -f 1")
+#   TIME_THRESHOLD  régression de temps tolérée en % (défaut 10)
+#   ALLOC_THRESHOLD régression d'allocation par opération tolérée en % (défaut 5)
+#
+# La référence n'a de sens que mesurée sur la même machine que la comparaison :
+# l'enregistrer sur la machine de CI/référence, machine au repos.
+
+set -e
+
+MODE=${1:-compare}
+BASELINE=benchmarks/baseline/baseline.json
+CURRENT=${CURRENT:-logs/jmh-current.json}
+TIME_THRESHOLD=${TIME_THRESHOLD:-10}
+ALLOC_THRESHOLD=${ALLOC_THRESHOLD:-5}
+
+echo "🔨 Construction du module benchmarks..."
+mvn -B -q -pl benchmarks -am package -DskipTests
+
+mkdir -p "$(dirname "$CURRENT")"
+# -prof gc : ajoute gc.alloc.rate.norm (octets alloués par opération)
+java -jar benchmarks/target/benchmarks.jar -prof gc -rf json -rff "$CURRENT" $JMH_ARGS
+
+case "$MODE" in
+    baseline)
+        cp "$CURRENT" "$BASELINE"
+        echo "✅ Référence enregistrée dans $BASELINE (à committer)"
+        ;;
+    compare)
+        java -cp benchmarks/target/benchmarks.jar com.projecttaskhub.benchmarks.BaselineComparator \
+            "$BASELINE" "$CURRENT" "$TIME_THRESHOLD" "$ALLOC_THRESHOLD"
+        ;;
+    *)
+        echo "❌ Mode inconnu: $MODE (baseline | compare)"
+        exit 1
+        ;;
+esac
@@ -0,0 +1,59 @@
+#!/bin/bash
+# Benchmark du débit de GET /projects/{id} sur project-service, avec ou sans cache de second niveau.
+#
+# Usage :
+#   1. Démarrer project-service normalement (cache actif), puis :
+#        TOKEN=<jwt> ./scripts/bench-project-cache.sh cache-on
+#   2. Redémarrer project-service sans cache :
+#        SPRING_JPA_PROPERTIES_HIBERNATE_CACHE_USE_SECOND_LEVEL_CACHE=false \
+#        SPRING_JPA_PROPERTIES_HIBERNATE_CACHE_USE_QUERY_CACHE=false mvn spring-boot:run
+#      puis :
+#        TOKEN=<jwt> ./scripts/bench-project-cache.sh cache-off
+#   3. Comparer les lignes de logs/bench-project-cache.csv
+#
+# Prérequis : hey (https://github.com/rakyll/hey), curl, jq
+
+set -e
+
+LABEL=${1:-run}
+BASE_URL=${PROJECT_SERVICE_URL:-http://localhost:8081}
+PROJECT_IDS=${PROJECT_IDS:-"1 2"}
+DURATION=${DURATION:-30s}
+CONCURRENCY=${CONCURRENCY:-32}
+RESULTS=${RESULTS:-logs/bench-project-cache.csv}
+
+if [ -z "$TOKEN" ]; then
+    echo "❌ Variable TOKEN manquante (jeton JWT Keycloak)"
+    exit 1
+fi
+for tool in hey curl jq; do
+    if ! command -v "$tool" > /dev/null; then
+        echo "❌ Outil requis introuvable: $tool"
+        exit 1
+    fi
+done
+
+mkdir -p "$(dirname "$RESULTS")"
+[ -f "$RESULTS" ] || echo "label,project_id,concurrency,duration,requests_per_sec,p50_s,p99_s" > "$RESULTS"
+
+metric() {
+    curl -s "$BASE_URL/actuator/metrics/$1?tag=result:$2" | jq -r '.measurements[0].value // "n/a"'
+}
+
+echo "🏁 Benchmark GET /projects/{id} [$LABEL] sur $BASE_URL ($CONCURRENCY connexions, $DURATION par projet)"
+
+for id in $PROJECT_IDS; do
+    # Préchauffage (JIT, pool de connexions, remplissage du cache)
+    hey -z 5s -c "$CONCURRENCY" -H "Authorization: Bearer $TOKEN" "$BASE_URL/projects/$id" > /dev/null
+
+    output=$(hey -z "$DURATION" -c "$CONCURRENCY" -H "Authorization: Bearer $TOKEN" "$BASE_URL/projects/$id")
+    rps=$(echo "$output" | awk '/Requests\/sec/ {print $2}')
+    p50=$(echo "$output" | awk '/ 50% in/ {print $3}')
+    p99=$(echo "$output" | awk '/ 99% in/ {print $3}')
+
+    echo "📊 Projet $id : $rps req/s (p50 ${p50}s, p99 ${p99}s)"
+    echo "$LABEL,$id,$CONCURRENCY,$DURATION,$rps,$p50,$p99" >> "$RESULTS"
+done
+
+echo "🗄️  Cache de second niveau : hits=$(metric hibernate.second.level.cache.requests hit) misses=$(metric hibernate.second.level.cache.requests miss)"
+echo "✅ Résultats ajoutés à $RESULTS"
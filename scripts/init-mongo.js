@@ -53,6 +53,10 @@ db.createCollection("tasks", {
                 },
                 updatedAt: {
                     bsonType: "date"
+                },
+                project: {
+                    bsonType: ["object", "null"],
+                    description: "Résumé dénormalisé du projet (name, status, version)"
                 }
             }
         }
@@ -72,6 +76,16 @@ db.tasks.createIndex({ "title": "text", "description": "text" });
 db.tasks.createIndex({ "projectId": 1, "status": 1 });
 db.tasks.createIndex({ "assignedTo": 1, "status": 1 });
 
+// Resynchronisation du résumé de projet embarqué (voir MongoIndexInitializer)
+db.tasks.createIndex({ "projectId": 1, "project.version": 1 }, { name: "projectId_project_version" });
+
+// Vue « mon travail » : tâches, comptages par statut et échéances d'un utilisateur
+db.tasks.createIndex({ "assignedTo": 1, "status": 1, "dueDate": 1 }, { name: "assignedTo_status_dueDate" });
+
+// Journal des tâches (task_events) : numéro unique par tâche, rejeu par projet
+db.task_events.createIndex({ "taskId": 1, "sequence": 1 }, { name: "taskId_sequence", unique: true });
+db.task_events.createIndex({ "projectId": 1, "taskId": 1, "sequence": 1 }, { name: "projectId_taskId_sequence" });
+
 // Insérer des données de test
 db.tasks.insertMany([
     {
@@ -42,6 +42,10 @@ psql -v ON_ERROR_STOP=1 --username "$POSTGRES_USER" --dbname "projectdb" <<-EOSQ
     CREATE INDEX IF NOT EXISTS idx_projects_status ON projects(status);
     CREATE INDEX IF NOT EXISTS idx_projects_created_at ON projects(created_at);
 
+    -- Recherche par nom (trigrammes) : voir config.SchemaInitializer dans project-service
+    CREATE EXTENSION IF NOT EXISTS pg_trgm;
+    CREATE INDEX IF NOT EXISTS idx_projects_name_trgm ON projects USING gin (name gin_trgm_ops);
+
     -- Données de test
     INSERT INTO projects (name, description, start_date, status, owner) 
     VALUES 
@@ -49,6 +53,32 @@ psql -v ON_ERROR_STOP=1 --username "$POSTGRES_USER" --dbname "projectdb" <<-EOSQ
         ('Projet Test', 'Projet de test', CURRENT_TIMESTAMP, 'IN_PROGRESS', 'user1')
     ON CONFLICT DO NOTHING;
 
+    -- IDs alloués par blocs de 50 (allocationSize de l'entité Project)
+    ALTER SEQUENCE projects_id_seq INCREMENT BY 50;
+
+    -- Activité des tâches par projet (alimentée par les événements de task-service)
+    CREATE TABLE IF NOT EXISTS task_activity (
+        task_id VARCHAR(64) PRIMARY KEY,
+        project_id BIGINT NOT NULL,
+        status VARCHAR(50),
+        due_date TIMESTAMP,
+        deleted BOOLEAN NOT NULL DEFAULT FALSE,
+        updated_at TIMESTAMP NOT NULL
+    );
+    CREATE INDEX IF NOT EXISTS idx_task_activity_project ON task_activity (project_id);
+    CREATE INDEX IF NOT EXISTS idx_task_activity_open_due ON task_activity (due_date)
+        WHERE NOT deleted AND status NOT IN ('DONE', 'CANCELLED');
+
+    CREATE TABLE IF NOT EXISTS project_activity (
+        project_id BIGINT PRIMARY KEY,
+        open_tasks INTEGER NOT NULL DEFAULT 0,
+        done_tasks INTEGER NOT NULL DEFAULT 0,
+        overdue_tasks INTEGER NOT NULL DEFAULT 0,
+        last_activity_at TIMESTAMP
+    );
+    CREATE INDEX IF NOT EXISTS idx_project_activity_last ON project_activity (last_activity_at DESC, project_id);
+    CREATE INDEX IF NOT EXISTS idx_project_activity_overdue ON project_activity (overdue_tasks DESC, project_id);
+
     -- Afficher le résultat
     SELECT COUNT(*) as total_projects FROM projects;
 EOSQL
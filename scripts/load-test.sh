@@ -0,0 +1,69 @@
+#!/bin/bash
+# Test de charge de bout en bout (module load-test) sur infrastructure locale.
+#
+# Usage :
+#   ./scripts/load-test.sh [options de run]      # ex. --scenario=read-heavy --duration=5m --rate=500
+#
+# Variables :
+#   SKIP_SEED=1     ne recharge pas le jeu de données (mêmes paramètres que le précédent seed)
+#   SEED_ARGS       options du jeu de données (ex. "--projects=50000 --tasks=5000000"),
+#                   reprises automatiquement pour run
+#   MVN_ARGS        options Maven supplémentaires (ex. "-o" une fois les dépendances en cache)
+#
+# Démarre postgresql, mongodb et rabbitmq (docker-compose), l'émetteur JWT de substitution
+# sur :8180, project-service et task-service avec load-test/config/*.yml (ni Config Server,
+# ni Eureka, ni Keycloak), puis écrit le rapport dans load-test/target/load-test.
+
+set -e
+
+SEED_ARGS=${SEED_ARGS:-}
+PIDS=()
+cleanup() {
+    for pid in "${PIDS[@]}"; do
+        kill "$pid" 2>/dev/null || true
+    done
+}
+trap cleanup EXIT
+
+wait_for() {
+    local url=$1 name=$2
+    for _ in $(seq 1 90); do
+        if curl -sf "$url" > /dev/null; then
+            echo "✅ $name prêt"
+            return 0
+        fi
+        sleep 2
+    done
+    echo "❌ $name ne répond pas ($url)"
+    exit 1
+}
+
+echo "🐳 Démarrage de l'infrastructure locale..."
+docker-compose up -d postgresql mongodb rabbitmq
+
+echo "🔨 Construction..."
+mvn -B -q $MVN_ARGS install -DskipTests -pl shared-dto,project-service,task-service,load-test -am
+
+mkdir -p logs
+echo "🔑 Émetteur JWT de substitution..."
+mvn -B -q $MVN_ARGS -pl load-test exec:java -Dexec.args="issuer" > logs/load-test-issuer.log 2>&1 &
+PIDS+=($!)
+wait_for http://localhost:8180/realms/projecttaskhub/.well-known/openid-configuration "Émetteur JWT"
+
+if [ "$SKIP_SEED" != "1" ]; then
+    echo "🌱 Chargement du jeu de données..."
+    mvn -B -q $MVN_ARGS -pl load-test exec:java -Dexec.args="seed $SEED_ARGS"
+fi
+
+echo "🚀 Démarrage des services..."
+java -jar project-service/target/project-service-*.jar \
+    --spring.config.additional-location=file:load-test/config/project-service.yml > logs/load-test-project-service.log 2>&1 &
+PIDS+=($!)
+java -jar task-service/target/task-service-*.jar \
+    --spring.config.additional-location=file:load-test/config/task-service.yml > logs/load-test-task-service.log 2>&1 &
+PIDS+=($!)
+wait_for http://localhost:8081/actuator/health project-service
+wait_for http://localhost:8082/actuator/health task-service
+
+echo "📈 Injection de charge..."
+(cd load-test && mvn -B -q $MVN_ARGS exec:java -Dexec.args="run $SEED_ARGS $*")
@@ -0,0 +1,40 @@
+#!/bin/bash
+# Lecture des traces exportées localement par les services (TailSamplingSpanExporter).
+#
+# Usage :
+#   ./scripts/trace.sh              les 20 traces gardées les plus lentes (span racine de chaque service)
+#   ./scripts/trace.sh <traceId>    tous les spans de la trace, tous services confondus, par ordre de début
+#
+# Variables :
+#   TRACE_FILES   fichiers à lire (défaut : logs/traces/*.jsonl et */logs/traces/*.jsonl)
+#
+# Prérequis : jq
+
+set -e
+
+if ! command -v jq > /dev/null; then
+    echo "❌ jq est requis"
+    exit 1
+fi
+
+shopt -s nullglob
+FILES=(${TRACE_FILES:-logs/traces/*.jsonl */logs/traces/*.jsonl})
+if [ ${#FILES[@]} -eq 0 ]; then
+    echo "❌ Aucun fichier de traces (logs/traces/*.jsonl)"
+    exit 1
+fi
+
+if [ -z "$1" ]; then
+    # Racines locales : sans parent, ou parent dans un autre service (span SERVER / CONSUMER)
+    cat "${FILES[@]}" | jq -rs '
+        map(select(.parentSpanId == null or .kind == "SERVER" or .kind == "CONSUMER"))
+        | sort_by(-.durationMicros) | .[:20][]
+        | "\(.traceId)  \(.durationMicros / 1000 | floor) ms\t\(.service)\t\(.name)\t\(.status)"'
+    exit 0
+fi
+
+cat "${FILES[@]}" | jq -rs --arg trace "$1" '
+    map(select(.traceId == $trace)) | sort_by(.startEpochMicros)
+    | (.[0].startEpochMicros // 0) as $origin
+    | .[]
+    | "+\((.startEpochMicros - $origin) / 1000) ms\t\(.durationMicros / 1000) ms\t\(.service)\t\(.kind)\t\(.name)\t\(.status)"'
@@ -0,0 +1,78 @@
+package com.projecttaskhub.shareddto.discovery;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Signaux de charge publiés par une instance dans ses métadonnées Eureka,
+ * lus par la gateway et les clients Feign pour pondérer le choix d'instance.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InstanceLoad {
+
+    public static final String IN_FLIGHT = "load.in-flight";
+    public static final String POOL_WAIT = "load.pool-wait";
+    public static final String BACKLOG = "load.backlog";
+    public static final String UPDATED_AT = "load.updated-at";
+
+    // Un thread en attente de connexion pèse plus qu'une requête en cours
+    private static final double POOL_WAIT_WEIGHT = 4.0;
+    // Le backlog d'un listener ne pèse qu'indirectement sur les requêtes HTTP
+    private static final double BACKLOG_WEIGHT = 0.01;
+
+    private int inFlight;
+    private int poolWait;
+    private long backlog;
+    private long updatedAt;
+
+    public double score() {
+        return inFlight + POOL_WAIT_WEIGHT * poolWait + BACKLOG_WEIGHT * backlog;
+    }
+
+    public boolean isStale(long nowMillis, long maxAgeMillis) {
+        return nowMillis - updatedAt > maxAgeMillis;
+    }
+
+    // Score publié dans les métadonnées d'une instance ; 0 s'il est absent ou périmé
+    public static double publishedScore(Map<String, String> metadata, long maxAgeMillis) {
+        InstanceLoad load = fromMetadata(metadata);
+        if (load == null || load.isStale(System.currentTimeMillis(), maxAgeMillis)) {
+            return 0;
+        }
+        return load.score();
+    }
+
+    public Map<String, String> toMetadata() {
+        Map<String, String> metadata = new HashMap<>();
+        metadata.put(IN_FLIGHT, Integer.toString(inFlight));
+        metadata.put(POOL_WAIT, Integer.toString(poolWait));
+        metadata.put(BACKLOG, Long.toString(backlog));
+        metadata.put(UPDATED_AT, Long.toString(updatedAt));
+        return metadata;
+    }
+
+    // Retourne null si l'instance ne publie pas (ou mal) ses signaux de charge
+    public static InstanceLoad fromMetadata(Map<String, String> metadata) {
+        if (metadata == null || !metadata.containsKey(UPDATED_AT)) {
+            return null;
+        }
+        try {
+            return InstanceLoad.builder()
+                    .inFlight(Integer.parseInt(metadata.getOrDefault(IN_FLIGHT, "0")))
+                    .poolWait(Integer.parseInt(metadata.getOrDefault(POOL_WAIT, "0")))
+                    .backlog(Long.parseLong(metadata.getOrDefault(BACKLOG, "0")))
+                    .updatedAt(Long.parseLong(metadata.get(UPDATED_AT)))
+                    .build();
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.projecttaskhub.shareddto.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Page lue par clé (keyset) : la page suivante se demande avec after = nextCursor,
+ * sans OFFSET, donc à coût constant quelle que soit la profondeur.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class KeysetPage<T> {
+    private List<T> content;
+
+    // Dernier identifiant de la page, null s'il n'y a pas de page suivante
+    private Long nextCursor;
+
+    private boolean hasNext;
+}
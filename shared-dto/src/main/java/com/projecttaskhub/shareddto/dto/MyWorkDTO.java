@@ -0,0 +1,34 @@
+package com.projecttaskhub.shareddto.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Vue « mon travail » d'un utilisateur : ses tâches, leur répartition par statut et
+ * les tâches ouvertes arrivant à échéance, calculées en une seule réponse par task-service.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MyWorkDTO {
+    private String assignedTo;
+
+    private List<TaskDTO> tasks;
+
+    private long totalTasks;
+
+    private Map<TaskStatus, Long> countsByStatus;
+
+    private List<TaskDTO> dueSoon;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime dueSoonUntil;
+}
@@ -0,0 +1,33 @@
+package com.projecttaskhub.shareddto.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Activité d'un projet, agrégée dans project-service à partir des événements de tâches.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectActivityDTO {
+    private Long projectId;
+
+    private String name;
+
+    private ProjectStatus status;
+
+    private String owner;
+
+    private long openTasks;
+
+    private long doneTasks;
+
+    private long overdueTasks;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime lastActivityAt;
+}
@@ -0,0 +1,27 @@
+package com.projecttaskhub.shareddto.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectImportResult {
+    private long received;
+    private long imported;
+
+    // Nom déjà utilisé par le propriétaire (en base ou plus haut dans le même import)
+    private long duplicates;
+
+    private long invalid;
+
+    // Premières erreurs de validation, pour diagnostic
+    private List<String> errors;
+
+    private long durationMs;
+}
@@ -23,6 +23,11 @@ public class TaskDTO {
     @NotNull(message = "L'ID du projet est obligatoire")
     private Long projectId;
 
+    // Résumé du projet dénormalisé dans la tâche (lecture seule)
+    private String projectName;
+
+    private ProjectStatus projectStatus;
+
     @NotNull(message = "Le statut est obligatoire")
     private TaskStatus status;
 
@@ -1,10 +1,13 @@
 package com.projecttaskhub.shareddto.event;
 
+import com.projecttaskhub.shareddto.dto.ProjectStatus;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
 
 @Data
 @NoArgsConstructor
@@ -13,6 +16,19 @@ public class ProjectEvent {
     private String eventType;
     private Long projectId;
     private String projectName;
+    private ProjectStatus status;
+
+    // Version du projet (updatedAt en ms) : permet aux consommateurs d'ignorer un événement
+    // arrivé après un état plus récent
+    private Long version;
+
     private String eventData;
     private LocalDateTime timestamp;
+
+    // Renseigné pour les événements groupés (import en masse) à la place de projectId
+    private List<Long> projectIds;
+
+    public static long versionOf(LocalDateTime updatedAt) {
+        return updatedAt == null ? 0L : updatedAt.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
 }
@@ -1,5 +1,7 @@
 package com.projecttaskhub.shareddto.event;
 
+import com.projecttaskhub.shareddto.dto.TaskPriority;
+import com.projecttaskhub.shareddto.dto.TaskStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -16,6 +18,13 @@ public class TaskEvent {
     private String taskId;
     private Long projectId;
     private String taskTitle;
+
+    // État de la tâche après l'événement, pour les projections des consommateurs
+    private TaskStatus status;
+    private TaskPriority priority;
+    private String assignedTo;
+    private LocalDateTime dueDate;
+
     private String eventData;
     private LocalDateTime timestamp;
 }
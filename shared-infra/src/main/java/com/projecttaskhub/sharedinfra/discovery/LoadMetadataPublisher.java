@@ -0,0 +1,70 @@
+package com.projecttaskhub.sharedinfra.discovery;
+
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.projecttaskhub.shareddto.discovery.InstanceLoad;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.List;
+
+/**
+ * Publie périodiquement les signaux de charge de l'instance (requêtes en cours,
+ * attente sur le pool de connexions, backlog des listeners) dans ses métadonnées Eureka.
+ */
+@Slf4j
+public class LoadMetadataPublisher {
+
+    private final ApplicationInfoManager applicationInfoManager;
+    private final InFlightRequestFilter inFlightRequestFilter;
+    private final ObjectProvider<PoolWaitProbe> poolWaitProbe;
+    private final ObjectProvider<AmqpAdmin> amqpAdmin;
+    private final List<String> backlogQueues;
+
+    public LoadMetadataPublisher(ApplicationInfoManager applicationInfoManager,
+                                 InFlightRequestFilter inFlightRequestFilter,
+                                 ObjectProvider<PoolWaitProbe> poolWaitProbe,
+                                 ObjectProvider<AmqpAdmin> amqpAdmin,
+                                 List<String> backlogQueues) {
+        this.applicationInfoManager = applicationInfoManager;
+        this.inFlightRequestFilter = inFlightRequestFilter;
+        this.poolWaitProbe = poolWaitProbe;
+        this.amqpAdmin = amqpAdmin;
+        this.backlogQueues = backlogQueues;
+    }
+
+    @Scheduled(fixedDelayString = "${load-metadata.refresh-interval-ms:10000}")
+    public void publish() {
+        PoolWaitProbe probe = poolWaitProbe.getIfAvailable();
+        InstanceLoad load = InstanceLoad.builder()
+                .inFlight(inFlightRequestFilter.getInFlight())
+                .poolWait(probe == null ? 0 : probe.threadsAwaitingConnection())
+                .backlog(listenerBacklog())
+                .updatedAt(System.currentTimeMillis())
+                .build();
+
+        applicationInfoManager.registerAppMetadata(load.toMetadata());
+        log.debug("Métadonnées de charge publiées: {}", load);
+    }
+
+    private long listenerBacklog() {
+        AmqpAdmin admin = amqpAdmin.getIfAvailable();
+        if (admin == null) {
+            return 0;
+        }
+        long backlog = 0;
+        for (String queue : backlogQueues) {
+            try {
+                QueueInformation info = admin.getQueueInfo(queue);
+                if (info != null) {
+                    backlog += info.getMessageCount();
+                }
+            } catch (Exception e) {
+                log.debug("Backlog indisponible pour la queue {}: {}", queue, e.getMessage());
+            }
+        }
+        return backlog;
+    }
+}
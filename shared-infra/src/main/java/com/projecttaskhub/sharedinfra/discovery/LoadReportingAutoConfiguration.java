@@ -0,0 +1,41 @@
+package com.projecttaskhub.sharedinfra.discovery;
+
+import com.netflix.appinfo.ApplicationInfoManager;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+
+import java.util.List;
+
+/**
+ * Signaux de charge des services servlet inscrits dans Eureka ({@link LoadMetadataPublisher}).
+ * Chaque service fournit au besoin sa {@link PoolWaitProbe} et la liste
+ * {@code load-metadata.backlog-queues} des queues dont le backlog compte.
+ */
+@AutoConfiguration(afterName = "org.springframework.cloud.netflix.eureka.EurekaClientAutoConfiguration")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnClass({ApplicationInfoManager.class, AmqpAdmin.class})
+@ConditionalOnBean(ApplicationInfoManager.class)
+public class LoadReportingAutoConfiguration {
+
+    @Bean
+    public InFlightRequestFilter inFlightRequestFilter() {
+        return new InFlightRequestFilter();
+    }
+
+    @Bean
+    public LoadMetadataPublisher loadMetadataPublisher(
+            ApplicationInfoManager applicationInfoManager,
+            InFlightRequestFilter inFlightRequestFilter,
+            ObjectProvider<PoolWaitProbe> poolWaitProbe,
+            ObjectProvider<AmqpAdmin> amqpAdmin,
+            @Value("${load-metadata.backlog-queues:}") List<String> backlogQueues) {
+        return new LoadMetadataPublisher(applicationInfoManager, inFlightRequestFilter, poolWaitProbe,
+                amqpAdmin, backlogQueues);
+    }
+}
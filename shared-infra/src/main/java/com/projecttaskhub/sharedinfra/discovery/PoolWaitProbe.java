@@ -0,0 +1,11 @@
+package com.projecttaskhub.sharedinfra.discovery;
+
+/**
+ * Nombre de threads en attente d'une connexion au stockage du service (pool Hikari,
+ * pool MongoDB...), publié comme signal de charge. Sans bean de ce type, 0 est publié.
+ */
+@FunctionalInterface
+public interface PoolWaitProbe {
+
+    int threadsAwaitingConnection();
+}
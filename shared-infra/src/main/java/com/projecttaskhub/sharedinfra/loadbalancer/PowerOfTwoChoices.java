@@ -0,0 +1,39 @@
+package com.projecttaskhub.sharedinfra.loadbalancer;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BinaryOperator;
+import java.util.function.Predicate;
+
+/**
+ * Sélection "power of two choices" commune aux load balancers de la gateway et des
+ * services : les instances saturées sont écartées tant qu'il en reste une autre, puis
+ * deux instances distinctes sont tirées au hasard et départagées par {@code better}.
+ */
+public final class PowerOfTwoChoices {
+
+    private PowerOfTwoChoices() {
+    }
+
+    // Liste non vide
+    public static <T> T select(List<T> instances, Predicate<T> saturated, BinaryOperator<T> better) {
+        List<T> candidates = instances.stream()
+                .filter(saturated.negate())
+                .toList();
+        if (candidates.isEmpty()) {
+            // Toutes saturées : mieux vaut répartir que refuser
+            candidates = instances;
+        }
+        if (candidates.size() == 1) {
+            return candidates.get(0);
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(candidates.size());
+        int second = random.nextInt(candidates.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        return better.apply(candidates.get(first), candidates.get(second));
+    }
+}
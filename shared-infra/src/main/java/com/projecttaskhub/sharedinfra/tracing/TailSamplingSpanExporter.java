@@ -0,0 +1,236 @@
+package com.projecttaskhub.sharedinfra.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Export local des spans avec échantillonnage en fin de trace (tail sampling).
+ * <p>
+ * Toutes les traces sont enregistrées ; les spans terminés attendent ici la fin du span
+ * racine local (requête HTTP reçue, message consommé, tâche planifiée). La trace est alors
+ * gardée si ce span a duré au moins {@code latencyThresholdMillis}, si l'un de ses spans est
+ * en erreur, ou si son traceId tombe dans la part {@code baselineRatio}. Ce dernier tirage ne
+ * dépend que du traceId : tous les services gardent les mêmes traces de référence.
+ * <p>
+ * Une trace dont la racine n'est pas terminée après {@code pendingTimeoutMillis} est gardée
+ * (elle est lente par définition). Les spans gardés sont ajoutés au fichier, un objet JSON
+ * par ligne.
+ */
+@Slf4j
+public class TailSamplingSpanExporter implements SpanExporter {
+
+    private static final AttributeKey<String> SERVICE_NAME = AttributeKey.stringKey("service.name");
+    private static final int MAX_DECIDED_TRACES = 50_000;
+
+    private final Path file;
+    private final long latencyThresholdNanos;
+    private final double baselineRatio;
+    private final long pendingTimeoutNanos;
+    private final int maxPendingTraces;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // Ordre d'arrivée : les plus anciennes traces en attente sont en tête
+    private final LinkedHashMap<String, PendingTrace> pending = new LinkedHashMap<>();
+    // Décisions récentes, pour les spans terminés après leur racine (tentative de couverture abandonnée, ...)
+    private final Map<String, Boolean> decided = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > MAX_DECIDED_TRACES;
+        }
+    };
+    private BufferedWriter writer;
+
+    public TailSamplingSpanExporter(Path file, long latencyThresholdMillis, double baselineRatio,
+                                    long pendingTimeoutMillis, int maxPendingTraces, MeterRegistry meterRegistry) {
+        this.file = file;
+        this.latencyThresholdNanos = latencyThresholdMillis * 1_000_000;
+        this.baselineRatio = baselineRatio;
+        this.pendingTimeoutNanos = pendingTimeoutMillis * 1_000_000;
+        this.maxPendingTraces = maxPendingTraces;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> spans) {
+        List<SpanData> kept = new ArrayList<>();
+        long now = System.nanoTime();
+        for (SpanData span : spans) {
+            String traceId = span.getTraceId();
+            Boolean keep = decided.get(traceId);
+            if (keep != null) {
+                if (keep) {
+                    kept.add(span);
+                }
+                continue;
+            }
+            PendingTrace trace = pending.computeIfAbsent(traceId, id -> new PendingTrace(now));
+            trace.add(span);
+            if (isLocalRoot(span)) {
+                pending.remove(traceId);
+                decide(traceId, trace, decision(trace, span), kept);
+            }
+        }
+        expire(now, kept);
+        return write(kept);
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public synchronized CompletableResultCode shutdown() {
+        // Traces inachevées à l'arrêt : seules celles en erreur sont gardées
+        List<SpanData> kept = new ArrayList<>();
+        pending.forEach((traceId, trace) -> decide(traceId, trace, trace.error ? "error" : "dropped", kept));
+        pending.clear();
+        CompletableResultCode result = write(kept);
+        try {
+            if (writer != null) {
+                writer.close();
+            }
+        } catch (IOException e) {
+            log.warn("Fermeture de {} impossible: {}", file, e.getMessage());
+        }
+        return result;
+    }
+
+    private String decision(PendingTrace trace, SpanData root) {
+        if (trace.error) {
+            return "error";
+        }
+        if (root.getEndEpochNanos() - root.getStartEpochNanos() >= latencyThresholdNanos) {
+            return "slow";
+        }
+        return inBaseline(root.getTraceId()) ? "baseline" : "dropped";
+    }
+
+    private void expire(long now, List<SpanData> kept) {
+        Iterator<Map.Entry<String, PendingTrace>> iterator = pending.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, PendingTrace> entry = iterator.next();
+            PendingTrace trace = entry.getValue();
+            boolean timedOut = now - trace.firstSeenNanos >= pendingTimeoutNanos;
+            boolean overflow = pending.size() > maxPendingTraces;
+            if (!timedOut && !overflow) {
+                break;
+            }
+            iterator.remove();
+            decide(entry.getKey(), trace, timedOut ? "timeout" : trace.error ? "error" : "overflow", kept);
+        }
+    }
+
+    private void decide(String traceId, PendingTrace trace, String decision, List<SpanData> kept) {
+        boolean keep = !"dropped".equals(decision) && !"overflow".equals(decision);
+        decided.put(traceId, keep);
+        if (keep) {
+            kept.addAll(trace.spans);
+        }
+        meterRegistry.counter("tracing.tail_sampling.traces", "decision", decision).increment();
+    }
+
+    // Bits de poids faible du traceId W3C (aléatoires) ramenés dans [0, 1)
+    private boolean inBaseline(String traceId) {
+        long random = Long.parseUnsignedLong(traceId.substring(16), 16) >>> 11;
+        return random * 0x1.0p-53 < baselineRatio;
+    }
+
+    private static boolean isLocalRoot(SpanData span) {
+        SpanContext parent = span.getParentSpanContext();
+        return !parent.isValid() || parent.isRemote();
+    }
+
+    private CompletableResultCode write(List<SpanData> spans) {
+        if (spans.isEmpty()) {
+            return CompletableResultCode.ofSuccess();
+        }
+        try {
+            if (writer == null) {
+                Files.createDirectories(file.toAbsolutePath().getParent());
+                writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+            for (SpanData span : spans) {
+                writer.write(objectMapper.writeValueAsString(toJson(span)));
+                writer.newLine();
+            }
+            writer.flush();
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            log.warn("Écriture de {} spans dans {} impossible: {}", spans.size(), file, e.getMessage());
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    private static Map<String, Object> toJson(SpanData span) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("traceId", span.getTraceId());
+        json.put("spanId", span.getSpanId());
+        if (span.getParentSpanContext().isValid()) {
+            json.put("parentSpanId", span.getParentSpanId());
+        }
+        json.put("service", span.getResource().getAttribute(SERVICE_NAME));
+        json.put("name", span.getName());
+        json.put("kind", span.getKind().name());
+        json.put("startEpochMicros", span.getStartEpochNanos() / 1_000);
+        json.put("durationMicros", (span.getEndEpochNanos() - span.getStartEpochNanos()) / 1_000);
+        json.put("status", span.getStatus().getStatusCode().name());
+        json.put("attributes", attributes(span.getAttributes()));
+        if (!span.getEvents().isEmpty()) {
+            json.put("events", span.getEvents().stream()
+                    .map(event -> Map.of("name", event.getName(), "attributes", attributes(event.getAttributes())))
+                    .toList());
+        }
+        if (!span.getLinks().isEmpty()) {
+            json.put("links", span.getLinks().stream()
+                    .map(link -> Map.of("traceId", link.getSpanContext().getTraceId(),
+                            "spanId", link.getSpanContext().getSpanId()))
+                    .toList());
+        }
+        return json;
+    }
+
+    private static Map<String, Object> attributes(Attributes attributes) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        attributes.forEach((key, value) -> values.put(key.getKey(), value));
+        return values;
+    }
+
+    private static final class PendingTrace {
+        private final long firstSeenNanos;
+        private final List<SpanData> spans = new ArrayList<>();
+        private boolean error;
+
+        private PendingTrace(long firstSeenNanos) {
+            this.firstSeenNanos = firstSeenNanos;
+        }
+
+        private void add(SpanData span) {
+            spans.add(span);
+            error |= span.getStatus().getStatusCode() == StatusCode.ERROR;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.projecttaskhub.sharedinfra.tracing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+
+import java.nio.file.Path;
+
+/**
+ * Traces exportées dans un fichier local (aucun collecteur requis). Le BatchSpanProcessor
+ * de Spring Boot transmet les spans terminés à l'exportateur, qui ne garde que les traces
+ * lentes, en erreur ou tirées dans l'échantillon de référence.
+ */
+@AutoConfiguration
+@ConditionalOnClass(SpanExporter.class)
+public class TracingAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public TailSamplingSpanExporter tailSamplingSpanExporter(
+            MeterRegistry meterRegistry,
+            @Value("${tracing.export.file:logs/traces/${spring.application.name}.jsonl}") String file,
+            @Value("${tracing.tail-sampling.latency-threshold-ms:500}") long latencyThresholdMillis,
+            @Value("${tracing.tail-sampling.baseline-ratio:0.01}") double baselineRatio,
+            @Value("${tracing.tail-sampling.pending-timeout-ms:30000}") long pendingTimeoutMillis,
+            @Value("${tracing.tail-sampling.max-pending-traces:10000}") int maxPendingTraces) {
+        return new TailSamplingSpanExporter(Path.of(file), latencyThresholdMillis, baselineRatio,
+                pendingTimeoutMillis, maxPendingTraces, meterRegistry);
+    }
+}
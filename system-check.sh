@@ -242,7 +242,7 @@ else
 fi
 
 # Vérifier les services
-SERVICES=("shared-dto" "config-server" "discovery-server" "api-gateway" "project-service" "task-service")
+SERVICES=("shared-dto" "shared-infra" "config-server" "discovery-server" "api-gateway" "project-service" "task-service")
 for service in "${SERVICES[@]}"; do
     if [ -d "$service" ]; then
         if [ -f "$service/pom.xml" ]; then
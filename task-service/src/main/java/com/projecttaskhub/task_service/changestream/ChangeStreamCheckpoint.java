@@ -0,0 +1,28 @@
+package com.projecttaskhub.task_service.changestream;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Jeton de reprise (JSON) du dernier lot traité par un abonné au flux de modifications :
+ * au redémarrage, le flux reprend juste après.
+ */
+@Document(collection = "change_stream_checkpoints")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChangeStreamCheckpoint {
+
+    @Id
+    private String id;
+
+    private String resumeToken;
+    private LocalDateTime updatedAt;
+}
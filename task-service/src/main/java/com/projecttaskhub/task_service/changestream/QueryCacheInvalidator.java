@@ -0,0 +1,33 @@
+package com.projecttaskhub.task_service.changestream;
+
+import com.projecttaskhub.task_service.cqrs.bus.middleware.QueryCacheMiddleware;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Vide les caches de requêtes du bus une fois par lot de modifications : les écritures faites
+ * hors du bus ou par une autre instance ne sont plus vues seulement à expiration.
+ */
+@Component
+@RequiredArgsConstructor
+public class QueryCacheInvalidator implements TaskChangeHandler {
+
+    private final QueryCacheMiddleware queryCacheMiddleware;
+
+    @Override
+    public String name() {
+        return "query-cache";
+    }
+
+    @Override
+    public void onChanges(List<TaskChange> changes) {
+        queryCacheMiddleware.invalidateAll();
+    }
+
+    @Override
+    public void onReset() {
+        queryCacheMiddleware.invalidateAll();
+    }
+}
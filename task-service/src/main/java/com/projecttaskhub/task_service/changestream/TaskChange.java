@@ -0,0 +1,16 @@
+package com.projecttaskhub.task_service.changestream;
+
+import com.projecttaskhub.task_service.entity.Task;
+
+import java.time.Instant;
+
+/**
+ * Modification d'un document de la collection tasks lue dans le flux de modifications :
+ * le document tel qu'il est après l'écriture (relu par MongoDB), ou null pour une suppression.
+ */
+public record TaskChange(String taskId, Task task, Instant occurredAt) {
+
+    public boolean deleted() {
+        return task == null;
+    }
+}
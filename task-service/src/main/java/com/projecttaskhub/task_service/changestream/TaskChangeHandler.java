@@ -0,0 +1,22 @@
+package com.projecttaskhub.task_service.changestream;
+
+import java.util.List;
+
+/**
+ * Destinataire des modifications de la collection tasks, quelle que soit leur origine
+ * (commandes, suppression d'un projet, correction manuelle). Les lots arrivent dans l'ordre
+ * du flux ; après un redémarrage, les modifications du dernier lot non confirmé peuvent être
+ * reçues une seconde fois : leur traitement doit être idempotent.
+ */
+public interface TaskChangeHandler {
+
+    String name();
+
+    void onChanges(List<TaskChange> changes);
+
+    /**
+     * Modifications perdues (historique du flux dépassé, collection supprimée ou renommée) :
+     * tout état dérivé de tasks est à recalculer.
+     */
+    void onReset();
+}
@@ -0,0 +1,368 @@
+package com.projecttaskhub.task_service.changestream;
+
+import com.mongodb.MongoServerException;
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import com.projecttaskhub.task_service.entity.Task;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Abonné au flux de modifications (change stream) de la collection tasks : toute écriture,
+ * commande ou non, parvient aux {@link TaskChangeHandler} (caches de requêtes, index en
+ * mémoire...). Exige un replica set, même à un seul nœud.
+ * <p>
+ * Les modifications sont regroupées en lots (au plus {@code batch-size}, au plus
+ * {@code max-wait-ms} d'attente) ; après chaque lot, le jeton de reprise est enregistré dans
+ * change_stream_checkpoints sous {@code checkpoint-id}. Après une erreur ou un redémarrage, le
+ * flux reprend après le dernier lot traité. Si cette position n'est plus dans l'historique
+ * (oplog), ou si la collection est supprimée, le flux repart de maintenant et les handlers
+ * recalculent leur état ({@link TaskChangeHandler#onReset()}).
+ * <p>
+ * Retard mesuré par modification entre l'écriture (horloge du serveur) et sa réception.
+ */
+@Component
+@ConditionalOnProperty(name = "change-stream.enabled", havingValue = "true")
+@Slf4j
+public class TaskChangeStreamSubscriber implements SmartLifecycle {
+
+    // ChangeStreamHistoryLost, ChangeStreamFatalError : reprise impossible depuis le jeton
+    private static final Set<Integer> HISTORY_LOST = Set.of(286, 280);
+    private static final Set<OperationType> INVALIDATING = Set.of(
+            OperationType.DROP, OperationType.RENAME, OperationType.DROP_DATABASE, OperationType.INVALIDATE);
+
+    private final MongoTemplate mongoTemplate;
+    private final List<TaskChangeHandler> handlers;
+    private final MeterRegistry meterRegistry;
+    private final String checkpointId;
+    private final int batchSize;
+    private final long maxWaitMillis;
+    private final long checkpointIntervalMillis;
+    private final long retryBackoffMillis;
+    private final String collection;
+
+    private final Timer lag;
+    private final DistributionSummary batchSizes;
+
+    private volatile boolean running;
+    private volatile Thread worker;
+    private volatile MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor;
+    // Jeton du dernier lot traité : point de reprise après une erreur
+    private BsonDocument checkpoint;
+
+    public TaskChangeStreamSubscriber(MongoTemplate mongoTemplate,
+                                      List<TaskChangeHandler> handlers,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${change-stream.checkpoint-id:${spring.application.name}-${HOSTNAME:local}}") String checkpointId,
+                                      @Value("${change-stream.batch-size:200}") int batchSize,
+                                      @Value("${change-stream.max-wait-ms:100}") long maxWaitMillis,
+                                      @Value("${change-stream.checkpoint-interval-ms:10000}") long checkpointIntervalMillis,
+                                      @Value("${change-stream.retry-backoff-ms:1000}") long retryBackoffMillis) {
+        this.mongoTemplate = mongoTemplate;
+        this.handlers = handlers;
+        this.meterRegistry = meterRegistry;
+        this.checkpointId = checkpointId;
+        this.batchSize = batchSize;
+        this.maxWaitMillis = maxWaitMillis;
+        this.checkpointIntervalMillis = checkpointIntervalMillis;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.collection = mongoTemplate.getCollectionName(Task.class);
+
+        this.lag = Timer.builder("task.changestream.lag")
+                .description("Délai entre une écriture dans tasks et sa réception par le flux de modifications")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("task.changestream.batch")
+                .description("Modifications par lot transmis aux handlers")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        Thread thread = new Thread(this::run, "task-change-stream");
+        thread.setDaemon(true);
+        worker = thread;
+        thread.start();
+        log.info("Flux de modifications de {} démarré (reprise : {}, handlers : {})", collection, checkpointId,
+                handlers.stream().map(TaskChangeHandler::name).toList());
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        Thread thread = worker;
+        if (thread == null) {
+            return;
+        }
+        // Sort de l'attente du serveur ; le lot en cours sera relu au démarrage suivant
+        closeQuietly(cursor);
+        try {
+            thread.join(Math.max(1000, maxWaitMillis * 2));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        worker = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Flux ouvert côté serveur : toute écriture ultérieure sera reçue
+    boolean listening() {
+        return cursor != null;
+    }
+
+    private void run() {
+        boolean checkpointLoaded = false;
+        boolean resetPending = false;
+        while (running) {
+            try {
+                if (!checkpointLoaded) {
+                    checkpoint = loadCheckpoint();
+                    checkpointLoaded = true;
+                }
+                try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> opened = open(checkpoint)) {
+                    cursor = opened;
+                    if (resetPending) {
+                        // Flux ouvert avant le recalcul : aucune écriture ne passe entre les deux
+                        reset();
+                        resetPending = false;
+                    }
+                    if (consume(opened)) {
+                        log.warn("Flux de modifications de {} invalidé (collection supprimée ou renommée) : reprise à partir de maintenant",
+                                collection);
+                        restarted("invalidated");
+                        forgetCheckpoint();
+                        resetPending = true;
+                    }
+                }
+            } catch (MongoServerException e) {
+                if (!running) {
+                    break;
+                }
+                if (HISTORY_LOST.contains(e.getCode())) {
+                    log.warn("Point de reprise {} hors de l'historique du flux : reprise à partir de maintenant", checkpointId);
+                    restarted("history_lost");
+                    forgetCheckpoint();
+                    resetPending = true;
+                } else {
+                    retryLater(e);
+                }
+            } catch (Exception e) {
+                if (!running) {
+                    break;
+                }
+                retryLater(e);
+            } finally {
+                cursor = null;
+            }
+        }
+    }
+
+    private MongoChangeStreamCursor<ChangeStreamDocument<Document>> open(BsonDocument resumeToken) {
+        ChangeStreamIterable<Document> stream = mongoTemplate.getCollection(collection)
+                .watch()
+                .fullDocument(FullDocument.UPDATE_LOOKUP)
+                .batchSize(batchSize)
+                .maxAwaitTime(maxWaitMillis, TimeUnit.MILLISECONDS);
+        if (resumeToken != null) {
+            stream = stream.resumeAfter(resumeToken);
+        }
+        return stream.cursor();
+    }
+
+    /**
+     * Lit le flux jusqu'à l'arrêt ; renvoie vrai si le flux a été invalidé.
+     */
+    private boolean consume(MongoChangeStreamCursor<ChangeStreamDocument<Document>> opened) {
+        List<TaskChange> batch = new ArrayList<>(batchSize);
+        BsonDocument batchToken = null;
+        long batchStartedNanos = 0;
+        long lastCheckpointNanos = System.nanoTime();
+        while (running) {
+            ChangeStreamDocument<Document> event = opened.tryNext();
+            long now = System.nanoTime();
+            if (event != null) {
+                if (INVALIDATING.contains(event.getOperationType())) {
+                    dispatch(batch, batchToken);
+                    return true;
+                }
+                TaskChange change = toChange(event);
+                if (change != null) {
+                    if (batch.isEmpty()) {
+                        batchStartedNanos = now;
+                    }
+                    batch.add(change);
+                    lag.record(Duration.between(change.occurredAt(), Instant.now()));
+                }
+                batchToken = event.getResumeToken();
+            }
+
+            boolean flush = !batch.isEmpty()
+                    && (event == null || batch.size() >= batchSize
+                    || now - batchStartedNanos >= TimeUnit.MILLISECONDS.toNanos(maxWaitMillis));
+            if (flush) {
+                dispatch(batch, batchToken);
+                batch.clear();
+                lastCheckpointNanos = now;
+            } else if (event == null && now - lastCheckpointNanos >= TimeUnit.MILLISECONDS.toNanos(checkpointIntervalMillis)) {
+                // Flux calme : le jeton avance quand même, pour rester dans l'historique
+                BsonDocument idleToken = opened.getResumeToken();
+                if (idleToken != null && !idleToken.equals(checkpoint)) {
+                    saveCheckpoint(idleToken);
+                }
+                lastCheckpointNanos = now;
+            }
+        }
+        return false;
+    }
+
+    private void dispatch(List<TaskChange> batch, BsonDocument batchToken) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<TaskChange> changes = List.copyOf(batch);
+        for (TaskChangeHandler handler : handlers) {
+            try {
+                handler.onChanges(changes);
+            } catch (Exception e) {
+                // Pas de nouvelle tentative : un lot en échec bloquerait le flux pour tous
+                meterRegistry.counter("task.changestream.handler.errors", "handler", handler.name()).increment();
+                log.error("Handler {} en échec sur un lot de {} modifications: {}",
+                        handler.name(), changes.size(), e.getMessage(), e);
+            }
+        }
+        batchSizes.record(changes.size());
+        saveCheckpoint(batchToken);
+    }
+
+    private void reset() {
+        for (TaskChangeHandler handler : handlers) {
+            try {
+                handler.onReset();
+            } catch (Exception e) {
+                meterRegistry.counter("task.changestream.handler.errors", "handler", handler.name()).increment();
+                log.error("Recalcul du handler {} en échec: {}", handler.name(), e.getMessage(), e);
+            }
+        }
+    }
+
+    private TaskChange toChange(ChangeStreamDocument<Document> event) {
+        OperationType type = event.getOperationType();
+        String taskId = taskId(event.getDocumentKey());
+        if (taskId == null) {
+            return null;
+        }
+        Instant occurredAt = event.getWallTime() != null
+                ? Instant.ofEpochMilli(event.getWallTime().getValue())
+                : Instant.ofEpochSecond(event.getClusterTime().getTime());
+        meterRegistry.counter("task.changestream.events", "operation", type.getValue()).increment();
+
+        if (type == OperationType.DELETE) {
+            return new TaskChange(taskId, null, occurredAt);
+        }
+        // Document relu après l'écriture ; absent : supprimé depuis, la suppression suit dans le flux
+        Document document = event.getFullDocument();
+        if (document == null) {
+            return null;
+        }
+        return new TaskChange(taskId, mongoTemplate.getConverter().read(Task.class, document), occurredAt);
+    }
+
+    private static String taskId(BsonDocument documentKey) {
+        if (documentKey == null || !documentKey.containsKey("_id")) {
+            return null;
+        }
+        BsonValue id = documentKey.get("_id");
+        if (id.isObjectId()) {
+            return id.asObjectId().getValue().toHexString();
+        }
+        return id.isString() ? id.asString().getValue() : id.toString();
+    }
+
+    private BsonDocument loadCheckpoint() {
+        ChangeStreamCheckpoint saved = mongoTemplate.findById(checkpointId, ChangeStreamCheckpoint.class);
+        if (saved == null || saved.getResumeToken() == null) {
+            return null;
+        }
+        log.info("Reprise du flux de modifications de {} au point enregistré le {}", collection, saved.getUpdatedAt());
+        return BsonDocument.parse(saved.getResumeToken());
+    }
+
+    private void saveCheckpoint(BsonDocument token) {
+        if (token == null) {
+            return;
+        }
+        mongoTemplate.save(ChangeStreamCheckpoint.builder()
+                .id(checkpointId)
+                .resumeToken(token.toJson())
+                .updatedAt(LocalDateTime.now())
+                .build());
+        checkpoint = token;
+    }
+
+    private void forgetCheckpoint() {
+        checkpoint = null;
+        try {
+            mongoTemplate.remove(new Query(Criteria.where("_id").is(checkpointId)), ChangeStreamCheckpoint.class);
+        } catch (Exception e) {
+            // Jeton périmé relu au prochain démarrage : traité comme un historique perdu
+            log.warn("Point de reprise {} non effacé: {}", checkpointId, e.getMessage());
+        }
+    }
+
+    private void retryLater(Exception e) {
+        restarted("error");
+        log.warn("Flux de modifications de {} interrompu, reprise dans {} ms: {}", collection, retryBackoffMillis, e.getMessage());
+        try {
+            Thread.sleep(retryBackoffMillis);
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private void restarted(String reason) {
+        meterRegistry.counter("task.changestream.restarts", "reason", reason).increment();
+    }
+
+    private static void closeQuietly(MongoChangeStreamCursor<?> opened) {
+        if (opened == null) {
+            return;
+        }
+        try {
+            opened.close();
+        } catch (Exception e) {
+            log.debug("Fermeture du flux de modifications: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.projecttaskhub.task_service.client;
+
+import com.projecttaskhub.shareddto.dto.ProjectDTO;
+import io.micrometer.context.ContextSnapshot;
+import io.micrometer.context.ContextSnapshotFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Regroupe les lectures unitaires de projets émises en parallèle pendant une courte
+ * fenêtre en un seul appel GET /projects/batch (à la manière d'un DataLoader).
+ * Les lots sont séparés par jeton d'accès : chaque appel groupé part avec
+ * l'identité des requêtes qu'il sert. Les appels passent par {@link ResilientProjectClient}.
+ */
+@Component
+@Slf4j
+public class ProjectBatchLoader implements DisposableBean {
+
+    private static final ContextSnapshotFactory CONTEXT_SNAPSHOTS = ContextSnapshotFactory.builder().build();
+
+    private final ResilientProjectClient projectClient;
+    private final long windowMillis;
+    private final int maxBatchSize;
+    private final long timeoutMillis;
+
+    private final Map<String, Batch> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService dispatcher;
+
+    public ProjectBatchLoader(ResilientProjectClient projectClient,
+                              @Value("${project-client.batch.window-ms:5}") long windowMillis,
+                              @Value("${project-client.batch.max-size:100}") int maxBatchSize,
+                              @Value("${project-client.batch.timeout-ms:5000}") long timeoutMillis,
+                              @Value("${project-client.batch.dispatch-threads:4}") int dispatchThreads) {
+        this.projectClient = projectClient;
+        this.windowMillis = windowMillis;
+        this.maxBatchSize = maxBatchSize;
+        this.timeoutMillis = timeoutMillis;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(daemonThreads("project-batch-timer"));
+        this.dispatcher = Executors.newFixedThreadPool(dispatchThreads, daemonThreads("project-batch"));
+    }
+
+    // Complète avec null si le projet n'existe pas
+    public CompletableFuture<ProjectDTO> load(Long projectId) {
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        String key = batchKey(securityContext);
+        while (true) {
+            Batch batch = pending.computeIfAbsent(key, k -> openBatch(k, securityContext));
+            CompletableFuture<ProjectDTO> future = batch.add(projectId);
+            if (future != null) {
+                return future;
+            }
+            // Le lot vient d'être fermé par un autre thread : on en ouvre un nouveau
+        }
+    }
+
+    public ProjectDTO getProject(Long projectId) {
+        try {
+            return load(projectId).get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Délai dépassé pour la lecture du projet " + projectId, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+        dispatcher.shutdown();
+    }
+
+    private Batch openBatch(String key, SecurityContext securityContext) {
+        Batch batch = new Batch(key, securityContext);
+        scheduler.schedule(() -> dispatch(batch), windowMillis, TimeUnit.MILLISECONDS);
+        return batch;
+    }
+
+    private void dispatch(Batch batch) {
+        Map<Long, CompletableFuture<ProjectDTO>> requests = batch.close();
+        if (requests == null) {
+            return;
+        }
+        pending.remove(batch.key, batch);
+        dispatcher.execute(batch.traceContext.wrap(() -> execute(batch.securityContext, requests)));
+    }
+
+    private void execute(SecurityContext securityContext, Map<Long, CompletableFuture<ProjectDTO>> requests) {
+        SecurityContextHolder.setContext(securityContext);
+        try {
+            log.debug("Lecture groupée de {} projets", requests.size());
+            List<ProjectDTO> projects = projectClient.getProjects(requests.keySet());
+            Map<Long, ProjectDTO> byId = projects.stream()
+                    .collect(Collectors.toMap(ProjectDTO::getId, Function.identity(), (a, b) -> a));
+            requests.forEach((id, future) -> future.complete(byId.get(id)));
+        } catch (Exception e) {
+            log.error("Erreur lors de la lecture groupée de {} projets: {}", requests.size(), e.getMessage());
+            requests.values().forEach(future -> future.completeExceptionally(e));
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private String batchKey(SecurityContext securityContext) {
+        Authentication authentication = securityContext.getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof Jwt jwt) {
+            return jwt.getTokenValue();
+        }
+        return "";
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private final class Batch {
+        private final String key;
+        private final SecurityContext securityContext;
+        // Le lot est tracé dans la requête qui l'a ouvert (les autres n'y voient que leur attente)
+        private final ContextSnapshot traceContext = CONTEXT_SNAPSHOTS.captureAll();
+        private Map<Long, CompletableFuture<ProjectDTO>> requests = new LinkedHashMap<>();
+
+        private Batch(String key, SecurityContext securityContext) {
+            this.key = key;
+            this.securityContext = securityContext;
+        }
+
+        // null si le lot est déjà parti
+        synchronized CompletableFuture<ProjectDTO> add(Long projectId) {
+            if (requests == null || (requests.size() >= maxBatchSize && !requests.containsKey(projectId))) {
+                return null;
+            }
+            CompletableFuture<ProjectDTO> future = requests.computeIfAbsent(projectId, id -> new CompletableFuture<>());
+            if (requests.size() == maxBatchSize) {
+                // Lot plein : départ immédiat sans attendre la fin de la fenêtre
+                pending.remove(key, this);
+                scheduler.execute(() -> dispatch(this));
+            }
+            return future;
+        }
+
+        synchronized Map<Long, CompletableFuture<ProjectDTO>> close() {
+            Map<Long, CompletableFuture<ProjectDTO>> closed = requests;
+            requests = null;
+            return closed;
+        }
+    }
+}
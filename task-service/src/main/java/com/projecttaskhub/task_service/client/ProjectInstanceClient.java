@@ -0,0 +1,22 @@
+package com.projecttaskhub.task_service.client;
+
+import com.projecttaskhub.shareddto.dto.ProjectDTO;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.net.URI;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Appels vers une instance précise de project-service (URI passée en paramètre),
+ * hors LoadBalancer : utilisé par {@link ResilientProjectClient} pour envoyer la
+ * requête de couverture à une autre instance que la première.
+ */
+@FeignClient(name = "project-service-instance", url = "http://project-service")
+public interface ProjectInstanceClient {
+
+    @GetMapping("/projects/batch")
+    List<ProjectDTO> getProjects(URI instance, @RequestParam("ids") Collection<Long> ids);
+}
@@ -0,0 +1,28 @@
+package com.projecttaskhub.task_service.client;
+
+import com.projecttaskhub.shareddto.dto.ProjectDTO;
+
+/**
+ * Résultat d'une vérification de projet. UNKNOWN signifie que project-service n'a
+ * pas répondu (erreur, délai dépassé, circuit ouvert) : ce n'est pas une absence.
+ */
+public record ProjectLookup(Outcome outcome, ProjectDTO project) {
+
+    public enum Outcome {
+        EXISTS,
+        MISSING,
+        UNKNOWN
+    }
+
+    public static ProjectLookup exists(ProjectDTO project) {
+        return new ProjectLookup(Outcome.EXISTS, project);
+    }
+
+    public static ProjectLookup missing() {
+        return new ProjectLookup(Outcome.MISSING, null);
+    }
+
+    public static ProjectLookup unknown() {
+        return new ProjectLookup(Outcome.UNKNOWN, null);
+    }
+}
@@ -1,9 +1,14 @@
 package com.projecttaskhub.task_service.client;
 
 import com.projecttaskhub.shareddto.dto.ProjectDTO;
+import feign.Response;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.Collection;
+import java.util.List;
 
 @FeignClient(name = "project-service", path = "/projects")
 public interface ProjectServiceClient {
@@ -13,4 +18,14 @@ public interface ProjectServiceClient {
 
     @GetMapping("/{id}/exists")
     Boolean projectExists(@PathVariable Long id);
-}
\ No newline at end of file
+
+    @GetMapping("/batch")
+    List<ProjectDTO> getProjects(@RequestParam("ids") Collection<Long> ids);
+
+    @GetMapping("/exists")
+    List<Long> existingProjectIds(@RequestParam("ids") Collection<Long> ids);
+
+    // Tableau JSON de tous les IDs, lu en flux par ProjectExistenceFilter (réponse à fermer)
+    @GetMapping("/ids")
+    Response getAllProjectIds();
+}
@@ -0,0 +1,300 @@
+package com.projecttaskhub.task_service.client;
+
+import com.projecttaskhub.shareddto.dto.ProjectDTO;
+import com.projecttaskhub.task_service.exception.ProjectServiceUnavailableException;
+import feign.FeignException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.context.ContextSnapshot;
+import io.micrometer.context.ContextSnapshotFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerClient;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Appels en lecture vers project-service avec délai global, requête de couverture
+ * (hedging) et disjoncteur.
+ * <p>
+ * La première tentative part vers l'instance choisie par le LoadBalancer. Sans réponse
+ * après le p95 observé des tentatives réussies, une seconde part vers une autre instance
+ * Eureka ; la première réponse gagne. Un échec rapide déclenche cette seconde tentative
+ * immédiatement. Erreurs, délai dépassé et circuit ouvert remontent tous en
+ * {@link ProjectServiceUnavailableException} : l'appelant ne les confond pas avec une absence.
+ */
+@Component
+@Slf4j
+public class ResilientProjectClient implements DisposableBean {
+
+    static final String SERVICE_ID = "project-service";
+    private static final int MAX_ATTEMPTS = 2;
+    private static final ContextSnapshotFactory CONTEXT_SNAPSHOTS = ContextSnapshotFactory.builder().build();
+
+    private final ProjectServiceClient projectServiceClient;
+    private final ProjectInstanceClient projectInstanceClient;
+    private final LoadBalancerClient loadBalancerClient;
+    private final DiscoveryClient discoveryClient;
+    private final CircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+
+    private final boolean enabled;
+    private final long deadlineMillis;
+    private final long initialHedgeDelayMillis;
+    private final long minHedgeDelayMillis;
+    private final long maxHedgeDelayMillis;
+    private final long hedgeMinSamples;
+
+    private final ExecutorService executor;
+    private final ScheduledExecutorService scheduler;
+
+    public ResilientProjectClient(ProjectServiceClient projectServiceClient,
+                                  ProjectInstanceClient projectInstanceClient,
+                                  LoadBalancerClient loadBalancerClient,
+                                  DiscoveryClient discoveryClient,
+                                  CircuitBreakerRegistry circuitBreakerRegistry,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${project-client.resilience.enabled:true}") boolean enabled,
+                                  @Value("${project-client.resilience.deadline-ms:1500}") long deadlineMillis,
+                                  @Value("${project-client.resilience.hedge.initial-delay-ms:100}") long initialHedgeDelayMillis,
+                                  @Value("${project-client.resilience.hedge.min-delay-ms:20}") long minHedgeDelayMillis,
+                                  @Value("${project-client.resilience.hedge.max-delay-ms:500}") long maxHedgeDelayMillis,
+                                  @Value("${project-client.resilience.hedge.min-samples:50}") long hedgeMinSamples,
+                                  @Value("${project-client.resilience.threads:16}") int threads) {
+        this.projectServiceClient = projectServiceClient;
+        this.projectInstanceClient = projectInstanceClient;
+        this.loadBalancerClient = loadBalancerClient;
+        this.discoveryClient = discoveryClient;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(SERVICE_ID);
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.deadlineMillis = deadlineMillis;
+        this.initialHedgeDelayMillis = initialHedgeDelayMillis;
+        this.minHedgeDelayMillis = minHedgeDelayMillis;
+        this.maxHedgeDelayMillis = maxHedgeDelayMillis;
+        this.hedgeMinSamples = hedgeMinSamples;
+        this.executor = Executors.newFixedThreadPool(threads, daemonThreads("project-client"));
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(daemonThreads("project-client-hedge"));
+    }
+
+    public List<ProjectDTO> getProjects(Collection<Long> ids) {
+        if (!enabled) {
+            return projectServiceClient.getProjects(ids);
+        }
+        return call("getProjects", instance -> projectInstanceClient.getProjects(instance, ids));
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    private <T> T call(String operation, Function<URI, T> request) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "success";
+        try {
+            return circuitBreaker.executeSupplier(() -> new HedgedCall<>(operation, request).execute());
+        } catch (CallNotPermittedException e) {
+            result = "circuit_open";
+            throw new ProjectServiceUnavailableException("Circuit ouvert vers " + SERVICE_ID, e);
+        } catch (ProjectServiceUnavailableException e) {
+            result = e.getCause() instanceof TimeoutException ? "deadline" : "error";
+            throw e;
+        } catch (RuntimeException e) {
+            result = "client_error";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("project.client.calls")
+                    .description("Appels vers project-service, tentatives et couverture comprises")
+                    .tag("operation", operation)
+                    .tag("result", result)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    // Instance choisie par le LoadBalancer (selon la charge), puis les autres dans un ordre aléatoire
+    private List<ServiceInstance> candidates() {
+        ServiceInstance primary = loadBalancerClient.choose(SERVICE_ID);
+        if (primary == null) {
+            throw new ProjectServiceUnavailableException("Aucune instance " + SERVICE_ID + " disponible");
+        }
+        List<ServiceInstance> others = new ArrayList<>(discoveryClient.getInstances(SERVICE_ID));
+        others.removeIf(instance -> instance.getUri().equals(primary.getUri()));
+        Collections.shuffle(others);
+
+        List<ServiceInstance> candidates = new ArrayList<>(MAX_ATTEMPTS);
+        candidates.add(primary);
+        others.stream().limit(MAX_ATTEMPTS - 1L).forEach(candidates::add);
+        return candidates;
+    }
+
+    private long hedgeDelayMillis(String operation) {
+        Timer timer = attemptTimer(operation, "primary", "success");
+        if (timer.count() < hedgeMinSamples) {
+            return initialHedgeDelayMillis;
+        }
+        double p95 = initialHedgeDelayMillis;
+        for (ValueAtPercentile value : timer.takeSnapshot().percentileValues()) {
+            if (value.percentile() == 0.95) {
+                p95 = value.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        return Math.max(minHedgeDelayMillis, Math.min(maxHedgeDelayMillis, Math.round(p95)));
+    }
+
+    private Timer attemptTimer(String operation, String attempt, String outcome) {
+        return Timer.builder("project.client.attempts")
+                .description("Requêtes HTTP individuelles vers une instance de project-service")
+                .tag("operation", operation)
+                .tag("attempt", attempt)
+                .tag("outcome", outcome)
+                .publishPercentiles(0.95)
+                .register(meterRegistry);
+    }
+
+    private void countHedge(String operation, String event) {
+        meterRegistry.counter("project.client.hedges", "operation", operation, "event", event).increment();
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private final class HedgedCall<T> {
+        private final String operation;
+        private final Function<URI, T> request;
+        private final List<ServiceInstance> instances;
+        // Le jeton de l'appelant part avec chaque tentative, y compris celle lancée par le timer
+        private final SecurityContext securityContext = SecurityContextHolder.getContext();
+        // ... ainsi que l'observation courante : les spans Feign restent dans la trace de la requête
+        private final ContextSnapshot traceContext = CONTEXT_SNAPSHOTS.captureAll();
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final List<Future<?>> running = new CopyOnWriteArrayList<>();
+        private volatile ScheduledFuture<?> hedgeTimer;
+        private int launched;
+        private int failed;
+
+        private HedgedCall(String operation, Function<URI, T> request) {
+            this.operation = operation;
+            this.request = request;
+            this.instances = candidates();
+        }
+
+        T execute() {
+            launch(false);
+            if (instances.size() > 1) {
+                hedgeTimer = scheduler.schedule(() -> launch(true), hedgeDelayMillis(operation), TimeUnit.MILLISECONDS);
+            }
+            try {
+                return result.get(deadlineMillis, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                throw new ProjectServiceUnavailableException(
+                        "Délai de " + deadlineMillis + " ms dépassé pour " + operation, e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new ProjectServiceUnavailableException(e.getCause().getMessage(), e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ProjectServiceUnavailableException("Appel interrompu", e);
+            } finally {
+                if (hedgeTimer != null) {
+                    hedgeTimer.cancel(false);
+                }
+                // La tentative perdante est abandonnée ; le read-timeout Feign borne sa durée
+                running.forEach(future -> future.cancel(true));
+            }
+        }
+
+        private void launch(boolean hedge) {
+            ServiceInstance instance;
+            synchronized (this) {
+                if (result.isDone() || launched >= instances.size()) {
+                    return;
+                }
+                instance = instances.get(launched++);
+            }
+            if (hedge) {
+                countHedge(operation, "sent");
+            }
+            running.add(executor.submit(new DelegatingSecurityContextRunnable(
+                    traceContext.wrap(() -> attempt(instance, hedge)), securityContext)));
+        }
+
+        private void attempt(ServiceInstance instance, boolean hedge) {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            String outcome = "success";
+            try {
+                T value = request.apply(instance.getUri());
+                if (result.complete(value) && hedge) {
+                    countHedge(operation, "won");
+                }
+            } catch (FeignException.FeignClientException e) {
+                // Réponse 4xx : définitive, inutile de la redemander ailleurs
+                outcome = "client_error";
+                result.completeExceptionally(e);
+            } catch (Exception e) {
+                outcome = "error";
+                log.warn("Échec de {} sur {}: {}", operation, instance.getUri(), e.getMessage());
+                failed(e);
+            } finally {
+                sample.stop(attemptTimer(operation, hedge ? "hedge" : "primary", outcome));
+            }
+        }
+
+        private void failed(Exception e) {
+            boolean exhausted;
+            boolean retryNow;
+            synchronized (this) {
+                failed++;
+                exhausted = failed >= instances.size();
+                retryNow = !exhausted && failed == launched;
+            }
+            if (exhausted) {
+                result.completeExceptionally(new ProjectServiceUnavailableException(
+                        "Aucune instance " + SERVICE_ID + " n'a répondu à " + operation, e));
+            } else if (retryNow) {
+                if (hedgeTimer != null) {
+                    hedgeTimer.cancel(false);
+                }
+                launch(true);
+            }
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.projecttaskhub.task_service.config;
+
+import com.projecttaskhub.task_service.cqrs.bus.CqrsBusProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(CqrsBusProperties.class)
+public class CqrsBusConfig {
+}
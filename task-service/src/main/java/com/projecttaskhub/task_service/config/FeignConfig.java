@@ -1,22 +1,60 @@
 package com.projecttaskhub.task_service.config;
 
 import feign.RequestInterceptor;
+import feign.micrometer.MicrometerObservationCapability;
+import io.micrometer.observation.ObservationRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.client.AuthorizedClientServiceOAuth2AuthorizedClientManager;
+import org.springframework.security.oauth2.client.OAuth2AuthorizeRequest;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClient;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClientManager;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClientProviderBuilder;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClientService;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
 import org.springframework.security.oauth2.jwt.Jwt;
 
 @Configuration
 public class FeignConfig {
 
+    // Enregistrement client_credentials utilisé hors requête utilisateur (tâches planifiées)
+    static final String SERVICE_REGISTRATION_ID = "task-service";
+
     @Bean
-    public RequestInterceptor requestInterceptor() {
+    public RequestInterceptor requestInterceptor(OAuth2AuthorizedClientManager serviceClientManager) {
         return requestTemplate -> {
             Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
             if (authentication != null && authentication.getPrincipal() instanceof Jwt jwt) {
                 requestTemplate.header("Authorization", "Bearer " + jwt.getTokenValue());
+                return;
+            }
+            OAuth2AuthorizedClient client = serviceClientManager.authorize(OAuth2AuthorizeRequest
+                    .withClientRegistrationId(SERVICE_REGISTRATION_ID)
+                    .principal(SERVICE_REGISTRATION_ID)
+                    .build());
+            if (client != null) {
+                requestTemplate.header("Authorization", "Bearer " + client.getAccessToken().getTokenValue());
             }
         };
     }
-}
\ No newline at end of file
+
+    // Span client par appel Feign ; en-têtes traceparent transmis à project-service
+    @Bean
+    public MicrometerObservationCapability micrometerObservationCapability(ObservationRegistry observationRegistry) {
+        return new MicrometerObservationCapability(observationRegistry);
+    }
+
+    // Fonctionne hors requête HTTP ; le jeton est mis en cache jusqu'à son expiration
+    @Bean
+    public OAuth2AuthorizedClientManager serviceClientManager(ClientRegistrationRepository clientRegistrationRepository,
+                                                              OAuth2AuthorizedClientService authorizedClientService) {
+        AuthorizedClientServiceOAuth2AuthorizedClientManager manager =
+                new AuthorizedClientServiceOAuth2AuthorizedClientManager(clientRegistrationRepository, authorizedClientService);
+        manager.setAuthorizedClientProvider(OAuth2AuthorizedClientProviderBuilder.builder()
+                .clientCredentials()
+                .build());
+        return manager;
+    }
+}
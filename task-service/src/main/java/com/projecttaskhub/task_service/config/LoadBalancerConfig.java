@@ -0,0 +1,11 @@
+package com.projecttaskhub.task_service.config;
+
+import com.projecttaskhub.task_service.loadbalancer.LoadAwareLoadBalancerConfiguration;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClient;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@LoadBalancerClient(name = "project-service", configuration = LoadAwareLoadBalancerConfiguration.class)
+public class LoadBalancerConfig {
+    // Le client Feign vers project-service choisit l'instance selon sa charge publiée dans Eureka
+}
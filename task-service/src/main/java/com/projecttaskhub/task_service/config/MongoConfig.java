@@ -1,10 +1,29 @@
 package com.projecttaskhub.task_service.config;
 
+import com.projecttaskhub.task_service.discovery.MongoPoolWaitListener;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.mongodb.config.EnableMongoAuditing;
+import org.springframework.data.mongodb.observability.ContextProviderFactory;
+import org.springframework.data.mongodb.observability.MongoObservationCommandListener;
 
 @Configuration
 @EnableMongoAuditing
 public class MongoConfig {
     // Configuration automatique MongoDB avec auditing
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer connectionPoolListenerCustomizer(MongoPoolWaitListener poolWaitListener) {
+        return settings -> settings.applyToConnectionPoolSettings(pool -> pool.addConnectionPoolListener(poolWaitListener));
+    }
+
+    // Un span par commande MongoDB, rattaché à l'observation courante (requête HTTP, message)
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoObservationCustomizer(ObservationRegistry observationRegistry) {
+        return settings -> settings
+                .contextProvider(ContextProviderFactory.create(observationRegistry))
+                .addCommandListener(new MongoObservationCommandListener(observationRegistry));
+    }
 }
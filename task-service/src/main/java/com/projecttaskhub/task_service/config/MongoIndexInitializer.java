@@ -0,0 +1,50 @@
+package com.projecttaskhub.task_service.config;
+
+import com.projecttaskhub.task_service.entity.Task;
+import com.projecttaskhub.task_service.eventstore.StoredTaskEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.stereotype.Component;
+
+/**
+ * Index nécessaires au service, créés au démarrage (avant les listeners) s'ils
+ * n'existent pas. Garder scripts/init-mongo.js aligné.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MongoIndexInitializer implements SmartInitializingSingleton {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        // Recherche des tâches dont le résumé de projet est périmé (ProjectSnapshotService)
+        mongoTemplate.indexOps(Task.class).ensureIndex(new Index()
+                .on("projectId", Sort.Direction.ASC)
+                .on("project.version", Sort.Direction.ASC)
+                .named("projectId_project_version"));
+        // Vue « mon travail » : tâches, comptages par statut et échéances d'un utilisateur
+        mongoTemplate.indexOps(Task.class).ensureIndex(new Index()
+                .on("assignedTo", Sort.Direction.ASC)
+                .on("status", Sort.Direction.ASC)
+                .on("dueDate", Sort.Direction.ASC)
+                .named("assignedTo_status_dueDate"));
+        // Journal des tâches : numéro unique par tâche (écritures concurrentes), rejeu par projet
+        mongoTemplate.indexOps(StoredTaskEvent.class).ensureIndex(new Index()
+                .on("taskId", Sort.Direction.ASC)
+                .on("sequence", Sort.Direction.ASC)
+                .unique()
+                .named("taskId_sequence"));
+        mongoTemplate.indexOps(StoredTaskEvent.class).ensureIndex(new Index()
+                .on("projectId", Sort.Direction.ASC)
+                .on("taskId", Sort.Direction.ASC)
+                .on("sequence", Sort.Direction.ASC)
+                .named("projectId_taskId_sequence"));
+        log.info("Index MongoDB vérifiés");
+    }
+}
@@ -23,9 +23,14 @@ public class RabbitConfig {
     }
 
     // =============== QUEUES ===============
+    // Lettres mortes vers task.events.dlq (déclarée par project-service, son consommateur) :
+    // arguments identiques des deux côtés
     @Bean
     public Queue taskEventQueue() {
-        return QueueBuilder.durable("task.events.queue").build();
+        return QueueBuilder.durable("task.events.queue")
+                .deadLetterExchange("")
+                .deadLetterRoutingKey("task.events.dlq")
+                .build();
     }
 
     @Bean
@@ -61,6 +66,8 @@ public class RabbitConfig {
     public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory) {
         RabbitTemplate template = new RabbitTemplate(connectionFactory);
         template.setMessageConverter(messageConverter());
+        // Span producteur et en-tête traceparent sur chaque message publié
+        template.setObservationEnabled(true);
         return template;
     }
 
@@ -71,6 +78,8 @@ public class RabbitConfig {
         SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
         factory.setConnectionFactory(connectionFactory);
         factory.setMessageConverter(messageConverter());
+        // Span consommateur rattaché à la trace du producteur
+        factory.setObservationEnabled(true);
         return factory;
     }
 }
@@ -1,12 +1,16 @@
 package com.projecttaskhub.task_service.controller;
 
 
+import com.projecttaskhub.shareddto.dto.MyWorkDTO;
 import com.projecttaskhub.shareddto.dto.TaskDTO;
 import com.projecttaskhub.shareddto.dto.TaskPriority;
 import com.projecttaskhub.shareddto.dto.TaskStatus;
 import com.projecttaskhub.task_service.cqrs.command.CreateTaskCommand;
 import com.projecttaskhub.task_service.cqrs.command.DeleteTaskCommand;
+import com.projecttaskhub.task_service.cqrs.command.RebuildProjectionsCommand;
 import com.projecttaskhub.task_service.cqrs.command.UpdateTaskCommand;
+import com.projecttaskhub.task_service.eventstore.ProjectionRebuilder;
+import com.projecttaskhub.task_service.index.TaskFilter;
 import com.projecttaskhub.task_service.service.TaskCommandService;
 import com.projecttaskhub.task_service.service.TaskQueryService;
 import jakarta.validation.Valid;
@@ -23,6 +27,7 @@ import org.springframework.web.bind.annotation.*;
 import java.security.Principal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/tasks")
@@ -78,6 +83,22 @@ public class TaskController {
         return ResponseEntity.noContent().build();
     }
 
+    // Régénère les projections (dont tasks) depuis le journal, par projet et en parallèle
+    @PostMapping("/admin/projections/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ProjectionRebuilder.Report> rebuildProjections(
+            @RequestParam(required = false, defaultValue = "") List<Long> projectId,
+            @RequestParam(required = false, defaultValue = "") List<String> projection) {
+        log.info("Reconstruction des projections: projets {}, projections {}", projectId, projection);
+
+        RebuildProjectionsCommand command = RebuildProjectionsCommand.builder()
+                .projectIds(projectId)
+                .projections(projection)
+                .build();
+
+        return ResponseEntity.ok(commandService.rebuildProjections(command));
+    }
+
     // =============== REQUÊTES (READ) ===============
 
     @GetMapping("/{id}")
@@ -143,6 +164,16 @@ public class TaskController {
         return ResponseEntity.ok(tasks);
     }
 
+    // Tâches, comptages par statut et échéances proches en un seul appel
+    @GetMapping("/my-work")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<MyWorkDTO> getMyWork(@RequestParam(defaultValue = "0") int dueWithinDays,
+                                               Principal principal) {
+        log.info("Récupération de la vue de travail pour l'utilisateur: {}", principal.getName());
+        MyWorkDTO myWork = queryService.getMyWork(principal.getName(), dueWithinDays);
+        return ResponseEntity.ok(myWork);
+    }
+
     @GetMapping("/assignee/{assignee}")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<List<TaskDTO>> getTasksByAssignee(@PathVariable String assignee) {
@@ -198,10 +229,56 @@ public class TaskController {
         return ResponseEntity.ok(tasks);
     }
 
+    // Critères combinables librement (ET) ; statut et priorité acceptent plusieurs valeurs
+    @GetMapping("/filter")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<List<TaskDTO>> filterTasks(
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false, defaultValue = "") Set<TaskStatus> status,
+            @RequestParam(required = false, defaultValue = "") Set<TaskPriority> priority,
+            @RequestParam(required = false) String assignedTo,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueTo,
+            @RequestParam(defaultValue = "100") int limit) {
+
+        TaskFilter filter = taskFilter(projectId, status, priority, assignedTo, dueFrom, dueTo);
+        log.info("Filtrage des tâches: {}", filter);
+        List<TaskDTO> tasks = queryService.filterTasks(filter, limit);
+        return ResponseEntity.ok(tasks);
+    }
+
+    @GetMapping("/filter/count")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<Long> countFilteredTasks(
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false, defaultValue = "") Set<TaskStatus> status,
+            @RequestParam(required = false, defaultValue = "") Set<TaskPriority> priority,
+            @RequestParam(required = false) String assignedTo,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueTo) {
+
+        TaskFilter filter = taskFilter(projectId, status, priority, assignedTo, dueFrom, dueTo);
+        log.info("Comptage des tâches filtrées: {}", filter);
+        long count = queryService.countFilteredTasks(filter);
+        return ResponseEntity.ok(count);
+    }
+
     // =============== ENDPOINTS UTILITAIRES ===============
 
     @GetMapping("/health")
     public ResponseEntity<String> health() {
         return ResponseEntity.ok("Task Service is running!");
     }
-}
\ No newline at end of file
+
+    private static TaskFilter taskFilter(Long projectId, Set<TaskStatus> status, Set<TaskPriority> priority,
+                                         String assignedTo, LocalDateTime dueFrom, LocalDateTime dueTo) {
+        return TaskFilter.builder()
+                .projectId(projectId)
+                .statuses(status)
+                .priorities(priority)
+                .assignedTo(assignedTo)
+                .dueFrom(dueFrom)
+                .dueTo(dueTo)
+                .build();
+    }
+}
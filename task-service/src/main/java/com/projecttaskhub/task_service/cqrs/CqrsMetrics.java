@@ -0,0 +1,87 @@
+package com.projecttaskhub.task_service.cqrs;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Métriques du pipeline CQRS de task-service :
+ * <ul>
+ *     <li>task.cqrs.commands / task.cqrs.queries : durée par type, résultat et exception ;</li>
+ *     <li>task.cqrs.query.results : nombre d'éléments renvoyés par les requêtes de liste ;</li>
+ *     <li>task.events.publish : latence de publication des événements RabbitMQ.</li>
+ * </ul>
+ * Les tags ne prennent que des valeurs bornées (types déclarés dans le code, nom de classe
+ * d'exception) : jamais d'ID, de titre ni d'utilisateur.
+ */
+@Component
+public class CqrsMetrics {
+
+    public static final String NONE = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    public CqrsMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> T command(String type, Supplier<T> handler) {
+        return timed("task.cqrs.commands", "Traitement des commandes CQRS", type, handler);
+    }
+
+    public <T> T query(String type, Supplier<T> handler) {
+        return timed("task.cqrs.queries", "Traitement des requêtes CQRS", type, handler);
+    }
+
+    public void results(String type, int size) {
+        DistributionSummary.builder("task.cqrs.query.results")
+                .description("Nombre d'éléments renvoyés par requête de liste")
+                .baseUnit("tasks")
+                .tag("type", type)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(1.0)
+                .maximumExpectedValue(100_000.0)
+                .register(meterRegistry)
+                .record(size);
+    }
+
+    public void eventPublished(String eventType, Timer.Sample sample, Throwable error) {
+        sample.stop(Timer.builder("task.events.publish")
+                .description("Publication d'un événement de tâche sur task.exchange")
+                .tag("event_type", eventType)
+                .tag("outcome", error == null ? "success" : "error")
+                .tag("exception", exceptionName(error))
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    public Timer.Sample startSample() {
+        return Timer.start(meterRegistry);
+    }
+
+    public static String exceptionName(Throwable error) {
+        return error == null ? NONE : error.getClass().getSimpleName();
+    }
+
+    private <T> T timed(String name, String description, String type, Supplier<T> handler) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Throwable error = null;
+        try {
+            return handler.get();
+        } catch (RuntimeException e) {
+            error = e;
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(name)
+                    .description(description)
+                    .tag("type", type)
+                    .tag("outcome", error == null ? "success" : "error")
+                    .tag("exception", exceptionName(error))
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.projecttaskhub.task_service.cqrs.bus;
+
+import io.micrometer.context.ContextSnapshot;
+import io.micrometer.context.ContextSnapshotFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Threads des middlewares timeout et async. Le contexte de sécurité et l'observation
+ * courante de l'appelant suivent chaque tâche (jeton propagé par Feign, spans dans la trace).
+ */
+@Component
+public class BusExecutor implements DisposableBean {
+
+    private static final ContextSnapshotFactory CONTEXT_SNAPSHOTS = ContextSnapshotFactory.builder().build();
+
+    private final ExecutorService executor;
+
+    public BusExecutor(CqrsBusProperties properties) {
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(properties.getExecutorThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "cqrs-bus-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public <T> Future<T> submit(Supplier<T> task) {
+        FutureTask<T> future = new FutureTask<>(task::get);
+        execute(future);
+        return future;
+    }
+
+    public void execute(Runnable task) {
+        ContextSnapshot snapshot = CONTEXT_SNAPSHOTS.captureAll();
+        executor.execute(new DelegatingSecurityContextRunnable(snapshot.wrap(task)));
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,47 @@
+package com.projecttaskhub.task_service.cqrs.bus;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "cqrs.bus")
+public class CqrsBusProperties {
+
+    private static final MessageSettings DEFAULTS = new MessageSettings();
+
+    // Chaînes par défaut, de l'étape la plus extérieure à la plus proche du handler
+    private List<String> commandMiddlewares = List.of("metrics", "cache");
+    private List<String> queryMiddlewares = List.of("metrics");
+
+    // Threads partagés par les middlewares timeout et async
+    private int executorThreads = 16;
+
+    // Réglages par type de message, clé en kebab-case (get-tasks-by-project, create-task)
+    private Map<String, MessageSettings> messages = new HashMap<>();
+
+    public MessageSettings settings(MessageType type) {
+        return messages.getOrDefault(type.configKey(), DEFAULTS);
+    }
+
+    @Data
+    public static class MessageSettings {
+
+        // Chaîne propre à ce type ; absente : chaîne par défaut des commandes ou des requêtes
+        private List<String> middlewares;
+
+        // Durée maximale d'attente du résultat (middleware timeout)
+        private Duration timeout = Duration.ofSeconds(2);
+
+        // Durée de vie et taille du cache de résultats (middleware cache, requêtes)
+        private Duration cacheTtl = Duration.ofSeconds(5);
+        private int cacheMaxEntries = 1_000;
+
+        // Une commande identique reçue pendant cette fenêtre reçoit le même résultat (middleware dedup)
+        private Duration dedupWindow = Duration.ofSeconds(2);
+    }
+}
@@ -0,0 +1,9 @@
+package com.projecttaskhub.task_service.cqrs.bus;
+
+/**
+ * Bean qui déclare ses handlers au {@link MessageBus} au démarrage.
+ */
+public interface HandlerProvider {
+
+    void registerHandlers(HandlerRegistry registry);
+}
@@ -0,0 +1,43 @@
+package com.projecttaskhub.task_service.cqrs.bus;
+
+import com.projecttaskhub.task_service.cqrs.command.Command;
+import com.projecttaskhub.task_service.cqrs.query.Query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Enregistrements typés collectés auprès des {@link HandlerProvider} : un seul handler par
+ * classe de message, le type du résultat étant celui déclaré par le message.
+ */
+public final class HandlerRegistry {
+
+    record Registration(MessageType type, MessageHandler<Object, Object> handler) {
+    }
+
+    private final List<Registration> registrations = new ArrayList<>();
+    private final Set<Class<?>> registered = new HashSet<>();
+
+    public <C extends Command<R>, R> void command(Class<C> type, MessageHandler<? super C, ? extends R> handler) {
+        add(MessageType.of(type, MessageType.Kind.COMMAND), handler);
+    }
+
+    public <Q extends Query<R>, R> void query(Class<Q> type, MessageHandler<? super Q, ? extends R> handler) {
+        add(MessageType.of(type, MessageType.Kind.QUERY), handler);
+    }
+
+    List<Registration> registrations() {
+        return Collections.unmodifiableList(registrations);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void add(MessageType type, MessageHandler<?, ?> handler) {
+        if (!registered.add(type.type())) {
+            throw new IllegalStateException("Handler déjà enregistré pour " + type.type().getSimpleName());
+        }
+        registrations.add(new Registration(type, (MessageHandler<Object, Object>) handler));
+    }
+}
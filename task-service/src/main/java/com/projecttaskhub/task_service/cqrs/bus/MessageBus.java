@@ -0,0 +1,74 @@
+package com.projecttaskhub.task_service.cqrs.bus;
+
+import com.projecttaskhub.task_service.cqrs.command.Command;
+import com.projecttaskhub.task_service.cqrs.query.Query;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Bus de commandes et de requêtes de task-service.
+ * <p>
+ * Au démarrage, chaque handler déclaré par un {@link HandlerProvider} est enveloppé par les
+ * middlewares configurés pour son type (cqrs.bus), du dernier au premier : la chaîne obtenue
+ * est rangée dans une table indexée par classe de message. Un envoi coûte une recherche dans
+ * cette table puis les appels de la chaîne.
+ */
+@Component
+@Slf4j
+public class MessageBus {
+
+    private final Map<Class<?>, MessageHandler<Object, Object>> pipelines;
+
+    public MessageBus(List<HandlerProvider> providers, List<Middleware> middlewares, CqrsBusProperties properties) {
+        HandlerRegistry registry = new HandlerRegistry();
+        providers.forEach(provider -> provider.registerHandlers(registry));
+        Map<String, Middleware> middlewaresByName = middlewares.stream()
+                .collect(Collectors.toMap(Middleware::name, Function.identity()));
+
+        Map<Class<?>, MessageHandler<Object, Object>> table = new HashMap<>();
+        for (HandlerRegistry.Registration registration : registry.registrations()) {
+            MessageType type = registration.type();
+            CqrsBusProperties.MessageSettings settings = properties.settings(type);
+            List<String> chain = settings.getMiddlewares() != null ? settings.getMiddlewares()
+                    : type.kind() == MessageType.Kind.COMMAND ? properties.getCommandMiddlewares()
+                    : properties.getQueryMiddlewares();
+
+            MessageHandler<Object, Object> pipeline = registration.handler();
+            for (int i = chain.size() - 1; i >= 0; i--) {
+                Middleware middleware = middlewaresByName.get(chain.get(i));
+                if (middleware == null) {
+                    throw new IllegalStateException("Middleware inconnu '" + chain.get(i) + "' pour " + type.name()
+                            + " (disponibles : " + middlewaresByName.keySet() + ")");
+                }
+                pipeline = middleware.wrap(type, settings, pipeline);
+            }
+            table.put(type.type(), pipeline);
+            log.info("Bus CQRS : {} → {}", type.name(), chain);
+        }
+        this.pipelines = Map.copyOf(table);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <R> R send(Command<R> command) {
+        return (R) dispatch(command);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <R> R query(Query<R> query) {
+        return (R) dispatch(query);
+    }
+
+    private Object dispatch(Object message) {
+        MessageHandler<Object, Object> pipeline = pipelines.get(message.getClass());
+        if (pipeline == null) {
+            throw new IllegalArgumentException("Aucun handler pour " + message.getClass().getSimpleName());
+        }
+        return pipeline.handle(message);
+    }
+}
@@ -0,0 +1,10 @@
+package com.projecttaskhub.task_service.cqrs.bus;
+
+/**
+ * Traitement d'un type de message : handler métier ou étape de middleware qui l'enveloppe.
+ */
+@FunctionalInterface
+public interface MessageHandler<M, R> {
+
+    R handle(M message);
+}
@@ -0,0 +1,33 @@
+package com.projecttaskhub.task_service.cqrs.bus;
+
+import com.projecttaskhub.task_service.cqrs.command.Command;
+import com.projecttaskhub.task_service.cqrs.query.Query;
+import org.springframework.core.ResolvableType;
+
+import java.util.Locale;
+
+/**
+ * Description d'un type de message, calculée une fois à l'enregistrement de son handler.
+ * {@code name} dérive du nom de classe (CreateTaskCommand → create_task) : tag des métriques,
+ * nom des bulkheads et, en kebab-case ({@link #configKey()}), clé de configuration cqrs.bus.messages.
+ *
+ * @param resultType classe du résultat déclaré par Command&lt;R&gt; ou Query&lt;R&gt; (List, Page, Void, ...)
+ */
+public record MessageType(Class<?> type, Kind kind, Class<?> resultType, String name) {
+
+    public enum Kind {
+        COMMAND, QUERY
+    }
+
+    static MessageType of(Class<?> type, Kind kind) {
+        Class<?> contract = kind == Kind.COMMAND ? Command.class : Query.class;
+        Class<?> resultType = ResolvableType.forClass(type).as(contract).getGeneric(0).resolve(Object.class);
+        String simpleName = type.getSimpleName().replaceFirst("(Command|Query)$", "");
+        String name = simpleName.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toLowerCase(Locale.ROOT);
+        return new MessageType(type, kind, resultType, name);
+    }
+
+    public String configKey() {
+        return name.replace('_', '-');
+    }
+}
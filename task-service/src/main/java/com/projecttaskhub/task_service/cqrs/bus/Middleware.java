@@ -0,0 +1,15 @@
+package com.projecttaskhub.task_service.cqrs.bus;
+
+/**
+ * Étape de la chaîne d'un type de message (cache, métriques, délai, ...), désignée par son
+ * {@link #name()} dans cqrs.bus. {@link #wrap} est appelé une seule fois par type de message,
+ * au démarrage : le handler renvoyé est celui appelé à chaque envoi, sans recherche ni
+ * allocation de chaîne par appel.
+ */
+public interface Middleware {
+
+    String name();
+
+    MessageHandler<Object, Object> wrap(MessageType type, CqrsBusProperties.MessageSettings settings,
+                                        MessageHandler<Object, Object> next);
+}
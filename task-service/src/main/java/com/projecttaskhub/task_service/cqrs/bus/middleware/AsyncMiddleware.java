@@ -0,0 +1,46 @@
+package com.projecttaskhub.task_service.cqrs.bus.middleware;
+
+import com.projecttaskhub.task_service.cqrs.bus.BusExecutor;
+import com.projecttaskhub.task_service.cqrs.bus.CqrsBusProperties;
+import com.projecttaskhub.task_service.cqrs.bus.MessageHandler;
+import com.projecttaskhub.task_service.cqrs.bus.MessageType;
+import com.projecttaskhub.task_service.cqrs.bus.Middleware;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Exécute la suite de la chaîne sur le {@link BusExecutor} et rend la main aussitôt.
+ * Réservé aux commandes sans résultat (Command&lt;Void&gt;) : l'appelant ne voit pas leurs
+ * erreurs, qui sont seulement journalisées.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AsyncMiddleware implements Middleware {
+
+    private final BusExecutor executor;
+
+    @Override
+    public String name() {
+        return "async";
+    }
+
+    @Override
+    public MessageHandler<Object, Object> wrap(MessageType type, CqrsBusProperties.MessageSettings settings,
+                                               MessageHandler<Object, Object> next) {
+        if (type.kind() != MessageType.Kind.COMMAND || type.resultType() != Void.class) {
+            throw new IllegalStateException("Middleware async réservé aux commandes sans résultat : " + type.name());
+        }
+        return message -> {
+            executor.execute(() -> {
+                try {
+                    next.handle(message);
+                } catch (RuntimeException e) {
+                    log.error("Échec de la commande asynchrone {}: {}", type.name(), e.getMessage(), e);
+                }
+            });
+            return null;
+        };
+    }
+}
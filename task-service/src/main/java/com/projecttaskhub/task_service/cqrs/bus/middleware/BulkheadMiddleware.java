@@ -0,0 +1,34 @@
+package com.projecttaskhub.task_service.cqrs.bus.middleware;
+
+import com.projecttaskhub.task_service.cqrs.bus.CqrsBusProperties;
+import com.projecttaskhub.task_service.cqrs.bus.MessageHandler;
+import com.projecttaskhub.task_service.cqrs.bus.MessageType;
+import com.projecttaskhub.task_service.cqrs.bus.Middleware;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Borne le nombre d'exécutions simultanées d'un type de message avec un bulkhead Resilience4j
+ * nommé comme sa clé de configuration (resilience4j.bulkhead.instances.get-all-tasks, ...).
+ * Bulkhead plein : BulkheadFullException, renvoyée en 503.
+ */
+@Component
+@RequiredArgsConstructor
+public class BulkheadMiddleware implements Middleware {
+
+    private final BulkheadRegistry bulkheadRegistry;
+
+    @Override
+    public String name() {
+        return "bulkhead";
+    }
+
+    @Override
+    public MessageHandler<Object, Object> wrap(MessageType type, CqrsBusProperties.MessageSettings settings,
+                                               MessageHandler<Object, Object> next) {
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(type.configKey());
+        return message -> bulkhead.executeSupplier(() -> next.handle(message));
+    }
+}
@@ -0,0 +1,102 @@
+package com.projecttaskhub.task_service.cqrs.bus.middleware;
+
+import com.projecttaskhub.task_service.cqrs.bus.CqrsBusProperties;
+import com.projecttaskhub.task_service.cqrs.bus.MessageHandler;
+import com.projecttaskhub.task_service.cqrs.bus.MessageType;
+import com.projecttaskhub.task_service.cqrs.bus.Middleware;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Déduplication des commandes identiques (equals) d'un même utilisateur : une commande reçue
+ * pendant qu'une copie s'exécute, ou moins de cqrs.bus.messages.*.dedup-window après son début,
+ * reçoit le même résultat sans être rejouée (double clic, nouvel essai d'un client). Deux
+ * utilisateurs distincts ne partagent jamais un résultat ; sans utilisateur authentifié, la
+ * commande s'exécute toujours. Un échec n'est pas mémorisé : la commande suivante s'exécute
+ * normalement.
+ */
+@Component
+@RequiredArgsConstructor
+public class DedupMiddleware implements Middleware {
+
+    private static final int PRUNE_THRESHOLD = 10_000;
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public String name() {
+        return "dedup";
+    }
+
+    @Override
+    public MessageHandler<Object, Object> wrap(MessageType type, CqrsBusProperties.MessageSettings settings,
+                                               MessageHandler<Object, Object> next) {
+        long windowNanos = settings.getDedupWindow().toNanos();
+        Map<Key, Execution> executions = new ConcurrentHashMap<>();
+        Counter duplicates = meterRegistry.counter("task.cqrs.duplicates", "type", type.name());
+
+        return message -> {
+            String caller = caller();
+            if (caller == null) {
+                return next.handle(message);
+            }
+            Key key = new Key(caller, message);
+            long now = System.nanoTime();
+            if (executions.size() > PRUNE_THRESHOLD) {
+                executions.values().removeIf(execution -> execution.expired(now, windowNanos));
+            }
+            Execution own = new Execution(new CompletableFuture<>(), now);
+            Execution current = executions.compute(key, (ignored, existing) ->
+                    existing != null && !existing.expired(now, windowNanos) ? existing : own);
+
+            if (current != own) {
+                duplicates.increment();
+                try {
+                    return current.result.join();
+                } catch (CompletionException e) {
+                    throw e.getCause() instanceof RuntimeException runtimeException ? runtimeException : e;
+                }
+            }
+            try {
+                Object result = next.handle(message);
+                own.result.complete(result);
+                return result;
+            } catch (RuntimeException e) {
+                executions.remove(key, own);
+                own.result.completeExceptionally(e);
+                throw e;
+            }
+        };
+    }
+
+    // Contexte de sécurité de l'appelant, propagé par BusExecutor aux threads du bus
+    private static String caller() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    private record Key(String caller, Object message) {
+    }
+
+    private record Execution(CompletableFuture<Object> result, long startedNanos) {
+
+        // Une exécution en cours n'expire pas ; une exécution échouée est déjà retirée
+        boolean expired(long now, long windowNanos) {
+            return result.isDone() && now - startedNanos >= windowNanos;
+        }
+    }
+}
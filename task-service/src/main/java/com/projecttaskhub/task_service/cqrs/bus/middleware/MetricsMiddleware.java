@@ -0,0 +1,52 @@
+package com.projecttaskhub.task_service.cqrs.bus.middleware;
+
+import com.projecttaskhub.task_service.cqrs.CqrsMetrics;
+import com.projecttaskhub.task_service.cqrs.bus.CqrsBusProperties;
+import com.projecttaskhub.task_service.cqrs.bus.MessageHandler;
+import com.projecttaskhub.task_service.cqrs.bus.MessageType;
+import com.projecttaskhub.task_service.cqrs.bus.Middleware;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * Minuteurs task.cqrs.commands / task.cqrs.queries par type de message et, pour les requêtes
+ * qui renvoient une liste ou une page, taille du résultat (task.cqrs.query.results).
+ */
+@Component
+@RequiredArgsConstructor
+public class MetricsMiddleware implements Middleware {
+
+    private final CqrsMetrics metrics;
+
+    @Override
+    public String name() {
+        return "metrics";
+    }
+
+    @Override
+    public MessageHandler<Object, Object> wrap(MessageType type, CqrsBusProperties.MessageSettings settings,
+                                               MessageHandler<Object, Object> next) {
+        String name = type.name();
+        if (type.kind() == MessageType.Kind.COMMAND) {
+            return message -> metrics.command(name, () -> next.handle(message));
+        }
+        if (Collection.class.isAssignableFrom(type.resultType())) {
+            return message -> {
+                Object result = metrics.query(name, () -> next.handle(message));
+                metrics.results(name, ((Collection<?>) result).size());
+                return result;
+            };
+        }
+        if (Page.class.isAssignableFrom(type.resultType())) {
+            return message -> {
+                Object result = metrics.query(name, () -> next.handle(message));
+                metrics.results(name, ((Page<?>) result).getNumberOfElements());
+                return result;
+            };
+        }
+        return message -> metrics.query(name, () -> next.handle(message));
+    }
+}
@@ -0,0 +1,111 @@
+package com.projecttaskhub.task_service.cqrs.bus.middleware;
+
+import com.projecttaskhub.task_service.cqrs.bus.CqrsBusProperties;
+import com.projecttaskhub.task_service.cqrs.bus.MessageHandler;
+import com.projecttaskhub.task_service.cqrs.bus.MessageType;
+import com.projecttaskhub.task_service.cqrs.bus.Middleware;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache des résultats de requêtes, la requête elle-même servant de clé, avec durée de vie
+ * et taille bornées par type (cqrs.bus.messages.*.cache-ttl / cache-max-entries).
+ * <p>
+ * Placé sur une commande, il vide tous les caches de requêtes après son succès. Les écritures
+ * qui ne passent pas par le bus (événements de projets, autres instances...) ne sont vues qu'à
+ * expiration, sauf avec le flux de modifications de tasks (QueryCacheInvalidator).
+ * Les résultats sont partagés entre appelants : ils ne doivent pas être modifiés.
+ */
+@Component
+@RequiredArgsConstructor
+public class QueryCacheMiddleware implements Middleware {
+
+    private final MeterRegistry meterRegistry;
+    private final List<QueryCache> caches = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String name() {
+        return "cache";
+    }
+
+    @Override
+    public MessageHandler<Object, Object> wrap(MessageType type, CqrsBusProperties.MessageSettings settings,
+                                               MessageHandler<Object, Object> next) {
+        if (type.kind() == MessageType.Kind.COMMAND) {
+            return message -> {
+                Object result = next.handle(message);
+                invalidateAll();
+                return result;
+            };
+        }
+        QueryCache cache = new QueryCache(type.name(), settings.getCacheTtl().toNanos(), settings.getCacheMaxEntries());
+        caches.add(cache);
+        return message -> cache.get(message, next);
+    }
+
+    public void invalidateAll() {
+        caches.forEach(QueryCache::clear);
+    }
+
+    private record Entry(Object value, long expiresAtNanos) {
+    }
+
+    private final class QueryCache {
+        private final long ttlNanos;
+        private final int maxEntries;
+        private final Map<Object, Entry> entries = new ConcurrentHashMap<>();
+        // Incrémentée à chaque invalidation : un résultat calculé avant n'est pas gardé
+        private final AtomicLong generation = new AtomicLong();
+        private final Counter hits;
+        private final Counter misses;
+
+        private QueryCache(String type, long ttlNanos, int maxEntries) {
+            this.ttlNanos = ttlNanos;
+            this.maxEntries = maxEntries;
+            this.hits = meterRegistry.counter("task.cqrs.cache", "type", type, "result", "hit");
+            this.misses = meterRegistry.counter("task.cqrs.cache", "type", type, "result", "miss");
+        }
+
+        Object get(Object query, MessageHandler<Object, Object> next) {
+            long now = System.nanoTime();
+            Entry entry = entries.get(query);
+            if (entry != null && now - entry.expiresAtNanos < 0) {
+                hits.increment();
+                return entry.value;
+            }
+            misses.increment();
+            long observedGeneration = generation.get();
+            Object value = next.handle(query);
+            if (entries.size() >= maxEntries) {
+                evict(now);
+            }
+            Entry computed = new Entry(value, now + ttlNanos);
+            entries.put(query, computed);
+            if (generation.get() != observedGeneration) {
+                // Invalidation pendant le calcul : le résultat est peut-être déjà périmé
+                entries.remove(query, computed);
+            }
+            return value;
+        }
+
+        private void evict(long now) {
+            entries.values().removeIf(entry -> now - entry.expiresAtNanos >= 0);
+            if (entries.size() >= maxEntries) {
+                entries.clear();
+            }
+        }
+
+        void clear() {
+            generation.incrementAndGet();
+            entries.clear();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.projecttaskhub.task_service.cqrs.bus.middleware;
+
+import com.projecttaskhub.task_service.cqrs.bus.BusExecutor;
+import com.projecttaskhub.task_service.cqrs.bus.CqrsBusProperties;
+import com.projecttaskhub.task_service.cqrs.bus.MessageHandler;
+import com.projecttaskhub.task_service.cqrs.bus.MessageType;
+import com.projecttaskhub.task_service.cqrs.bus.Middleware;
+import com.projecttaskhub.task_service.exception.CqrsTimeoutException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Exécute la suite de la chaîne sur le {@link BusExecutor} et n'attend pas plus que
+ * cqrs.bus.messages.*.timeout. Au-delà, le thread est interrompu et l'appelant reçoit
+ * {@link CqrsTimeoutException} ; une requête MongoDB déjà partie se termine côté serveur.
+ */
+@Component
+@RequiredArgsConstructor
+public class TimeoutMiddleware implements Middleware {
+
+    private final BusExecutor executor;
+
+    @Override
+    public String name() {
+        return "timeout";
+    }
+
+    @Override
+    public MessageHandler<Object, Object> wrap(MessageType type, CqrsBusProperties.MessageSettings settings,
+                                               MessageHandler<Object, Object> next) {
+        Duration timeout = settings.getTimeout();
+        long timeoutNanos = timeout.toNanos();
+        return message -> {
+            Future<Object> future = executor.submit(() -> next.handle(message));
+            try {
+                return future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                throw new CqrsTimeoutException(type.name(), timeout);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new IllegalStateException(e.getCause());
+            } catch (InterruptedException e) {
+                future.cancel(true);
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Attente de " + type.name() + " interrompue", e);
+            }
+        };
+    }
+}
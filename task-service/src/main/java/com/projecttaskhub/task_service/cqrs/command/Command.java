@@ -0,0 +1,9 @@
+package com.projecttaskhub.task_service.cqrs.command;
+
+/**
+ * Commande envoyée sur le {@link com.projecttaskhub.task_service.cqrs.bus.MessageBus}.
+ *
+ * @param <R> type du résultat ({@link Void} si la commande n'en renvoie pas)
+ */
+public interface Command<R> {
+}
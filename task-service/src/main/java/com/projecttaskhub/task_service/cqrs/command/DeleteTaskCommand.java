@@ -5,6 +5,6 @@ import lombok.Data;
 
 @Data
 @Builder
-public class DeleteTaskCommand {
+public class DeleteTaskCommand implements Command<Void> {
     private String id;
 }
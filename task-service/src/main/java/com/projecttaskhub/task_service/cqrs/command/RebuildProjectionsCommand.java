@@ -0,0 +1,17 @@
+package com.projecttaskhub.task_service.cqrs.command;
+
+import com.projecttaskhub.task_service.eventstore.ProjectionRebuilder;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class RebuildProjectionsCommand implements Command<ProjectionRebuilder.Report> {
+    // Vides : tous les projets, toutes les projections
+    @Builder.Default
+    private List<Long> projectIds = List.of();
+    @Builder.Default
+    private List<String> projections = List.of();
+}
@@ -1,5 +1,6 @@
 package com.projecttaskhub.task_service.cqrs.command;
 
+import com.projecttaskhub.shareddto.dto.TaskDTO;
 import com.projecttaskhub.shareddto.dto.TaskPriority;
 import com.projecttaskhub.shareddto.dto.TaskStatus;
 import lombok.Data;
@@ -7,7 +8,7 @@ import lombok.Data;
 import java.time.LocalDateTime;
 
 @Data
-public class UpdateTaskCommand {
+public class UpdateTaskCommand implements Command<TaskDTO> {
     private String id;
     private String title;
     private String description;
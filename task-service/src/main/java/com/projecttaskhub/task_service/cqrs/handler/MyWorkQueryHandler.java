@@ -0,0 +1,185 @@
+package com.projecttaskhub.task_service.cqrs.handler;
+
+import com.projecttaskhub.shareddto.dto.MyWorkDTO;
+import com.projecttaskhub.shareddto.dto.TaskDTO;
+import com.projecttaskhub.shareddto.dto.TaskStatus;
+import com.projecttaskhub.task_service.cqrs.bus.HandlerProvider;
+import com.projecttaskhub.task_service.cqrs.bus.HandlerRegistry;
+import com.projecttaskhub.task_service.cqrs.query.GetMyWorkQuery;
+import com.projecttaskhub.task_service.exception.CqrsTimeoutException;
+import com.projecttaskhub.task_service.mapper.TaskMapper;
+import com.projecttaskhub.task_service.repository.TaskRepository;
+import io.micrometer.context.ContextSnapshot;
+import io.micrometer.context.ContextSnapshotFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Vue « mon travail » : liste des tâches, total, comptage par statut et échéances proches
+ * d'un utilisateur, lancés en parallèle. La réponse arrive après la plus lente des
+ * sous-requêtes et non après leur somme.
+ * <p>
+ * Les sous-requêtes partagent un délai unique : au premier échec ou à l'expiration du
+ * délai, celles encore en cours sont annulées (interruption) et l'erreur remonte ; aucune
+ * ne survit à la requête qui l'a lancée.
+ */
+@Component
+@Slf4j
+public class MyWorkQueryHandler implements HandlerProvider, DisposableBean {
+
+    private static final String MESSAGE_TYPE = "get_my_work";
+    private static final ContextSnapshotFactory CONTEXT_SNAPSHOTS = ContextSnapshotFactory.builder().build();
+
+    private final TaskRepository taskRepository;
+    private final TaskMapper taskMapper;
+    private final Duration deadline;
+    private final int defaultDueWithinDays;
+    private final ExecutorService executor;
+
+    public MyWorkQueryHandler(TaskRepository taskRepository,
+                              TaskMapper taskMapper,
+                              @Value("${my-work.deadline-ms:1000}") long deadlineMillis,
+                              @Value("${my-work.due-within-days:7}") int defaultDueWithinDays,
+                              @Value("${my-work.threads:32}") int threads) {
+        this.taskRepository = taskRepository;
+        this.taskMapper = taskMapper;
+        this.deadline = Duration.ofMillis(deadlineMillis);
+        this.defaultDueWithinDays = defaultDueWithinDays;
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "my-work-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void registerHandlers(HandlerRegistry registry) {
+        registry.query(GetMyWorkQuery.class, this::getMyWork);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private MyWorkDTO getMyWork(GetMyWorkQuery query) {
+        String assignedTo = query.getAssignedTo();
+        int dueWithinDays = query.getDueWithinDays() > 0 ? query.getDueWithinDays() : defaultDueWithinDays;
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime dueSoonUntil = now.plusDays(dueWithinDays);
+        log.debug("Traitement de la requête GetMyWork: {} (échéances sous {} jours)", assignedTo, dueWithinDays);
+
+        try (Scope scope = new Scope(deadline)) {
+            Future<List<TaskDTO>> tasks = scope.fork(() ->
+                    taskMapper.toDtoList(taskRepository.findByAssignedTo(assignedTo)));
+            Future<Long> total = scope.fork(() -> taskRepository.countByAssignedTo(assignedTo));
+            Map<TaskStatus, Future<Long>> byStatus = new EnumMap<>(TaskStatus.class);
+            for (TaskStatus status : TaskStatus.values()) {
+                byStatus.put(status, scope.fork(() -> taskRepository.countByAssignedToAndStatus(assignedTo, status)));
+            }
+            Future<List<TaskDTO>> dueSoon = scope.fork(() ->
+                    taskMapper.toDtoList(taskRepository.findOpenTasksDueBetween(assignedTo, now, dueSoonUntil)));
+
+            scope.join();
+
+            Map<TaskStatus, Long> countsByStatus = new EnumMap<>(TaskStatus.class);
+            byStatus.forEach((status, count) -> countsByStatus.put(status, Scope.result(count)));
+            return MyWorkDTO.builder()
+                    .assignedTo(assignedTo)
+                    .tasks(Scope.result(tasks))
+                    .totalTasks(Scope.result(total))
+                    .countsByStatus(countsByStatus)
+                    .dueSoon(Scope.result(dueSoon))
+                    .dueSoonUntil(dueSoonUntil)
+                    .build();
+        }
+    }
+
+    /**
+     * Portée des sous-requêtes d'un appel (équivalent Java 17 d'un StructuredTaskScope
+     * « ShutdownOnFailure » avec échéance). Chaque tâche emporte le contexte de sécurité et
+     * l'observation de l'appelant ; la fermeture annule tout ce qui n'est pas terminé.
+     */
+    private final class Scope implements AutoCloseable {
+
+        private final long deadlineNanos;
+        private final Duration timeout;
+        private final List<FutureTask<?>> forked = new ArrayList<>();
+        private final BlockingQueue<FutureTask<?>> completed = new LinkedBlockingQueue<>();
+        private final ContextSnapshot snapshot = CONTEXT_SNAPSHOTS.captureAll();
+
+        Scope(Duration timeout) {
+            this.timeout = timeout;
+            this.deadlineNanos = System.nanoTime() + timeout.toNanos();
+        }
+
+        <T> Future<T> fork(Callable<T> task) {
+            FutureTask<T> future = new FutureTask<>(task) {
+                @Override
+                protected void done() {
+                    completed.add(this);
+                }
+            };
+            forked.add(future);
+            executor.execute(new DelegatingSecurityContextRunnable(snapshot.wrap(future)));
+            return future;
+        }
+
+        // Attend toutes les tâches ; le premier échec ou l'échéance annule les autres
+        void join() {
+            for (int remaining = forked.size(); remaining > 0; remaining--) {
+                FutureTask<?> next;
+                try {
+                    next = completed.poll(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Vue « mon travail » interrompue", e);
+                }
+                if (next == null) {
+                    throw new CqrsTimeoutException(MESSAGE_TYPE, timeout);
+                }
+                result(next);
+            }
+        }
+
+        static <T> T result(Future<T> future) {
+            try {
+                return future.get();
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                throw new IllegalStateException(e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public void close() {
+            forked.forEach(future -> future.cancel(true));
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.projecttaskhub.task_service.cqrs.handler;
+
+import com.projecttaskhub.task_service.cqrs.bus.HandlerProvider;
+import com.projecttaskhub.task_service.cqrs.bus.HandlerRegistry;
+import com.projecttaskhub.task_service.cqrs.command.RebuildProjectionsCommand;
+import com.projecttaskhub.task_service.eventstore.ProjectionRebuilder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProjectionCommandHandler implements HandlerProvider {
+
+    private final ProjectionRebuilder projectionRebuilder;
+
+    @Override
+    public void registerHandlers(HandlerRegistry registry) {
+        registry.command(RebuildProjectionsCommand.class, this::rebuild);
+    }
+
+    private ProjectionRebuilder.Report rebuild(RebuildProjectionsCommand command) {
+        log.info("Traitement de la commande RebuildProjections: projets {}, projections {}",
+                command.getProjectIds().isEmpty() ? "tous" : command.getProjectIds(),
+                command.getProjections().isEmpty() ? "toutes" : command.getProjections());
+
+        return projectionRebuilder.rebuild(command.getProjectIds(), command.getProjections());
+    }
+}
@@ -3,32 +3,61 @@ package com.projecttaskhub.task_service.cqrs.handler;
 
 import com.projecttaskhub.shareddto.dto.TaskDTO;
 import com.projecttaskhub.shareddto.event.TaskEvent;
+import com.projecttaskhub.task_service.client.ProjectLookup;
+import com.projecttaskhub.task_service.cqrs.CqrsMetrics;
+import com.projecttaskhub.task_service.cqrs.bus.HandlerProvider;
+import com.projecttaskhub.task_service.cqrs.bus.HandlerRegistry;
 import com.projecttaskhub.task_service.cqrs.command.CreateTaskCommand;
 import com.projecttaskhub.task_service.cqrs.command.DeleteTaskCommand;
 import com.projecttaskhub.task_service.cqrs.command.UpdateTaskCommand;
+import com.projecttaskhub.task_service.entity.ProjectSnapshot;
 import com.projecttaskhub.task_service.entity.Task;
+import com.projecttaskhub.task_service.eventstore.StoredTaskEvent;
+import com.projecttaskhub.task_service.eventstore.TaskEventStore;
+import com.projecttaskhub.task_service.eventstore.TaskEventType;
+import com.projecttaskhub.task_service.eventstore.TaskProjection;
+import com.projecttaskhub.task_service.eventstore.TaskState;
+import com.projecttaskhub.task_service.eventstore.TasksProjection;
+import com.projecttaskhub.task_service.exception.ProjectValidationException;
 import com.projecttaskhub.task_service.mapper.TaskMapper;
 import com.projecttaskhub.task_service.repository.TaskRepository;
+import com.projecttaskhub.task_service.service.ProjectValidationService;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
-public class TaskCommandHandler {
+public class TaskCommandHandler implements HandlerProvider {
 
     private final TaskRepository taskRepository;
     private final TaskMapper taskMapper;
     private final RabbitTemplate rabbitTemplate;
+    private final ProjectValidationService projectValidationService;
+    private final TaskEventStore eventStore;
+    private final TasksProjection tasksProjection;
+    private final List<TaskProjection> projections;
+    private final CqrsMetrics metrics;
+
+    // Métriques, cache, délais... : middlewares du MessageBus (cqrs.bus)
+    @Override
+    public void registerHandlers(HandlerRegistry registry) {
+        registry.command(CreateTaskCommand.class, this::create);
+        registry.command(UpdateTaskCommand.class, this::update);
+        registry.command(DeleteTaskCommand.class, command -> {
+            delete(command);
+            return null;
+        });
+    }
 
-    @Transactional
-    public TaskDTO handle(CreateTaskCommand command) {
-        log.info("Traitement de la commande CreateTask: {}", command.getTitle());
+    private TaskDTO create(CreateTaskCommand command) {
+        log.debug("Traitement de la commande CreateTask: {}", command.getTitle());
 
         // Vérifier si une tâche avec le même titre existe déjà pour ce projet
         if (taskRepository.existsByProjectIdAndTitle(command.getProjectId(), command.getTitle())) {
@@ -36,13 +65,32 @@ public class TaskCommandHandler {
                     "Une tâche avec ce titre existe déjà pour ce projet");
         }
 
-        // Créer l'entité Task
-        Task task = taskMapper.toEntity(command);
-        task.setCreatedAt(LocalDateTime.now());
-        task.setUpdatedAt(LocalDateTime.now());
+        // Projet absent : refus. project-service injoignable : la tâche est créée sans
+        // résumé de projet, renseigné au prochain PROJECT_UPDATED
+        ProjectLookup project = projectValidationService.lookupProject(command.getProjectId());
+        if (project.outcome() == ProjectLookup.Outcome.MISSING) {
+            throw new ProjectValidationException("Projet non trouvé avec l'ID: " + command.getProjectId());
+        }
 
-        // Sauvegarder en base
-        Task savedTask = taskRepository.save(task);
+        // Journaliser la création puis projeter la tâche dans tasks
+        TaskState state = eventStore.append(null, StoredTaskEvent.builder()
+                .taskId(TaskEventStore.newTaskId())
+                .projectId(command.getProjectId())
+                .type(TaskEventType.CREATED)
+                .title(command.getTitle())
+                .description(command.getDescription())
+                .status(command.getStatus())
+                .priority(command.getPriority())
+                .assignedTo(command.getAssignedTo())
+                .dueDate(command.getDueDate())
+                .build());
+        Task savedTask = tasksProjection.project(state);
+        applyToReadModels(state);
+        if (project.outcome() == ProjectLookup.Outcome.EXISTS) {
+            ProjectSnapshot snapshot = ProjectSnapshot.from(project.project());
+            tasksProjection.attachProject(state.getId(), snapshot);
+            savedTask.setProject(snapshot);
+        }
 
         // Convertir en DTO
         TaskDTO result = taskMapper.toDto(savedTask);
@@ -54,38 +102,25 @@ public class TaskCommandHandler {
         return result;
     }
 
-    @Transactional
-    public TaskDTO handle(UpdateTaskCommand command) {
-        log.info("Traitement de la commande UpdateTask: {}", command.getId());
-
-        // Récupérer la tâche existante
-        Task existingTask = taskRepository.findById(command.getId())
-                .orElseThrow(() -> new RuntimeException("Tâche non trouvée avec l'ID: " + command.getId()));
-
-        // Mettre à jour les champs non nuls
-        if (command.getTitle() != null) {
-            existingTask.setTitle(command.getTitle());
-        }
-        if (command.getDescription() != null) {
-            existingTask.setDescription(command.getDescription());
-        }
-        if (command.getStatus() != null) {
-            existingTask.setStatus(command.getStatus());
-        }
-        if (command.getPriority() != null) {
-            existingTask.setPriority(command.getPriority());
-        }
-        if (command.getAssignedTo() != null) {
-            existingTask.setAssignedTo(command.getAssignedTo());
-        }
-        if (command.getDueDate() != null) {
-            existingTask.setDueDate(command.getDueDate());
-        }
-
-        existingTask.setUpdatedAt(LocalDateTime.now());
-
-        // Sauvegarder
-        Task savedTask = taskRepository.save(existingTask);
+    private TaskDTO update(UpdateTaskCommand command) {
+        log.debug("Traitement de la commande UpdateTask: {}", command.getId());
+
+        // État courant rejoué depuis le journal
+        TaskState current = currentState(command.getId());
+
+        // Seuls les champs non nuls sont modifiés
+        TaskState state = eventStore.append(current, StoredTaskEvent.builder()
+                .taskId(command.getId())
+                .type(TaskEventType.UPDATED)
+                .title(command.getTitle())
+                .description(command.getDescription())
+                .status(command.getStatus())
+                .priority(command.getPriority())
+                .assignedTo(command.getAssignedTo())
+                .dueDate(command.getDueDate())
+                .build());
+        Task savedTask = tasksProjection.project(state);
+        applyToReadModels(state);
         TaskDTO result = taskMapper.toDto(savedTask);
 
         // Publier l'événement
@@ -95,18 +130,20 @@ public class TaskCommandHandler {
         return result;
     }
 
-    @Transactional
-    public void handle(DeleteTaskCommand command) {
-        log.info("Traitement de la commande DeleteTask: {}", command.getId());
+    private void delete(DeleteTaskCommand command) {
+        log.debug("Traitement de la commande DeleteTask: {}", command.getId());
 
         // Récupérer la tâche avant suppression
-        Task task = taskRepository.findById(command.getId())
-                .orElseThrow(() -> new RuntimeException("Tâche non trouvée avec l'ID: " + command.getId()));
+        TaskState current = currentState(command.getId());
+        TaskDTO taskDTO = taskMapper.toDto(current.toTask());
 
-        TaskDTO taskDTO = taskMapper.toDto(task);
-
-        // Supprimer la tâche
-        taskRepository.delete(task);
+        // Journaliser la suppression puis retirer la tâche de tasks
+        TaskState state = eventStore.append(current, StoredTaskEvent.builder()
+                .taskId(command.getId())
+                .type(TaskEventType.DELETED)
+                .build());
+        tasksProjection.project(state);
+        applyToReadModels(state);
 
         // Publier l'événement
         publishTaskEvent("TASK_DELETED", taskDTO);
@@ -114,21 +151,58 @@ public class TaskCommandHandler {
         log.info("Tâche supprimée avec succès: {}", command.getId());
     }
 
+    // Tâche antérieure au journal : reprise à partir de son document tasks
+    private TaskState currentState(String id) {
+        TaskState state = eventStore.load(id).orElseGet(() -> {
+            Task legacy = taskRepository.findById(id)
+                    .orElseThrow(() -> new RuntimeException("Tâche non trouvée avec l'ID: " + id));
+            eventStore.adopt(List.of(legacy));
+            return eventStore.load(id).orElseThrow();
+        });
+        if (state.isDeleted()) {
+            throw new RuntimeException("Tâche non trouvée avec l'ID: " + id);
+        }
+        return state;
+    }
+
+    // Autres projections (index en mémoire...) : rattrapées à leur reconstruction en cas d'échec
+    private void applyToReadModels(TaskState state) {
+        for (TaskProjection projection : projections) {
+            if (projection == tasksProjection) {
+                continue;
+            }
+            try {
+                projection.apply(state);
+            } catch (Exception e) {
+                log.warn("Projection {} non appliquée pour la tâche {}: {}", projection.name(), state.getId(), e.getMessage());
+            }
+        }
+    }
+
     private void publishTaskEvent(String eventType, TaskDTO taskDTO) {
+        Timer.Sample sample = metrics.startSample();
+        Exception error = null;
         try {
             TaskEvent event = TaskEvent.builder()
                     .eventType(eventType)
                     .taskId(taskDTO.getId())
                     .projectId(taskDTO.getProjectId())
                     .taskTitle(taskDTO.getTitle())
+                    .status(taskDTO.getStatus())
+                    .priority(taskDTO.getPriority())
+                    .assignedTo(taskDTO.getAssignedTo())
+                    .dueDate(taskDTO.getDueDate())
                     .eventData(taskDTO.toString())
                     .timestamp(LocalDateTime.now())
                     .build();
 
             rabbitTemplate.convertAndSend("task.exchange", "task.events", event);
-            log.info("Événement publié: {} pour la tâche {}", eventType, taskDTO.getId());
+            log.debug("Événement publié: {} pour la tâche {}", eventType, taskDTO.getId());
         } catch (Exception e) {
+            error = e;
             log.error("Erreur lors de la publication de l'événement: {}", e.getMessage(), e);
+        } finally {
+            metrics.eventPublished(eventType, sample, error);
         }
     }
 }
\ No newline at end of file
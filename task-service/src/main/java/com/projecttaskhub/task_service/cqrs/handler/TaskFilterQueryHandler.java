@@ -0,0 +1,119 @@
+package com.projecttaskhub.task_service.cqrs.handler;
+
+import com.projecttaskhub.shareddto.dto.TaskDTO;
+import com.projecttaskhub.task_service.cqrs.bus.HandlerProvider;
+import com.projecttaskhub.task_service.cqrs.bus.HandlerRegistry;
+import com.projecttaskhub.task_service.cqrs.query.CountFilteredTasksQuery;
+import com.projecttaskhub.task_service.cqrs.query.FilterTasksQuery;
+import com.projecttaskhub.task_service.entity.Task;
+import com.projecttaskhub.task_service.index.ColumnarTaskIndex;
+import com.projecttaskhub.task_service.index.TaskFilter;
+import com.projecttaskhub.task_service.mapper.TaskMapper;
+import com.projecttaskhub.task_service.repository.TaskRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Filtres conjonctifs libres sur les tâches. Avec l'index en mémoire (task-index.enabled) chargé,
+ * les IDs et comptages en viennent et seuls les documents retenus sont lus dans MongoDB,
+ * revérifiés contre le filtre ; sinon la requête part telle quelle vers MongoDB.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TaskFilterQueryHandler implements HandlerProvider {
+
+    private final ObjectProvider<ColumnarTaskIndex> taskIndex;
+    private final TaskRepository taskRepository;
+    private final MongoTemplate mongoTemplate;
+    private final TaskMapper taskMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void registerHandlers(HandlerRegistry registry) {
+        registry.query(FilterTasksQuery.class, this::filterTasks);
+        registry.query(CountFilteredTasksQuery.class, this::countTasks);
+    }
+
+    private List<TaskDTO> filterTasks(FilterTasksQuery query) {
+        log.debug("Traitement de la requête FilterTasks: {} (limite {})", query.getFilter(), query.getLimit());
+        if (query.getLimit() <= 0) {
+            throw new IllegalArgumentException("La limite doit être positive");
+        }
+
+        ColumnarTaskIndex index = readyIndex();
+        if (index == null) {
+            Query mongoQuery = new Query(criteria(query.getFilter()))
+                    .with(Sort.by("_id"))
+                    .limit(query.getLimit());
+            return taskMapper.toDtoList(mongoTemplate.find(mongoQuery, Task.class));
+        }
+
+        // Ordre de l'index conservé ; une tâche modifiée par une autre instance depuis le
+        // dernier chargement est écartée si elle ne correspond plus
+        List<String> ids = index.ids(query.getFilter(), query.getLimit());
+        Map<String, Task> tasks = taskRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        return taskMapper.toDtoList(ids.stream()
+                .map(tasks::get)
+                .filter(Objects::nonNull)
+                .filter(query.getFilter()::matches)
+                .toList());
+    }
+
+    private Long countTasks(CountFilteredTasksQuery query) {
+        log.debug("Traitement de la requête CountFilteredTasks: {}", query.getFilter());
+
+        ColumnarTaskIndex index = readyIndex();
+        if (index == null) {
+            return mongoTemplate.count(new Query(criteria(query.getFilter())), Task.class);
+        }
+        return index.count(query.getFilter());
+    }
+
+    private ColumnarTaskIndex readyIndex() {
+        ColumnarTaskIndex index = taskIndex.getIfAvailable();
+        boolean ready = index != null && index.ready();
+        meterRegistry.counter("task.index.queries", "source", ready ? "index" : "mongodb").increment();
+        return ready ? index : null;
+    }
+
+    private static Criteria criteria(TaskFilter filter) {
+        Criteria criteria = new Criteria();
+        if (filter.getProjectId() != null) {
+            criteria.and("projectId").is(filter.getProjectId());
+        }
+        if (filter.getStatuses() != null && !filter.getStatuses().isEmpty()) {
+            criteria.and("status").in(filter.getStatuses());
+        }
+        if (filter.getPriorities() != null && !filter.getPriorities().isEmpty()) {
+            criteria.and("priority").in(filter.getPriorities());
+        }
+        if (filter.getAssignedTo() != null) {
+            criteria.and("assignedTo").is(filter.getAssignedTo());
+        }
+        if (filter.getDueFrom() != null || filter.getDueTo() != null) {
+            Criteria due = criteria.and("dueDate").ne(null);
+            if (filter.getDueFrom() != null) {
+                due.gte(filter.getDueFrom());
+            }
+            if (filter.getDueTo() != null) {
+                due.lte(filter.getDueTo());
+            }
+        }
+        return criteria;
+    }
+}
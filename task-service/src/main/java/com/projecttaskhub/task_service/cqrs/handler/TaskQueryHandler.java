@@ -1,60 +1,103 @@
 package com.projecttaskhub.task_service.cqrs.handler;
 
 import com.projecttaskhub.shareddto.dto.TaskDTO;
+import com.projecttaskhub.task_service.cqrs.bus.HandlerProvider;
+import com.projecttaskhub.task_service.cqrs.bus.HandlerRegistry;
 import com.projecttaskhub.task_service.cqrs.query.*;
 import com.projecttaskhub.task_service.entity.Task;
 import com.projecttaskhub.task_service.mapper.TaskMapper;
 import com.projecttaskhub.task_service.repository.TaskRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
-@Transactional(readOnly = true)
-public class TaskQueryHandler {
+public class TaskQueryHandler implements HandlerProvider {
 
     private final TaskRepository taskRepository;
     private final TaskMapper taskMapper;
 
-    public TaskDTO handle(GetTaskByIdQuery query) {
-        log.info("Traitement de la requête GetTaskById: {}", query.getId());
+    // Métriques, cache, délais... : middlewares du MessageBus (cqrs.bus)
+    @Override
+    public void registerHandlers(HandlerRegistry registry) {
+        registry.query(GetTaskByIdQuery.class, this::getTaskById);
+        registry.query(GetAllTasksQuery.class, this::getAllTasks);
+        registry.query(GetTasksPageQuery.class, this::getTasksPage);
+        registry.query(GetTasksByProjectQuery.class, this::getTasksByProject);
+        registry.query(GetTasksByProjectAndStatusQuery.class, this::getTasksByProjectAndStatus);
+        registry.query(GetTasksByAssigneeQuery.class, this::getTasksByAssignee);
+        registry.query(GetTasksByStatusQuery.class, this::getTasksByStatus);
+        registry.query(GetTasksByPriorityQuery.class, this::getTasksByPriority);
+        registry.query(GetTasksDueBetweenQuery.class, this::getTasksDueBetween);
+        registry.query(SearchTasksByTitleQuery.class, this::searchTasksByTitle);
+        registry.query(CountTasksByProjectQuery.class, query -> taskRepository.countByProjectId(query.getProjectId()));
+        registry.query(CountTasksByAssigneeQuery.class, query -> taskRepository.countByAssignedTo(query.getAssignedTo()));
+    }
+
+    private TaskDTO getTaskById(GetTaskByIdQuery query) {
+        log.debug("Traitement de la requête GetTaskById: {}", query.getId());
 
         Task task = taskRepository.findById(query.getId())
                 .orElseThrow(() -> new RuntimeException("Tâche non trouvée avec l'ID: " + query.getId()));
-
         return taskMapper.toDto(task);
     }
 
-    public List<TaskDTO> handle(GetTasksByProjectQuery query) {
-        log.info("Traitement de la requête GetTasksByProject: {}", query.getProjectId());
+    private List<TaskDTO> getAllTasks(GetAllTasksQuery query) {
+        log.debug("Traitement de la requête GetAllTasks");
+
+        return taskMapper.toDtoList(taskRepository.findAll());
+    }
+
+    private Page<TaskDTO> getTasksPage(GetTasksPageQuery query) {
+        log.debug("Traitement de la requête GetTasksPage: {}", query.getPageable());
+
+        return taskRepository.findAll(query.getPageable()).map(taskMapper::toDto);
+    }
+
+    private List<TaskDTO> getTasksByProject(GetTasksByProjectQuery query) {
+        log.debug("Traitement de la requête GetTasksByProject: {}", query.getProjectId());
+
+        return taskMapper.toDtoList(taskRepository.findByProjectId(query.getProjectId()));
+    }
+
+    private List<TaskDTO> getTasksByProjectAndStatus(GetTasksByProjectAndStatusQuery query) {
+        log.debug("Traitement de la requête GetTasksByProjectAndStatus: {} {}", query.getProjectId(), query.getStatus());
+
+        return taskMapper.toDtoList(taskRepository.findByProjectIdAndStatus(query.getProjectId(), query.getStatus()));
+    }
+
+    private List<TaskDTO> getTasksByAssignee(GetTasksByAssigneeQuery query) {
+        log.debug("Traitement de la requête GetTasksByAssignee: {}", query.getAssignedTo());
+
+        return taskMapper.toDtoList(taskRepository.findByAssignedTo(query.getAssignedTo()));
+    }
+
+    private List<TaskDTO> getTasksByStatus(GetTasksByStatusQuery query) {
+        log.debug("Traitement de la requête GetTasksByStatus: {}", query.getStatus());
 
-        List<Task> tasks = taskRepository.findByProjectId(query.getProjectId());
-        return taskMapper.toDtoList(tasks);
+        return taskMapper.toDtoList(taskRepository.findByStatus(query.getStatus()));
     }
 
-    public List<TaskDTO> handle(GetTasksByAssigneeQuery query) {
-        log.info("Traitement de la requête GetTasksByAssignee: {}", query.getAssignedTo());
+    private List<TaskDTO> getTasksByPriority(GetTasksByPriorityQuery query) {
+        log.debug("Traitement de la requête GetTasksByPriority: {}", query.getPriority());
 
-        List<Task> tasks = taskRepository.findByAssignedTo(query.getAssignedTo());
-        return taskMapper.toDtoList(tasks);
+        return taskMapper.toDtoList(taskRepository.findByPriority(query.getPriority()));
     }
 
-    public List<TaskDTO> handle(GetTasksByStatusQuery query) {
-        log.info("Traitement de la requête GetTasksByStatus: {}", query.getStatus());
+    private List<TaskDTO> getTasksDueBetween(GetTasksDueBetweenQuery query) {
+        log.debug("Traitement de la requête GetTasksDueBetween: {} - {}", query.getStart(), query.getEnd());
 
-        List<Task> tasks = taskRepository.findByStatus(query.getStatus());
-        return taskMapper.toDtoList(tasks);
+        return taskMapper.toDtoList(taskRepository.findTasksDueBetween(query.getStart(), query.getEnd()));
     }
 
-    public List<TaskDTO> handle(GetAllTasksQuery query) {
-        log.info("Traitement de la requête GetAllTasks");
+    private List<TaskDTO> searchTasksByTitle(SearchTasksByTitleQuery query) {
+        log.debug("Traitement de la requête SearchTasksByTitle: {}", query.getTitle());
 
-        List<Task> tasks = taskRepository.findAll();
-        return taskMapper.toDtoList(tasks);
+        return taskMapper.toDtoList(taskRepository.findByTitleContainingIgnoreCase(query.getTitle()));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,11 @@
+package com.projecttaskhub.task_service.cqrs.query;
+
+import com.projecttaskhub.task_service.index.TaskFilter;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class CountFilteredTasksQuery implements Query<Long> {
+    private TaskFilter filter;
+}
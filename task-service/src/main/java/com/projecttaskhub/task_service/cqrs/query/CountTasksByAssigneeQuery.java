@@ -0,0 +1,10 @@
+package com.projecttaskhub.task_service.cqrs.query;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class CountTasksByAssigneeQuery implements Query<Long> {
+    private String assignedTo;
+}
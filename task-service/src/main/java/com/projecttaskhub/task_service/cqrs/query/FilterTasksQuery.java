@@ -0,0 +1,15 @@
+package com.projecttaskhub.task_service.cqrs.query;
+
+import com.projecttaskhub.shareddto.dto.TaskDTO;
+import com.projecttaskhub.task_service.index.TaskFilter;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class FilterTasksQuery implements Query<List<TaskDTO>> {
+    private TaskFilter filter;
+    private int limit;
+}
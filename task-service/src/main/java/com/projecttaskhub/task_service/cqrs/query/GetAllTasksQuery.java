@@ -1,14 +1,17 @@
 package com.projecttaskhub.task_service.cqrs.query;
 
+import com.projecttaskhub.shareddto.dto.TaskDTO;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class GetAllTasksQuery {
+public class GetAllTasksQuery implements Query<List<TaskDTO>> {
     // Query sans paramètres pour récupérer toutes les tâches
 }
\ No newline at end of file
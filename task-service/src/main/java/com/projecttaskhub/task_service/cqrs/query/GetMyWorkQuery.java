@@ -0,0 +1,12 @@
+package com.projecttaskhub.task_service.cqrs.query;
+
+import com.projecttaskhub.shareddto.dto.MyWorkDTO;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class GetMyWorkQuery implements Query<MyWorkDTO> {
+    private String assignedTo;
+    private int dueWithinDays;
+}
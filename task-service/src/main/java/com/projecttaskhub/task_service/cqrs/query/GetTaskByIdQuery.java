@@ -1,10 +1,11 @@
 package com.projecttaskhub.task_service.cqrs.query;
 
+import com.projecttaskhub.shareddto.dto.TaskDTO;
 import lombok.Builder;
 import lombok.Data;
 
 @Data
 @Builder
-public class GetTaskByIdQuery {
+public class GetTaskByIdQuery implements Query<TaskDTO> {
     private String id;
 }
\ No newline at end of file
@@ -1,10 +1,13 @@
 package com.projecttaskhub.task_service.cqrs.query;
 
+import com.projecttaskhub.shareddto.dto.TaskDTO;
 import lombok.Builder;
 import lombok.Data;
 
+import java.util.List;
+
 @Data
 @Builder
-public class GetTasksByAssigneeQuery {
+public class GetTasksByAssigneeQuery implements Query<List<TaskDTO>> {
     private String assignedTo;
 }
\ No newline at end of file
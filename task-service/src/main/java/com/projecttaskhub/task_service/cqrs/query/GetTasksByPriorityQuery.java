@@ -0,0 +1,14 @@
+package com.projecttaskhub.task_service.cqrs.query;
+
+import com.projecttaskhub.shareddto.dto.TaskDTO;
+import com.projecttaskhub.shareddto.dto.TaskPriority;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class GetTasksByPriorityQuery implements Query<List<TaskDTO>> {
+    private TaskPriority priority;
+}
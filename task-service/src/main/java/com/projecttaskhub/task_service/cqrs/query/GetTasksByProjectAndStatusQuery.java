@@ -0,0 +1,15 @@
+package com.projecttaskhub.task_service.cqrs.query;
+
+import com.projecttaskhub.shareddto.dto.TaskDTO;
+import com.projecttaskhub.shareddto.dto.TaskStatus;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class GetTasksByProjectAndStatusQuery implements Query<List<TaskDTO>> {
+    private Long projectId;
+    private TaskStatus status;
+}
@@ -1,10 +1,13 @@
 package com.projecttaskhub.task_service.cqrs.query;
 
+import com.projecttaskhub.shareddto.dto.TaskDTO;
 import lombok.Builder;
 import lombok.Data;
 
+import java.util.List;
+
 @Data
 @Builder
-public class GetTasksByProjectQuery {
+public class GetTasksByProjectQuery implements Query<List<TaskDTO>> {
     private Long projectId;
 }
\ No newline at end of file
@@ -1,16 +1,19 @@
 package com.projecttaskhub.task_service.cqrs.query;
 
 import lombok.AllArgsConstructor;
+import com.projecttaskhub.shareddto.dto.TaskDTO;
 import com.projecttaskhub.shareddto.dto.TaskStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class GetTasksByStatusQuery {
+public class GetTasksByStatusQuery implements Query<List<TaskDTO>> {
     private TaskStatus status;
 }
\ No newline at end of file
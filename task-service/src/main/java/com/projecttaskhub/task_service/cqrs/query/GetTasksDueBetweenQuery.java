@@ -0,0 +1,15 @@
+package com.projecttaskhub.task_service.cqrs.query;
+
+import com.projecttaskhub.shareddto.dto.TaskDTO;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+public class GetTasksDueBetweenQuery implements Query<List<TaskDTO>> {
+    private LocalDateTime start;
+    private LocalDateTime end;
+}
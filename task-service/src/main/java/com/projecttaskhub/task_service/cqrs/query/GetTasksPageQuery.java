@@ -0,0 +1,13 @@
+package com.projecttaskhub.task_service.cqrs.query;
+
+import com.projecttaskhub.shareddto.dto.TaskDTO;
+import lombok.Builder;
+import lombok.Data;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+@Data
+@Builder
+public class GetTasksPageQuery implements Query<Page<TaskDTO>> {
+    private Pageable pageable;
+}
@@ -0,0 +1,10 @@
+package com.projecttaskhub.task_service.cqrs.query;
+
+/**
+ * Requête envoyée sur le {@link com.projecttaskhub.task_service.cqrs.bus.MessageBus}.
+ * Les requêtes servent de clé au cache du bus : equals/hashCode portent sur tous les critères.
+ *
+ * @param <R> type du résultat
+ */
+public interface Query<R> {
+}
@@ -0,0 +1,37 @@
+package com.projecttaskhub.task_service.discovery;
+
+import com.mongodb.event.ConnectionCheckOutFailedEvent;
+import com.mongodb.event.ConnectionCheckOutStartedEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+import com.mongodb.event.ConnectionPoolListener;
+import com.projecttaskhub.sharedinfra.discovery.PoolWaitProbe;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Nombre de threads en attente d'une connexion du pool MongoDB, publié dans Eureka
+@Component
+public class MongoPoolWaitListener implements ConnectionPoolListener, PoolWaitProbe {
+
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    @Override
+    public int threadsAwaitingConnection() {
+        return waiting.get();
+    }
+
+    @Override
+    public void connectionCheckOutStarted(ConnectionCheckOutStartedEvent event) {
+        waiting.incrementAndGet();
+    }
+
+    @Override
+    public void connectionCheckedOut(ConnectionCheckedOutEvent event) {
+        waiting.decrementAndGet();
+    }
+
+    @Override
+    public void connectionCheckOutFailed(ConnectionCheckOutFailedEvent event) {
+        waiting.decrementAndGet();
+    }
+}
@@ -0,0 +1,35 @@
+package com.projecttaskhub.task_service.entity;
+
+import com.projecttaskhub.shareddto.dto.ProjectDTO;
+import com.projecttaskhub.shareddto.dto.ProjectStatus;
+import com.projecttaskhub.shareddto.event.ProjectEvent;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Résumé du projet embarqué dans chaque tâche, tenu à jour par les événements
+ * PROJECT_UPDATED. La version (updatedAt du projet en ms) empêche un événement
+ * en retard d'écraser un état plus récent.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectSnapshot {
+
+    private String name;
+    private ProjectStatus status;
+    private long version;
+
+    public static ProjectSnapshot from(ProjectDTO project) {
+        return new ProjectSnapshot(project.getName(), project.getStatus(),
+                ProjectEvent.versionOf(project.getUpdatedAt()));
+    }
+
+    public static ProjectSnapshot from(ProjectEvent event) {
+        return new ProjectSnapshot(event.getProjectName(), event.getStatus(),
+                event.getVersion() == null ? 0L : event.getVersion());
+    }
+}
@@ -26,6 +26,10 @@ public class Task {
     private String title;
     private String description;
     private Long projectId;
+
+    // Résumé du projet dénormalisé (voir ProjectSnapshotService)
+    private ProjectSnapshot project;
+
     private TaskStatus status;
     private TaskPriority priority;
     private String assignedTo;
@@ -36,4 +40,7 @@ public class Task {
 
     @LastModifiedDate
     private LocalDateTime updatedAt;
+
+    // Numéro du dernier événement de task_events appliqué ; absent : tâche antérieure au journal
+    private Long sequence;
 }
\ No newline at end of file
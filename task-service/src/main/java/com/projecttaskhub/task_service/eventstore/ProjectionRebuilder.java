@@ -0,0 +1,143 @@
+package com.projecttaskhub.task_service.eventstore;
+
+import com.projecttaskhub.task_service.entity.Task;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Reconstruit les projections à partir du journal, une partition (projet) par tâche du pool :
+ * les partitions sont indépendantes, seul le nombre de threads borne la charge sur MongoDB.
+ * <p>
+ * Avant le rejeu, les tâches du projet écrites avant le journal (document tasks sans
+ * {@code sequence}) y sont reprises : une reconstruction ne perd aucune tâche existante.
+ */
+@Component
+@Slf4j
+public class ProjectionRebuilder implements DisposableBean {
+
+    private final TaskEventStore eventStore;
+    private final MongoTemplate mongoTemplate;
+    private final List<TaskProjection> projections;
+    private final int batchSize;
+    private final ExecutorService executor;
+
+    public ProjectionRebuilder(TaskEventStore eventStore,
+                               MongoTemplate mongoTemplate,
+                               List<TaskProjection> projections,
+                               @Value("${event-store.rebuild.threads:4}") int threads,
+                               @Value("${event-store.rebuild.batch-size:500}") int batchSize) {
+        this.eventStore = eventStore;
+        this.mongoTemplate = mongoTemplate;
+        this.projections = projections;
+        this.batchSize = batchSize;
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "projection-rebuild-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public record Report(List<String> projections, int partitions, long tasks, long durationMillis) {
+    }
+
+    /**
+     * @param projectIds  partitions à reconstruire ; vide : tous les projets connus
+     * @param names       projections à reconstruire ; vide : toutes
+     */
+    public Report rebuild(Collection<Long> projectIds, Collection<String> names) {
+        long start = System.nanoTime();
+        List<TaskProjection> selected = projections.stream()
+                .filter(projection -> names.isEmpty() || names.contains(projection.name()))
+                .toList();
+        if (selected.isEmpty()) {
+            throw new IllegalArgumentException("Aucune projection nommée " + names
+                    + " (disponibles : " + projections.stream().map(TaskProjection::name).toList() + ")");
+        }
+        Set<Long> partitions = projectIds.isEmpty() ? knownProjects() : new TreeSet<>(projectIds);
+
+        List<Future<Long>> futures = new ArrayList<>(partitions.size());
+        for (Long projectId : partitions) {
+            futures.add(executor.submit(rebuildPartition(projectId, selected)));
+        }
+        long tasks = 0;
+        try {
+            for (Future<Long> future : futures) {
+                tasks += future.get();
+            }
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("Échec de la reconstruction des projections", e.getCause());
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Reconstruction des projections interrompue", e);
+        }
+
+        Report report = new Report(selected.stream().map(TaskProjection::name).toList(), partitions.size(), tasks,
+                (System.nanoTime() - start) / 1_000_000);
+        log.info("Projections {} reconstruites : {} projets, {} tâches en {} ms",
+                report.projections(), report.partitions(), report.tasks(), report.durationMillis());
+        return report;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private Callable<Long> rebuildPartition(Long projectId, List<TaskProjection> selected) {
+        return () -> {
+            adoptLegacyTasks(projectId);
+            long tasks = 0;
+            for (TaskProjection projection : selected) {
+                try (Stream<TaskState> states = eventStore.replay(projectId)) {
+                    tasks = projection.rebuild(projectId, states);
+                }
+            }
+            return tasks;
+        };
+    }
+
+    private void adoptLegacyTasks(Long projectId) {
+        Query legacy = new Query(Criteria.where("projectId").is(projectId).and("sequence").exists(false))
+                .limit(batchSize);
+        List<Task> tasks;
+        do {
+            tasks = mongoTemplate.find(legacy, Task.class);
+            eventStore.adopt(tasks);
+            // Les documents reçoivent leur numéro : ils ne sortent plus au tour suivant
+            List<String> ids = tasks.stream().map(Task::getId).toList();
+            mongoTemplate.updateMulti(new Query(Criteria.where("_id").in(ids).and("sequence").exists(false)),
+                    Update.update("sequence", 1L), Task.class);
+        } while (tasks.size() == batchSize);
+    }
+
+    private Set<Long> knownProjects() {
+        return Stream.concat(eventStore.projectIds().stream(),
+                        mongoTemplate.findDistinct(new Query(), "projectId", Task.class, Long.class).stream())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+}
@@ -0,0 +1,43 @@
+package com.projecttaskhub.task_service.eventstore;
+
+import com.projecttaskhub.shareddto.dto.TaskPriority;
+import com.projecttaskhub.shareddto.dto.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Événement du journal des tâches (collection task_events, jamais modifiée).
+ * {@code sequence} numérote les événements d'une tâche à partir de 1 ; l'index unique
+ * (taskId, sequence) refuse deux écritures concurrentes du même numéro.
+ * Les champs de la tâche portent l'état initial (CREATED) ou les seuls champs modifiés
+ * (UPDATED, null = inchangé) ; DELETED n'en porte aucun.
+ */
+@Document(collection = "task_events")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StoredTaskEvent {
+
+    @Id
+    private String id;
+
+    private String taskId;
+    private Long projectId;
+    private long sequence;
+    private TaskEventType type;
+    private LocalDateTime occurredAt;
+
+    private String title;
+    private String description;
+    private TaskStatus status;
+    private TaskPriority priority;
+    private String assignedTo;
+    private LocalDateTime dueDate;
+}
@@ -0,0 +1,228 @@
+package com.projecttaskhub.task_service.eventstore;
+
+import com.projecttaskhub.task_service.entity.Task;
+import com.projecttaskhub.task_service.exception.TaskConcurrencyException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Journal des tâches en ajout seul (task_events) et instantanés (task_snapshots).
+ * <p>
+ * Chaque commande ajoute un événement numéroté à la suite du dernier connu : si un autre
+ * écrivain a pris ce numéro entre-temps, l'index unique (taskId, sequence) le refuse et la
+ * commande échoue en {@link TaskConcurrencyException}. Un instantané est écrit tous les
+ * {@code snapshot-every} événements d'une tâche.
+ */
+@Component
+@Slf4j
+public class TaskEventStore {
+
+    private static final int DUPLICATE_KEY = 11000;
+
+    private final MongoTemplate mongoTemplate;
+    private final int snapshotEvery;
+    private final MeterRegistry meterRegistry;
+
+    public TaskEventStore(MongoTemplate mongoTemplate,
+                          MeterRegistry meterRegistry,
+                          @Value("${event-store.snapshot-every:50}") int snapshotEvery) {
+        this.mongoTemplate = mongoTemplate;
+        this.meterRegistry = meterRegistry;
+        this.snapshotEvery = snapshotEvery;
+    }
+
+    public static String newTaskId() {
+        return ObjectId.get().toHexString();
+    }
+
+    /**
+     * Ajoute l'événement à la suite de {@code current} (null pour une création) et renvoie
+     * l'état qui en résulte.
+     */
+    public TaskState append(TaskState current, StoredTaskEvent event) {
+        TaskState state = current != null ? current.toBuilder().build() : TaskState.empty(event.getTaskId());
+        event.setSequence(state.getSequence() + 1);
+        if (event.getProjectId() == null) {
+            event.setProjectId(state.getProjectId());
+        }
+        if (event.getOccurredAt() == null) {
+            event.setOccurredAt(LocalDateTime.now());
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            mongoTemplate.insert(event);
+        } catch (DuplicateKeyException e) {
+            outcome = "conflict";
+            throw new TaskConcurrencyException(event.getTaskId(), event.getSequence());
+        } catch (RuntimeException e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer("task.eventstore.append",
+                    "type", event.getType().name(), "outcome", outcome));
+        }
+
+        state.apply(event);
+        if (state.getSequence() % snapshotEvery == 0) {
+            snapshot(state);
+        }
+        return state;
+    }
+
+    /**
+     * État courant d'une tâche : dernier instantané puis événements suivants. Vide si la tâche
+     * n'a aucun événement ; l'état d'une tâche supprimée est renvoyé avec {@code deleted}.
+     */
+    public Optional<TaskState> load(String taskId) {
+        TaskStateSnapshot snapshot = mongoTemplate.findById(taskId, TaskStateSnapshot.class);
+        TaskState state = snapshot != null ? snapshot.getState() : TaskState.empty(taskId);
+
+        Query query = new Query(Criteria.where("taskId").is(taskId).and("sequence").gt(state.getSequence()))
+                .with(Sort.by("sequence"));
+        List<StoredTaskEvent> events = mongoTemplate.find(query, StoredTaskEvent.class);
+        events.forEach(state::apply);
+        return state.getSequence() == 0 ? Optional.empty() : Optional.of(state);
+    }
+
+    /**
+     * Reprend dans le journal des tâches écrites avant lui : un CREATED reproduisant leur
+     * document. Une tâche déjà reprise par un autre écrivain est ignorée.
+     */
+    public void adopt(List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, StoredTaskEvent.class);
+        for (Task task : tasks) {
+            bulk.insert(StoredTaskEvent.builder()
+                    .taskId(task.getId())
+                    .projectId(task.getProjectId())
+                    .sequence(1)
+                    .type(TaskEventType.CREATED)
+                    .occurredAt(task.getCreatedAt() != null ? task.getCreatedAt() : LocalDateTime.now())
+                    .title(task.getTitle())
+                    .description(task.getDescription())
+                    .status(task.getStatus())
+                    .priority(task.getPriority())
+                    .assignedTo(task.getAssignedTo())
+                    .dueDate(task.getDueDate())
+                    .build());
+        }
+        try {
+            bulk.execute();
+        } catch (BulkOperationException e) {
+            if (!e.getErrors().stream().allMatch(error -> error.getCode() == DUPLICATE_KEY)) {
+                throw e;
+            }
+        }
+        log.info("{} tâches antérieures au journal reprises", tasks.size());
+    }
+
+    /**
+     * Journalise la suppression de toutes les tâches vivantes d'un projet (projet supprimé).
+     *
+     * @return nombre de tâches supprimées
+     */
+    public long deleteProject(Long projectId) {
+        LocalDateTime now = LocalDateTime.now();
+        long deleted = 0;
+        try (Stream<TaskState> states = replay(projectId)) {
+            BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, StoredTaskEvent.class);
+            for (Iterator<TaskState> iterator = states.filter(state -> !state.isDeleted()).iterator(); iterator.hasNext(); ) {
+                TaskState state = iterator.next();
+                bulk.insert(StoredTaskEvent.builder()
+                        .taskId(state.getId())
+                        .projectId(projectId)
+                        .sequence(state.getSequence() + 1)
+                        .type(TaskEventType.DELETED)
+                        .occurredAt(now)
+                        .build());
+                deleted++;
+            }
+            if (deleted > 0) {
+                bulk.execute();
+            }
+        } catch (BulkOperationException e) {
+            // Une commande concurrente a pris le numéro : la tâche reste vivante dans le journal
+            log.warn("Suppression du projet {} : {} tâches modifiées entre-temps non supprimées du journal",
+                    projectId, e.getErrors().size());
+            deleted -= e.getErrors().size();
+        }
+        return deleted;
+    }
+
+    public boolean exists(String taskId) {
+        return mongoTemplate.exists(new Query(Criteria.where("taskId").is(taskId)), StoredTaskEvent.class);
+    }
+
+    public List<Long> projectIds() {
+        return mongoTemplate.findDistinct(new Query(), "projectId", StoredTaskEvent.class, Long.class);
+    }
+
+    /**
+     * Rejoue les événements d'un projet, tâche par tâche (index projectId, taskId, sequence) :
+     * un seul état en mémoire à la fois. Le flux doit être fermé.
+     */
+    public Stream<TaskState> replay(Long projectId) {
+        Query query = new Query(Criteria.where("projectId").is(projectId))
+                .with(Sort.by("taskId", "sequence"));
+        Stream<StoredTaskEvent> events = mongoTemplate.stream(query, StoredTaskEvent.class);
+        Iterator<StoredTaskEvent> iterator = events.iterator();
+        Iterator<TaskState> states = new Iterator<>() {
+            private StoredTaskEvent pending = iterator.hasNext() ? iterator.next() : null;
+
+            @Override
+            public boolean hasNext() {
+                return pending != null;
+            }
+
+            @Override
+            public TaskState next() {
+                if (pending == null) {
+                    throw new NoSuchElementException();
+                }
+                TaskState state = TaskState.empty(pending.getTaskId());
+                while (pending != null && pending.getTaskId().equals(state.getId())) {
+                    state.apply(pending);
+                    pending = iterator.hasNext() ? iterator.next() : null;
+                }
+                return state;
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(states, Spliterator.ORDERED), false)
+                .onClose(events::close);
+    }
+
+    private void snapshot(TaskState state) {
+        // Un instantané plus récent écrit entre-temps n'est pas écrasé
+        Query newer = new Query(Criteria.where("_id").is(state.getId()).and("sequence").gte(state.getSequence()));
+        if (mongoTemplate.exists(newer, TaskStateSnapshot.class)) {
+            return;
+        }
+        mongoTemplate.save(new TaskStateSnapshot(state.getId(), state.getProjectId(), state.getSequence(),
+                state, LocalDateTime.now()));
+    }
+}
@@ -0,0 +1,7 @@
+package com.projecttaskhub.task_service.eventstore;
+
+public enum TaskEventType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
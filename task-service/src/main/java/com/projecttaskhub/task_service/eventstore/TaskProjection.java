@@ -0,0 +1,20 @@
+package com.projecttaskhub.task_service.eventstore;
+
+import java.util.stream.Stream;
+
+/**
+ * Modèle de lecture calculé à partir du journal des tâches. {@link #apply} suit les commandes
+ * une à une ; {@link #rebuild} régénère la partition d'un projet à partir de l'état rejoué de
+ * chacune de ses tâches (supprimées comprises), en parallèle des autres partitions.
+ */
+public interface TaskProjection {
+
+    String name();
+
+    void apply(TaskState state);
+
+    /**
+     * @return nombre de tâches de la partition après reconstruction
+     */
+    long rebuild(Long projectId, Stream<TaskState> states);
+}
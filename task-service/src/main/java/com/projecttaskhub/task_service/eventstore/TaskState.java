@@ -0,0 +1,101 @@
+package com.projecttaskhub.task_service.eventstore;
+
+import com.projecttaskhub.shareddto.dto.TaskPriority;
+import com.projecttaskhub.shareddto.dto.TaskStatus;
+import com.projecttaskhub.task_service.entity.Task;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * État d'une tâche obtenu en rejouant ses événements : base des projections et des
+ * instantanés (task_snapshots).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class TaskState {
+
+    private String id;
+    private Long projectId;
+    private String title;
+    private String description;
+    private TaskStatus status;
+    private TaskPriority priority;
+    private String assignedTo;
+    private LocalDateTime dueDate;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private long sequence;
+    private boolean deleted;
+
+    static TaskState empty(String taskId) {
+        return TaskState.builder().id(taskId).build();
+    }
+
+    /**
+     * Applique l'événement suivant de la tâche ; un numéro hors séquence signale un journal incohérent.
+     */
+    void apply(StoredTaskEvent event) {
+        if (event.getSequence() != sequence + 1) {
+            throw new IllegalStateException("Événement " + event.getSequence() + " de la tâche " + id
+                    + " appliqué après l'événement " + sequence);
+        }
+        switch (event.getType()) {
+            case CREATED -> {
+                projectId = event.getProjectId();
+                title = event.getTitle();
+                description = event.getDescription();
+                status = event.getStatus();
+                priority = event.getPriority();
+                assignedTo = event.getAssignedTo();
+                dueDate = event.getDueDate();
+                createdAt = event.getOccurredAt();
+            }
+            case UPDATED -> {
+                if (event.getTitle() != null) {
+                    title = event.getTitle();
+                }
+                if (event.getDescription() != null) {
+                    description = event.getDescription();
+                }
+                if (event.getStatus() != null) {
+                    status = event.getStatus();
+                }
+                if (event.getPriority() != null) {
+                    priority = event.getPriority();
+                }
+                if (event.getAssignedTo() != null) {
+                    assignedTo = event.getAssignedTo();
+                }
+                if (event.getDueDate() != null) {
+                    dueDate = event.getDueDate();
+                }
+            }
+            case DELETED -> deleted = true;
+        }
+        updatedAt = event.getOccurredAt();
+        sequence = event.getSequence();
+    }
+
+    // Document de la collection tasks, sans résumé de projet (géré par ProjectSnapshotService)
+    public Task toTask() {
+        return Task.builder()
+                .id(id)
+                .projectId(projectId)
+                .title(title)
+                .description(description)
+                .status(status)
+                .priority(priority)
+                .assignedTo(assignedTo)
+                .dueDate(dueDate)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .sequence(sequence)
+                .build();
+    }
+}
@@ -0,0 +1,28 @@
+package com.projecttaskhub.task_service.eventstore;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Dernier instantané d'une tâche (collection task_snapshots, un document par tâche) :
+ * le chargement ne rejoue que les événements postérieurs à {@code sequence}.
+ */
+@Document(collection = "task_snapshots")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStateSnapshot {
+
+    @Id
+    private String taskId;
+
+    private Long projectId;
+    private long sequence;
+    private TaskState state;
+    private LocalDateTime takenAt;
+}
@@ -0,0 +1,181 @@
+package com.projecttaskhub.task_service.eventstore;
+
+import com.projecttaskhub.task_service.entity.ProjectSnapshot;
+import com.projecttaskhub.task_service.entity.Task;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Collection tasks vue comme projection du journal : un document par tâche vivante, portant
+ * le numéro du dernier événement appliqué. Une écriture ne remplace jamais un document plus
+ * récent (commande et reconstruction concurrentes) et ne touche pas au résumé de projet,
+ * entretenu à part par ProjectSnapshotService.
+ */
+@Component
+@Slf4j
+public class TasksProjection implements TaskProjection {
+
+    private static final int DUPLICATE_KEY = 11000;
+
+    private final MongoTemplate mongoTemplate;
+    private final TaskEventStore eventStore;
+    private final int batchSize;
+
+    public TasksProjection(MongoTemplate mongoTemplate,
+                           TaskEventStore eventStore,
+                           @Value("${event-store.rebuild.batch-size:500}") int batchSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.eventStore = eventStore;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public String name() {
+        return "tasks";
+    }
+
+    @Override
+    public void apply(TaskState state) {
+        project(state);
+    }
+
+    /**
+     * Applique l'état et renvoie le document obtenu (résumé de projet compris), ou null
+     * pour une tâche supprimée.
+     */
+    public Task project(TaskState state) {
+        if (state.isDeleted()) {
+            mongoTemplate.remove(olderThan(state), Task.class);
+            return null;
+        }
+        try {
+            return mongoTemplate.findAndModify(olderThan(state), fields(state),
+                    FindAndModifyOptions.options().upsert(true).returnNew(true), Task.class);
+        } catch (DuplicateKeyException e) {
+            // Document déjà plus récent : il est conservé
+            return mongoTemplate.findById(state.getId(), Task.class);
+        }
+    }
+
+    // Résumé de projet connu à la création ; les suivants viennent des événements de projet
+    public void attachProject(String taskId, ProjectSnapshot snapshot) {
+        Query query = new Query(Criteria.where("_id").is(taskId).and("project").is(null));
+        mongoTemplate.updateFirst(query, Update.update("project", snapshot), Task.class);
+    }
+
+    @Override
+    public long rebuild(Long projectId, Stream<TaskState> states) {
+        Set<String> replayed = new HashSet<>();
+        long live = 0;
+        List<TaskState> batch = new ArrayList<>(batchSize);
+        for (Iterator<TaskState> iterator = states.iterator(); iterator.hasNext(); ) {
+            TaskState state = iterator.next();
+            replayed.add(state.getId());
+            if (!state.isDeleted()) {
+                live++;
+            }
+            batch.add(state);
+            if (batch.size() == batchSize) {
+                write(batch);
+                batch.clear();
+            }
+        }
+        write(batch);
+
+        long removed = removeUnknown(projectId, replayed);
+        log.debug("Projection tasks du projet {} : {} tâches, {} documents sans journal retirés", projectId, live, removed);
+        return live;
+    }
+
+    private void write(List<TaskState> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Task.class);
+        // Numéro égal compris : un document altéré hors journal est réécrit à l'identique
+        for (TaskState state : batch) {
+            if (state.isDeleted()) {
+                bulk.remove(notNewerThan(state));
+            } else {
+                bulk.upsert(notNewerThan(state), fields(state));
+            }
+        }
+        try {
+            bulk.execute();
+        } catch (BulkOperationException e) {
+            if (!e.getErrors().stream().allMatch(error -> error.getCode() == DUPLICATE_KEY)) {
+                throw e;
+            }
+        }
+    }
+
+    // Documents du projet absents du rejeu : retirés s'ils n'ont toujours aucun événement
+    private long removeUnknown(Long projectId, Set<String> replayed) {
+        Query partition = new Query(Criteria.where("projectId").is(projectId));
+        partition.fields().include("_id");
+        List<String> unknown = mongoTemplate.find(partition, Task.class).stream()
+                .map(Task::getId)
+                .filter(id -> !replayed.contains(id) && !eventStore.exists(id))
+                .toList();
+        if (!unknown.isEmpty()) {
+            mongoTemplate.remove(new Query(Criteria.where("_id").in(unknown)), Task.class);
+        }
+        return unknown.size();
+    }
+
+    private static Query olderThan(TaskState state) {
+        return new Query(Criteria.where("_id").is(state.getId()).orOperator(
+                Criteria.where("sequence").lt(state.getSequence()),
+                Criteria.where("sequence").exists(false)));
+    }
+
+    private static Query notNewerThan(TaskState state) {
+        return new Query(Criteria.where("_id").is(state.getId()).orOperator(
+                Criteria.where("sequence").lte(state.getSequence()),
+                Criteria.where("sequence").exists(false)));
+    }
+
+    // Champs nuls retirés, comme à l'enregistrement d'une entité (validateur de tasks : pas de null)
+    private static Update fields(TaskState state) {
+        Update update = new Update()
+                .set("projectId", state.getProjectId())
+                .set("title", state.getTitle())
+                .set("status", state.getStatus())
+                .set("priority", state.getPriority())
+                .set("createdAt", state.getCreatedAt())
+                .set("updatedAt", state.getUpdatedAt())
+                .set("sequence", state.getSequence());
+        if (state.getDescription() != null) {
+            update.set("description", state.getDescription());
+        } else {
+            update.unset("description");
+        }
+        if (state.getAssignedTo() != null) {
+            update.set("assignedTo", state.getAssignedTo());
+        } else {
+            update.unset("assignedTo");
+        }
+        if (state.getDueDate() != null) {
+            update.set("dueDate", state.getDueDate());
+        } else {
+            update.unset("dueDate");
+        }
+        return update;
+    }
+}
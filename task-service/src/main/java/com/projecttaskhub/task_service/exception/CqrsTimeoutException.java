@@ -0,0 +1,9 @@
+package com.projecttaskhub.task_service.exception;
+
+import java.time.Duration;
+
+public class CqrsTimeoutException extends RuntimeException {
+    public CqrsTimeoutException(String messageType, Duration timeout) {
+        super("Délai de " + timeout.toMillis() + " ms dépassé pour " + messageType);
+    }
+}
@@ -0,0 +1,11 @@
+package com.projecttaskhub.task_service.exception;
+
+public class ProjectServiceUnavailableException extends RuntimeException {
+    public ProjectServiceUnavailableException(String message) {
+        super(message);
+    }
+
+    public ProjectServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
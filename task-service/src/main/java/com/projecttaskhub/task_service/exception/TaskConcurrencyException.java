@@ -0,0 +1,7 @@
+package com.projecttaskhub.task_service.exception;
+
+public class TaskConcurrencyException extends RuntimeException {
+    public TaskConcurrencyException(String taskId, long sequence) {
+        super("Modification concurrente de la tâche " + taskId + " (événement " + sequence + " déjà enregistré)");
+    }
+}
@@ -0,0 +1,254 @@
+package com.projecttaskhub.task_service.existence;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projecttaskhub.task_service.client.ProjectServiceClient;
+import feign.Response;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ensemble probabiliste des IDs de projets existants, tenu en mémoire par task-service.
+ * <p>
+ * Amorcé depuis GET /projects/ids, complété par les événements PROJECT_CREATED et
+ * reconstruit périodiquement pour oublier les projets supprimés (un filtre de Bloom ne
+ * sait pas retirer un élément ; d'ici là les suppressions reçues sont gardées à part).
+ * <p>
+ * Un projet tout juste créé n'est connu qu'à réception de son événement, asynchrone : une
+ * absence du filtre n'est donc sûre (ABSENT, sans appel à project-service) que pour un ID
+ * inférieur au plus grand ID connu, moins {@code high-water-margin} (les instances de
+ * project-service réservent les IDs par blocs). Au-delà (BEYOND_KNOWN), comme pour une
+ * réponse positive, project-service confirme. Les créations reçues sont reportées dans le
+ * filtre suivant pendant un cycle de reconstruction, au cas où l'instantané (lu sur un
+ * réplica éventuellement en retard) ne les contiendrait pas encore. Tant que le filtre
+ * n'est pas chargé, tout passe par project-service.
+ */
+@Component
+@Slf4j
+public class ProjectExistenceFilter {
+
+    public enum Verdict {
+        ABSENT,
+        BEYOND_KNOWN,
+        MAYBE_PRESENT,
+        UNAVAILABLE
+    }
+
+    private final ProjectServiceClient projectServiceClient;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final long minCapacity;
+    private final double falsePositiveRate;
+    private final double growthFactor;
+    private final long rebuildIntervalMillis;
+    private final long highWaterMargin;
+
+    private volatile ProjectIdBloomFilter filter;
+    // Filtre en cours de chargement : les créations reçues entre-temps y sont aussi ajoutées
+    private volatile ProjectIdBloomFilter loading;
+    private volatile long builtAtMillis;
+    private volatile long lastSnapshotSize;
+    // Plus grand ID de projet connu (instantanés et événements) ; 0 tant qu'aucun ID n'est connu,
+    // les IDs étant positifs : toute absence du filtre est alors confirmée par project-service
+    private final AtomicLong highWaterMark = new AtomicLong();
+    // Créations reçues depuis l'avant-dernier instantané (ID -> date de réception)
+    private final Map<Long, Long> createdSinceSnapshot = new ConcurrentHashMap<>();
+    // Suppressions reçues depuis le dernier instantané (ID -> date de réception)
+    private final Map<Long, Long> deletedSinceSnapshot = new ConcurrentHashMap<>();
+
+    private final Counter absentChecks;
+    private final Counter beyondKnownChecks;
+    private final Counter maybeChecks;
+    private final Counter unavailableChecks;
+    private final Counter falsePositives;
+    private final Counter rebuilds;
+    private final Counter rebuildFailures;
+
+    public ProjectExistenceFilter(ProjectServiceClient projectServiceClient,
+                                  ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${project-filter.enabled:true}") boolean enabled,
+                                  @Value("${project-filter.min-capacity:100000}") long minCapacity,
+                                  @Value("${project-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                                  @Value("${project-filter.growth-factor:2.0}") double growthFactor,
+                                  @Value("${project-filter.rebuild-interval-ms:900000}") long rebuildIntervalMillis,
+                                  @Value("${project-filter.high-water-margin:500}") long highWaterMargin) {
+        this.projectServiceClient = projectServiceClient;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.minCapacity = minCapacity;
+        this.falsePositiveRate = falsePositiveRate;
+        this.growthFactor = growthFactor;
+        this.rebuildIntervalMillis = rebuildIntervalMillis;
+        this.highWaterMargin = highWaterMargin;
+
+        this.absentChecks = checkCounter(meterRegistry, "absent");
+        this.beyondKnownChecks = checkCounter(meterRegistry, "beyond_known");
+        this.maybeChecks = checkCounter(meterRegistry, "maybe_present");
+        this.unavailableChecks = checkCounter(meterRegistry, "unavailable");
+        this.falsePositives = Counter.builder("project.filter.false_positives")
+                .description("Réponses positives du filtre démenties par project-service")
+                .register(meterRegistry);
+        this.rebuilds = meterRegistry.counter("project.filter.rebuilds", "result", "success");
+        this.rebuildFailures = meterRegistry.counter("project.filter.rebuilds", "result", "failure");
+
+        Gauge.builder("project.filter.memory", this, f -> f.filter == null ? 0 : f.filter.sizeInBytes())
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("project.filter.entries", this, f -> f.filter == null ? 0 : f.filter.insertions())
+                .register(meterRegistry);
+        Gauge.builder("project.filter.expected_false_positive_rate", this,
+                        f -> f.filter == null ? 0 : f.filter.expectedFalsePositiveRate())
+                .register(meterRegistry);
+        Gauge.builder("project.filter.pending_deletions", deletedSinceSnapshot, Map::size)
+                .register(meterRegistry);
+    }
+
+    public Verdict check(Long projectId) {
+        ProjectIdBloomFilter current = filter;
+        if (!enabled || current == null || projectId == null) {
+            unavailableChecks.increment();
+            return Verdict.UNAVAILABLE;
+        }
+        if (deletedSinceSnapshot.containsKey(projectId)) {
+            absentChecks.increment();
+            return Verdict.ABSENT;
+        }
+        if (!current.mightContain(projectId)) {
+            // Création peut-être pas encore reçue : seule une absence sous le plus grand ID connu est sûre
+            if (projectId > highWaterMark.get() - highWaterMargin) {
+                beyondKnownChecks.increment();
+                return Verdict.BEYOND_KNOWN;
+            }
+            absentChecks.increment();
+            return Verdict.ABSENT;
+        }
+        maybeChecks.increment();
+        return Verdict.MAYBE_PRESENT;
+    }
+
+    // Appelé quand project-service dément une réponse MAYBE_PRESENT
+    public void recordFalsePositive() {
+        falsePositives.increment();
+    }
+
+    public void projectsCreated(Collection<Long> projectIds) {
+        for (Long projectId : projectIds) {
+            if (projectId == null) {
+                continue;
+            }
+            deletedSinceSnapshot.remove(projectId);
+            createdSinceSnapshot.put(projectId, System.currentTimeMillis());
+            highWaterMark.accumulateAndGet(projectId, Math::max);
+            ProjectIdBloomFilter current = filter;
+            if (current != null) {
+                current.add(projectId);
+            }
+            ProjectIdBloomFilter next = loading;
+            if (next != null) {
+                next.add(projectId);
+            }
+        }
+    }
+
+    public void projectDeleted(Long projectId) {
+        if (projectId != null) {
+            deletedSinceSnapshot.put(projectId, System.currentTimeMillis());
+            createdSinceSnapshot.remove(projectId);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${project-filter.initial-delay-ms:5000}",
+            fixedDelayString = "${project-filter.check-interval-ms:30000}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        if (filter != null && System.currentTimeMillis() - builtAtMillis < rebuildIntervalMillis) {
+            return;
+        }
+        rebuild();
+    }
+
+    public synchronized void rebuild() {
+        long startMillis = System.currentTimeMillis();
+        long capacity = Math.max(minCapacity, (long) (lastSnapshotSize * growthFactor));
+        ProjectIdBloomFilter next = new ProjectIdBloomFilter(capacity, falsePositiveRate);
+        loading = next;
+
+        long count;
+        try {
+            count = loadSnapshot(next);
+        } catch (Exception e) {
+            loading = null;
+            rebuildFailures.increment();
+            log.warn("Échec du chargement du filtre d'existence des projets: {}", e.getMessage());
+            return;
+        }
+
+        // Créations reçues avant le chargement : l'instantané peut encore les ignorer
+        createdSinceSnapshot.keySet().forEach(next::add);
+        long previousBuiltAtMillis = builtAtMillis;
+        filter = next;
+        loading = null;
+        builtAtMillis = startMillis;
+        // Gardées un cycle de plus : l'instantané suivant, pris un intervalle plus tard, les contient
+        createdSinceSnapshot.values().removeIf(receivedAt -> receivedAt < previousBuiltAtMillis);
+        lastSnapshotSize = count;
+        // Les suppressions antérieures à l'instantané y sont déjà prises en compte
+        deletedSinceSnapshot.values().removeIf(receivedAt -> receivedAt < startMillis);
+        rebuilds.increment();
+
+        log.info("Filtre d'existence des projets chargé: {} IDs, capacité {}, {} Ko, {} ms",
+                count, capacity, next.sizeInBytes() / 1024, System.currentTimeMillis() - startMillis);
+        if (count > capacity) {
+            log.warn("Filtre d'existence saturé ({} IDs pour une capacité de {}) : redimensionné à la prochaine reconstruction",
+                    count, capacity);
+        }
+    }
+
+    // Lecture en flux du tableau JSON d'IDs, sans le matérialiser en liste
+    private long loadSnapshot(ProjectIdBloomFilter target) throws IOException {
+        try (Response response = projectServiceClient.getAllProjectIds()) {
+            if (response.status() != 200 || response.body() == null) {
+                throw new IllegalStateException("Réponse inattendue de /projects/ids: HTTP " + response.status());
+            }
+            try (InputStream body = response.body().asInputStream();
+                 JsonParser parser = objectMapper.getFactory().createParser(body)) {
+                if (parser.nextToken() != JsonToken.START_ARRAY) {
+                    throw new IllegalStateException("Instantané d'IDs invalide");
+                }
+                long count = 0;
+                long maxId = 0;
+                while (parser.nextToken() == JsonToken.VALUE_NUMBER_INT) {
+                    long projectId = parser.getLongValue();
+                    target.add(projectId);
+                    maxId = Math.max(maxId, projectId);
+                    count++;
+                }
+                highWaterMark.accumulateAndGet(maxId, Math::max);
+                return count;
+            }
+        }
+    }
+
+    private static Counter checkCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("project.filter.checks")
+                .description("Vérifications d'existence de projet par le filtre local")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
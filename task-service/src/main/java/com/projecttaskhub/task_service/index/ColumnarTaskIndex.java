@@ -0,0 +1,214 @@
+package com.projecttaskhub.task_service.index;
+
+import com.projecttaskhub.task_service.changestream.TaskChange;
+import com.projecttaskhub.task_service.changestream.TaskChangeHandler;
+import com.projecttaskhub.task_service.entity.Task;
+import com.projecttaskhub.task_service.eventstore.TaskProjection;
+import com.projecttaskhub.task_service.eventstore.TaskState;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Modèle de lecture en mémoire de task-service (task-index.enabled) : les tâches vivantes
+ * dans un {@link TaskColumnStore}, pour des filtres conjonctifs et des comptages sans index
+ * MongoDB dédié à chaque combinaison de critères.
+ * <p>
+ * Chargé depuis la collection tasks au démarrage, puis rechargé toutes les
+ * {@code reload-interval-ms} (lignes des tâches supprimées ; écritures des autres instances
+ * sans flux de modifications). Entre-temps, tenu à jour par les événements des commandes de
+ * l'instance, comme toute projection du journal, et par le flux de modifications de tasks
+ * (change-stream.enabled) pour toutes les autres écritures. Ce qui arrive pendant un
+ * chargement est aussi appliqué au magasin en cours de chargement : le numéro d'événement de
+ * chaque ligne départage les deux sources. Tant que le premier chargement n'est pas terminé, {@link #ready()} est faux.
+ */
+@Component
+@ConditionalOnProperty(name = "task-index.enabled", havingValue = "true")
+@Slf4j
+public class ColumnarTaskIndex implements TaskProjection, TaskChangeHandler {
+
+    private final MongoTemplate mongoTemplate;
+    private final Timer reloads;
+
+    private volatile TaskColumnStore store;
+    private volatile TaskColumnStore loading;
+    private volatile int lastRowCount;
+
+    public ColumnarTaskIndex(MongoTemplate mongoTemplate, MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.reloads = Timer.builder("task.index.reload")
+                .description("Chargement complet de l'index des tâches depuis MongoDB")
+                .register(meterRegistry);
+
+        Gauge.builder("task.index.tasks", this, index -> index.store == null ? 0 : index.store.liveCount())
+                .register(meterRegistry);
+        Gauge.builder("task.index.rows", this, index -> index.store == null ? 0 : index.store.rowCount())
+                .register(meterRegistry);
+        Gauge.builder("task.index.memory", this, index -> index.store == null ? 0 : index.store.sizeInBytes())
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String name() {
+        return "columnar";
+    }
+
+    public boolean ready() {
+        return store != null;
+    }
+
+    @Override
+    public void apply(TaskState state) {
+        TaskColumnStore current = store;
+        if (current != null) {
+            current.apply(state);
+        }
+        TaskColumnStore next = loading;
+        if (next != null) {
+            next.apply(state);
+        }
+    }
+
+    @Override
+    public long rebuild(Long projectId, Stream<TaskState> states) {
+        TaskColumnStore current = store;
+        Set<String> replayed = new HashSet<>();
+        long live = 0;
+        for (Iterator<TaskState> iterator = states.iterator(); iterator.hasNext(); ) {
+            TaskState state = iterator.next();
+            replayed.add(state.getId());
+            if (!state.isDeleted()) {
+                live++;
+            }
+            apply(state);
+        }
+        if (current != null) {
+            current.retainProject(projectId, replayed);
+        }
+        return live;
+    }
+
+    @Override
+    public void onChanges(List<TaskChange> changes) {
+        TaskColumnStore current = store;
+        TaskColumnStore next = loading;
+        for (TaskChange change : changes) {
+            if (change.deleted()) {
+                if (current != null) {
+                    current.remove(change.taskId());
+                }
+                if (next != null) {
+                    next.remove(change.taskId());
+                }
+                continue;
+            }
+            TaskState state = stateOf(change.task());
+            if (current != null) {
+                current.replace(state);
+            }
+            if (next != null) {
+                next.replace(state);
+            }
+        }
+    }
+
+    @Override
+    public void onReset() {
+        reload();
+    }
+
+    public void projectDeleted(Long projectId) {
+        TaskColumnStore current = store;
+        if (current != null) {
+            int removed = current.removeProject(projectId);
+            log.debug("Index des tâches : {} tâches du projet {} retirées", removed, projectId);
+        }
+        TaskColumnStore next = loading;
+        if (next != null) {
+            next.removeProject(projectId);
+        }
+    }
+
+    public long count(TaskFilter filter) {
+        return requireStore().count(filter);
+    }
+
+    public List<String> ids(TaskFilter filter, int limit) {
+        return requireStore().ids(filter, limit);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reload();
+    }
+
+    @Scheduled(initialDelayString = "${task-index.reload-interval-ms:300000}",
+            fixedDelayString = "${task-index.reload-interval-ms:300000}")
+    public void refresh() {
+        reload();
+    }
+
+    public synchronized void reload() {
+        long startMillis = System.currentTimeMillis();
+        TaskColumnStore next = new TaskColumnStore(lastRowCount + lastRowCount / 4);
+        loading = next;
+        try {
+            reloads.record(() -> load(next));
+        } catch (Exception e) {
+            loading = null;
+            log.warn("Échec du chargement de l'index des tâches: {}", e.getMessage());
+            return;
+        }
+        store = next;
+        loading = null;
+        lastRowCount = next.rowCount();
+        log.info("Index des tâches chargé: {} tâches, {} Ko, {} ms",
+                next.liveCount(), next.sizeInBytes() / 1024, System.currentTimeMillis() - startMillis);
+    }
+
+    // Lecture en flux des seules colonnes indexées, dans l'ordre de création (_id)
+    private void load(TaskColumnStore target) {
+        Query query = new Query().with(Sort.by("_id"));
+        query.fields().include("projectId", "status", "priority", "assignedTo", "dueDate", "sequence");
+        try (Stream<Task> tasks = mongoTemplate.stream(query, Task.class)) {
+            tasks.forEach(task -> target.apply(stateOf(task)));
+        }
+    }
+
+    private static TaskState stateOf(Task task) {
+        return TaskState.builder()
+                .id(task.getId())
+                .projectId(task.getProjectId())
+                .status(task.getStatus())
+                .priority(task.getPriority())
+                .assignedTo(task.getAssignedTo())
+                .dueDate(task.getDueDate())
+                .sequence(task.getSequence() == null ? 0 : task.getSequence())
+                .build();
+    }
+
+    private TaskColumnStore requireStore() {
+        TaskColumnStore current = store;
+        if (current == null) {
+            throw new IllegalStateException("Index des tâches en cours de chargement");
+        }
+        return current;
+    }
+}
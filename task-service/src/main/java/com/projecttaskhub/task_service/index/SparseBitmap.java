@@ -0,0 +1,98 @@
+package com.projecttaskhub.task_service.index;
+
+import java.util.Arrays;
+
+/**
+ * Bitmap creux des lignes d'une valeur à forte cardinalité (projet, assigné) : seuls les mots
+ * de 64 lignes non vides sont gardés, triés par numéro de mot. Les lignes étant attribuées dans
+ * l'ordre, un ajout se fait presque toujours en fin de tableau.
+ * Non synchronisé : accès sous le verrou de {@link TaskColumnStore}.
+ */
+final class SparseBitmap {
+
+    private int[] keys = new int[4];
+    private long[] words = new long[4];
+    private int length;
+    private int cardinality;
+
+    void set(int row) {
+        int key = row >>> 6;
+        int position = position(key);
+        if (position < 0) {
+            position = -position - 1;
+            insert(position, key);
+        }
+        long mask = 1L << row;
+        if ((words[position] & mask) == 0) {
+            words[position] |= mask;
+            cardinality++;
+        }
+    }
+
+    void clear(int row) {
+        int position = position(row >>> 6);
+        if (position < 0) {
+            return;
+        }
+        long mask = 1L << row;
+        if ((words[position] & mask) != 0) {
+            words[position] &= ~mask;
+            cardinality--;
+        }
+    }
+
+    // Nombre de mots gardés ; les mots vidés par clear restent jusqu'à la reconstruction
+    int length() {
+        return length;
+    }
+
+    int cardinality() {
+        return cardinality;
+    }
+
+    int key(int index) {
+        return keys[index];
+    }
+
+    long word(int index) {
+        return words[index];
+    }
+
+    /**
+     * Premier indice à partir de {@code from} dont le numéro de mot est au moins {@code key} :
+     * parcours conjoint de deux bitmaps triés sans repartir du début.
+     */
+    int seek(int key, int from) {
+        if (from >= length || keys[from] >= key) {
+            return from;
+        }
+        int index = Arrays.binarySearch(keys, from, length, key);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    long sizeInBytes() {
+        return (long) keys.length * Integer.BYTES + (long) words.length * Long.BYTES;
+    }
+
+    private int position(int key) {
+        if (length > 0 && keys[length - 1] == key) {
+            return length - 1;
+        }
+        if (length == 0 || keys[length - 1] < key) {
+            return -length - 1;
+        }
+        return Arrays.binarySearch(keys, 0, length, key);
+    }
+
+    private void insert(int position, int key) {
+        if (length == keys.length) {
+            keys = Arrays.copyOf(keys, length * 2);
+            words = Arrays.copyOf(words, length * 2);
+        }
+        System.arraycopy(keys, position, keys, position + 1, length - position);
+        System.arraycopy(words, position, words, position + 1, length - position);
+        keys[position] = key;
+        words[position] = 0;
+        length++;
+    }
+}
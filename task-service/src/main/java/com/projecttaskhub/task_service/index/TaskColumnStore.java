@@ -0,0 +1,444 @@
+package com.projecttaskhub.task_service.index;
+
+import com.projecttaskhub.shareddto.dto.TaskPriority;
+import com.projecttaskhub.shareddto.dto.TaskStatus;
+import com.projecttaskhub.task_service.eventstore.TaskState;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Tâches rangées par colonnes de types primitifs, une ligne par tâche : statut et priorité en
+ * codes octet, projet en long, assigné en code de dictionnaire (int), échéance en millisecondes
+ * epoch UTC. Chaque colonne filtrable a ses bitmaps de lignes : denses pour statut et priorité,
+ * creux ({@link SparseBitmap}) pour projet et assigné.
+ * <p>
+ * Un filtre se résout mot de 64 lignes par mot de 64 lignes, par ET entre bitmaps, en partant
+ * du bitmap creux le plus court ; seule l'échéance est vérifiée ligne à ligne, sur les lignes
+ * déjà retenues. Le parcours n'alloue rien, et les colonnes à largeur fixe se transposeraient
+ * telles quelles hors du tas.
+ * <p>
+ * Une tâche supprimée garde sa ligne et son numéro d'événement, pour écarter un état plus
+ * ancien reçu ensuite ; ces lignes ne sont récupérées qu'en reconstruisant le magasin.
+ * Écritures exclusives, lectures concurrentes (verrou lecture/écriture).
+ */
+public class TaskColumnStore {
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+    private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+    private static final byte NO_CODE = -1;
+    private static final int NO_ASSIGNEE = -1;
+    private static final long NO_DUE = Long.MIN_VALUE;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Integer> rows = new HashMap<>();
+    private final Map<Long, SparseBitmap> projectRows = new HashMap<>();
+    private final Map<String, Integer> assigneeCodes = new HashMap<>();
+    private SparseBitmap[] assigneeRows = new SparseBitmap[16];
+
+    // Colonnes
+    private String[] ids;
+    private long[] sequences;
+    private long[] projectIds;
+    private byte[] statuses;
+    private byte[] priorities;
+    private int[] assignees;
+    private long[] dues;
+
+    // Bitmaps denses : lignes vivantes, puis une par statut et par priorité
+    private long[] live;
+    private final long[][] statusRows = new long[STATUSES.length][];
+    private final long[][] priorityRows = new long[PRIORITIES.length][];
+
+    private int size;
+    private int liveCount;
+
+    public TaskColumnStore(int initialCapacity) {
+        int capacity = Math.max(64, initialCapacity);
+        ids = new String[capacity];
+        sequences = new long[capacity];
+        projectIds = new long[capacity];
+        statuses = new byte[capacity];
+        priorities = new byte[capacity];
+        assignees = new int[capacity];
+        dues = new long[capacity];
+        live = new long[words(capacity)];
+        Arrays.setAll(statusRows, code -> new long[words(capacity)]);
+        Arrays.setAll(priorityRows, code -> new long[words(capacity)]);
+    }
+
+    /**
+     * Applique l'état d'une tâche, sauf si la ligne porte déjà un événement aussi récent.
+     */
+    public void apply(TaskState state) {
+        write(state, false);
+    }
+
+    /**
+     * Applique l'état relu dans tasks, même à numéro d'événement égal : une correction faite
+     * directement en base ne change pas ce numéro.
+     */
+    public void replace(TaskState state) {
+        write(state, true);
+    }
+
+    /**
+     * Document retiré de tasks. Une tâche encore inconnue devient une ligne supprimée au numéro
+     * maximal, qui écarte l'état lu ensuite par un chargement en cours.
+     */
+    public void remove(String taskId) {
+        lock.writeLock().lock();
+        try {
+            Integer existing = rows.get(taskId);
+            int row = existing != null ? existing : allocate(taskId);
+            if (existing == null) {
+                sequences[row] = Long.MAX_VALUE;
+            }
+            if (isLive(row)) {
+                unindex(row);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Projet supprimé : ses tâches sortent de l'index
+    public int removeProject(Long projectId) {
+        return retainProject(projectId, Set.of());
+    }
+
+    /**
+     * Retire les tâches du projet absentes de {@code keep} (reconstruction d'une partition).
+     */
+    public int retainProject(Long projectId, Collection<String> keep) {
+        lock.writeLock().lock();
+        try {
+            SparseBitmap bitmap = projectRows.get(projectId);
+            if (bitmap == null) {
+                return 0;
+            }
+            int removed = 0;
+            for (int i = 0; i < bitmap.length(); i++) {
+                long word = bitmap.word(i);
+                while (word != 0) {
+                    int row = (bitmap.key(i) << 6) | Long.numberOfTrailingZeros(word);
+                    word &= word - 1;
+                    if (!keep.contains(ids[row])) {
+                        unindex(row);
+                        removed++;
+                    }
+                }
+            }
+            return removed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public long count(TaskFilter filter) {
+        lock.readLock().lock();
+        try {
+            return scan(filter, null);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * IDs des tâches retenues, au plus {@code limit}, dans l'ordre des lignes (ordre d'arrivée).
+     */
+    public List<String> ids(TaskFilter filter, int limit) {
+        lock.readLock().lock();
+        try {
+            String[] out = new String[Math.min(limit, liveCount)];
+            int matched = (int) scan(filter, out);
+            return Arrays.asList(out).subList(0, matched);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int liveCount() {
+        return liveCount;
+    }
+
+    public int rowCount() {
+        return size;
+    }
+
+    // Colonnes et bitmaps, hors chaînes (IDs, dictionnaire des assignés)
+    public long sizeInBytes() {
+        lock.readLock().lock();
+        try {
+            long capacity = ids.length;
+            long bytes = capacity * (Long.BYTES * 3 + Integer.BYTES + 2 + 8);
+            bytes += (long) live.length * Long.BYTES * (1 + STATUSES.length + PRIORITIES.length);
+            for (SparseBitmap bitmap : projectRows.values()) {
+                bytes += bitmap.sizeInBytes();
+            }
+            for (int code = 0; code < assigneeCodes.size(); code++) {
+                bytes += assigneeRows[code].sizeInBytes();
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void write(TaskState state, boolean sameSequence) {
+        lock.writeLock().lock();
+        try {
+            Integer existing = rows.get(state.getId());
+            if (existing != null && (sameSequence
+                    ? sequences[existing] > state.getSequence()
+                    : sequences[existing] >= state.getSequence())) {
+                return;
+            }
+            int row = existing != null ? existing : allocate(state.getId());
+            if (isLive(row)) {
+                unindex(row);
+            }
+            sequences[row] = state.getSequence();
+            if (state.isDeleted()) {
+                return;
+            }
+            projectIds[row] = state.getProjectId() == null ? 0 : state.getProjectId();
+            statuses[row] = state.getStatus() == null ? NO_CODE : (byte) state.getStatus().ordinal();
+            priorities[row] = state.getPriority() == null ? NO_CODE : (byte) state.getPriority().ordinal();
+            assignees[row] = state.getAssignedTo() == null ? NO_ASSIGNEE : assigneeCode(state.getAssignedTo());
+            dues[row] = state.getDueDate() == null ? NO_DUE : epochMillis(state.getDueDate());
+            index(row, state.getProjectId() != null);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Nombre de lignes retenues ; out non nul : leurs IDs, jusqu'à le remplir
+    private long scan(TaskFilter filter, String[] out) {
+        if (out != null && out.length == 0) {
+            return 0;
+        }
+        SparseBitmap project = null;
+        if (filter.getProjectId() != null) {
+            project = projectRows.get(filter.getProjectId());
+            if (project == null) {
+                return 0;
+            }
+        }
+        SparseBitmap assignee = null;
+        if (filter.getAssignedTo() != null) {
+            Integer code = assigneeCodes.get(filter.getAssignedTo());
+            if (code == null) {
+                return 0;
+            }
+            assignee = assigneeRows[code];
+        }
+        int statusMask = statusMask(filter.getStatuses());
+        int priorityMask = priorityMask(filter.getPriorities());
+        boolean byDue = filter.getDueFrom() != null || filter.getDueTo() != null;
+        long dueFrom = filter.getDueFrom() == null ? NO_DUE + 1 : epochMillis(filter.getDueFrom());
+        long dueTo = filter.getDueTo() == null ? Long.MAX_VALUE : epochMillis(filter.getDueTo());
+
+        // Bitmap creux le plus court en tête, l'autre sondé au fil des mots
+        SparseBitmap driver = project;
+        SparseBitmap probe = assignee;
+        if (driver == null || (probe != null && probe.length() < driver.length())) {
+            driver = assignee;
+            probe = project;
+        }
+
+        long matched = 0;
+        if (driver == null) {
+            int wordCount = words(size);
+            for (int w = 0; w < wordCount; w++) {
+                long word = refine(w, live[w], statusMask, priorityMask, byDue, dueFrom, dueTo);
+                matched = collect(w, word, out, matched);
+                if (out != null && matched == out.length) {
+                    break;
+                }
+            }
+            return matched;
+        }
+        int probeIndex = 0;
+        for (int i = 0; i < driver.length(); i++) {
+            int w = driver.key(i);
+            long word = driver.word(i) & live[w];
+            if (probe != null && word != 0) {
+                probeIndex = probe.seek(w, probeIndex);
+                word &= probeIndex < probe.length() && probe.key(probeIndex) == w ? probe.word(probeIndex) : 0;
+            }
+            word = refine(w, word, statusMask, priorityMask, byDue, dueFrom, dueTo);
+            matched = collect(w, word, out, matched);
+            if (out != null && matched == out.length) {
+                break;
+            }
+        }
+        return matched;
+    }
+
+    private long refine(int w, long word, int statusMask, int priorityMask,
+                        boolean byDue, long dueFrom, long dueTo) {
+        if (word != 0 && statusMask != 0) {
+            word &= union(statusRows, statusMask, w);
+        }
+        if (word != 0 && priorityMask != 0) {
+            word &= union(priorityRows, priorityMask, w);
+        }
+        if (word != 0 && byDue) {
+            long kept = 0;
+            for (long bits = word; bits != 0; bits &= bits - 1) {
+                int bit = Long.numberOfTrailingZeros(bits);
+                long due = dues[(w << 6) | bit];
+                if (due >= dueFrom && due <= dueTo) {
+                    kept |= 1L << bit;
+                }
+            }
+            word = kept;
+        }
+        return word;
+    }
+
+    private long collect(int w, long word, String[] out, long matched) {
+        if (out == null) {
+            return matched + Long.bitCount(word);
+        }
+        while (word != 0 && matched < out.length) {
+            out[(int) matched++] = ids[(w << 6) | Long.numberOfTrailingZeros(word)];
+            word &= word - 1;
+        }
+        return matched;
+    }
+
+    // OU des bitmaps des codes acceptés, pour le mot w
+    private static long union(long[][] bitmaps, int mask, int w) {
+        long word = 0;
+        for (int codes = mask; codes != 0; codes &= codes - 1) {
+            word |= bitmaps[Integer.numberOfTrailingZeros(codes)][w];
+        }
+        return word;
+    }
+
+    private static int statusMask(Set<TaskStatus> accepted) {
+        int mask = 0;
+        if (accepted != null) {
+            for (TaskStatus status : STATUSES) {
+                if (accepted.contains(status)) {
+                    mask |= 1 << status.ordinal();
+                }
+            }
+        }
+        return mask;
+    }
+
+    private static int priorityMask(Set<TaskPriority> accepted) {
+        int mask = 0;
+        if (accepted != null) {
+            for (TaskPriority priority : PRIORITIES) {
+                if (accepted.contains(priority)) {
+                    mask |= 1 << priority.ordinal();
+                }
+            }
+        }
+        return mask;
+    }
+
+    private boolean isLive(int row) {
+        return (live[row >>> 6] & (1L << row)) != 0;
+    }
+
+    private void index(int row, boolean hasProject) {
+        long mask = 1L << row;
+        int w = row >>> 6;
+        live[w] |= mask;
+        if (statuses[row] != NO_CODE) {
+            statusRows[statuses[row]][w] |= mask;
+        }
+        if (priorities[row] != NO_CODE) {
+            priorityRows[priorities[row]][w] |= mask;
+        }
+        if (hasProject) {
+            projectRows.computeIfAbsent(projectIds[row], id -> new SparseBitmap()).set(row);
+        }
+        if (assignees[row] != NO_ASSIGNEE) {
+            assigneeRows[assignees[row]].set(row);
+        }
+        liveCount++;
+    }
+
+    private void unindex(int row) {
+        long mask = ~(1L << row);
+        int w = row >>> 6;
+        live[w] &= mask;
+        if (statuses[row] != NO_CODE) {
+            statusRows[statuses[row]][w] &= mask;
+        }
+        if (priorities[row] != NO_CODE) {
+            priorityRows[priorities[row]][w] &= mask;
+        }
+        SparseBitmap project = projectRows.get(projectIds[row]);
+        if (project != null) {
+            project.clear(row);
+        }
+        if (assignees[row] != NO_ASSIGNEE) {
+            assigneeRows[assignees[row]].clear(row);
+        }
+        liveCount--;
+    }
+
+    private int allocate(String id) {
+        if (size == ids.length) {
+            grow(size * 2);
+        }
+        int row = size++;
+        ids[row] = id;
+        rows.put(id, row);
+        return row;
+    }
+
+    private int assigneeCode(String assignedTo) {
+        Integer code = assigneeCodes.get(assignedTo);
+        if (code != null) {
+            return code;
+        }
+        int next = assigneeCodes.size();
+        if (next == assigneeRows.length) {
+            assigneeRows = Arrays.copyOf(assigneeRows, next * 2);
+        }
+        assigneeRows[next] = new SparseBitmap();
+        assigneeCodes.put(assignedTo, next);
+        return next;
+    }
+
+    private void grow(int capacity) {
+        ids = Arrays.copyOf(ids, capacity);
+        sequences = Arrays.copyOf(sequences, capacity);
+        projectIds = Arrays.copyOf(projectIds, capacity);
+        statuses = Arrays.copyOf(statuses, capacity);
+        priorities = Arrays.copyOf(priorities, capacity);
+        assignees = Arrays.copyOf(assignees, capacity);
+        dues = Arrays.copyOf(dues, capacity);
+        live = Arrays.copyOf(live, words(capacity));
+        for (int code = 0; code < statusRows.length; code++) {
+            statusRows[code] = Arrays.copyOf(statusRows[code], words(capacity));
+        }
+        for (int code = 0; code < priorityRows.length; code++) {
+            priorityRows[code] = Arrays.copyOf(priorityRows[code], words(capacity));
+        }
+    }
+
+    private static int words(int rows) {
+        return (rows + 63) >>> 6;
+    }
+
+    private static long epochMillis(LocalDateTime dateTime) {
+        return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
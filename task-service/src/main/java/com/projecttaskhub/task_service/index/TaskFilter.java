@@ -0,0 +1,53 @@
+package com.projecttaskhub.task_service.index;
+
+import com.projecttaskhub.shareddto.dto.TaskPriority;
+import com.projecttaskhub.shareddto.dto.TaskStatus;
+import com.projecttaskhub.task_service.entity.Task;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Filtre conjonctif sur les tâches : chaque critère renseigné doit être vérifié ; un critère
+ * nul (ou un ensemble vide) n'est pas appliqué. Statuts et priorités acceptent plusieurs
+ * valeurs ; une borne d'échéance exclut les tâches sans échéance. Bornes incluses.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskFilter {
+
+    private Long projectId;
+    private Set<TaskStatus> statuses;
+    private Set<TaskPriority> priorities;
+    private String assignedTo;
+    private LocalDateTime dueFrom;
+    private LocalDateTime dueTo;
+
+    public boolean matches(Task task) {
+        if (projectId != null && !projectId.equals(task.getProjectId())) {
+            return false;
+        }
+        if (statuses != null && !statuses.isEmpty() && !statuses.contains(task.getStatus())) {
+            return false;
+        }
+        if (priorities != null && !priorities.isEmpty() && !priorities.contains(task.getPriority())) {
+            return false;
+        }
+        if (assignedTo != null && !assignedTo.equals(task.getAssignedTo())) {
+            return false;
+        }
+        if (dueFrom != null || dueTo != null) {
+            LocalDateTime due = task.getDueDate();
+            return due != null
+                    && (dueFrom == null || !due.isBefore(dueFrom))
+                    && (dueTo == null || !due.isAfter(dueTo));
+        }
+        return true;
+    }
+}
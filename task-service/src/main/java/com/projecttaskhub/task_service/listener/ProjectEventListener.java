@@ -1,19 +1,32 @@
 package com.projecttaskhub.task_service.listener;
 
 import com.projecttaskhub.shareddto.event.ProjectEvent;
+import com.projecttaskhub.task_service.entity.ProjectSnapshot;
+import com.projecttaskhub.task_service.eventstore.TaskEventStore;
+import com.projecttaskhub.task_service.existence.ProjectExistenceFilter;
+import com.projecttaskhub.task_service.index.ColumnarTaskIndex;
 import com.projecttaskhub.task_service.repository.TaskRepository;
+import com.projecttaskhub.task_service.service.ProjectSnapshotService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class ProjectEventListener {
 
     private final TaskRepository taskRepository;
+    private final TaskEventStore taskEventStore;
+    private final ProjectSnapshotService projectSnapshotService;
+    private final ProjectExistenceFilter projectExistenceFilter;
+    // Présent seulement avec task-index.enabled
+    private final ObjectProvider<ColumnarTaskIndex> taskIndex;
 
     @RabbitListener(queues = "project.events.consumer.queue")
     @Transactional
@@ -42,6 +55,11 @@ public class ProjectEventListener {
 
     private void handleProjectDeleted(ProjectEvent event) {
         log.info("Traitement de la suppression du projet: {}", event.getProjectId());
+        projectExistenceFilter.projectDeleted(event.getProjectId());
+
+        // Suppression journalisée d'abord : une reconstruction ne fera pas réapparaître les tâches
+        long journaled = taskEventStore.deleteProject(event.getProjectId());
+        log.debug("{} suppressions de tâches journalisées pour le projet {}", journaled, event.getProjectId());
 
         // Compter les tâches associées avant suppression
         long taskCount = taskRepository.countByProjectId(event.getProjectId());
@@ -53,19 +71,26 @@ public class ProjectEventListener {
         } else {
             log.info("Aucune tâche à supprimer pour le projet {}", event.getProjectId());
         }
+        taskIndex.ifAvailable(index -> index.projectDeleted(event.getProjectId()));
     }
 
     private void handleProjectUpdated(ProjectEvent event) {
         log.info("Traitement de la mise à jour du projet: {}", event.getProjectId());
 
-        // Ici on pourrait implémenter la synchronisation des données du projet
-        // Par exemple, mettre à jour des informations dénormalisées dans les tâches
-        long taskCount = taskRepository.countByProjectId(event.getProjectId());
-        log.info("Le projet {} a été mis à jour. Il contient {} tâches",
-                event.getProjectId(), taskCount);
+        // Resynchronise le résumé de projet embarqué dans les tâches ; les événements
+        // plus anciens que le résumé déjà appliqué sont ignorés (version)
+        long updated = projectSnapshotService.applySnapshot(event.getProjectId(), ProjectSnapshot.from(event));
+        log.info("Le projet {} a été mis à jour. {} tâches resynchronisées",
+                event.getProjectId(), updated);
     }
 
     private void handleProjectCreated(ProjectEvent event) {
+        if (event.getProjectIds() != null) {
+            projectExistenceFilter.projectsCreated(event.getProjectIds());
+            log.info("{} nouveaux projets importés", event.getProjectIds().size());
+            return;
+        }
+        projectExistenceFilter.projectsCreated(List.of(event.getProjectId()));
         log.info("Nouveau projet créé: {} - {}", event.getProjectId(), event.getProjectName());
         // On pourrait créer des tâches par défaut, envoyer des notifications, etc.
     }
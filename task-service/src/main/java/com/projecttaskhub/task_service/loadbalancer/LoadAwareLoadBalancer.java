@@ -0,0 +1,64 @@
+package com.projecttaskhub.task_service.loadbalancer;
+
+import com.projecttaskhub.shareddto.discovery.InstanceLoad;
+import com.projecttaskhub.sharedinfra.loadbalancer.PowerOfTwoChoices;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Choix d'instance pondéré par les signaux de charge publiés dans Eureka
+ * ({@link InstanceLoad}) : les instances saturées sont écartées tant qu'il
+ * en reste une autre, puis on garde la moins chargée de deux tirées au hasard
+ * ({@link PowerOfTwoChoices}).
+ */
+@Slf4j
+public class LoadAwareLoadBalancer implements ReactorServiceInstanceLoadBalancer {
+
+    private final ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider;
+    private final String serviceId;
+    private final double saturationScore;
+    private final long maxAgeMillis;
+
+    public LoadAwareLoadBalancer(ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider,
+                                 String serviceId,
+                                 double saturationScore,
+                                 long maxAgeMillis) {
+        this.serviceInstanceListSupplierProvider = serviceInstanceListSupplierProvider;
+        this.serviceId = serviceId;
+        this.saturationScore = saturationScore;
+        this.maxAgeMillis = maxAgeMillis;
+    }
+
+    @Override
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        ServiceInstanceListSupplier supplier = serviceInstanceListSupplierProvider
+                .getIfAvailable(NoopServiceInstanceListSupplier::new);
+        return supplier.get(request).next().map(this::select);
+    }
+
+    private Response<ServiceInstance> select(List<ServiceInstance> instances) {
+        if (instances.isEmpty()) {
+            log.warn("Aucune instance disponible pour le service: {}", serviceId);
+            return new EmptyResponse();
+        }
+
+        return new DefaultResponse(PowerOfTwoChoices.select(instances,
+                instance -> score(instance) >= saturationScore,
+                (a, b) -> score(a) <= score(b) ? a : b));
+    }
+
+    private double score(ServiceInstance instance) {
+        return InstanceLoad.publishedScore(instance.getMetadata(), maxAgeMillis);
+    }
+}
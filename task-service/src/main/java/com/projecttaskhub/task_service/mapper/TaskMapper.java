@@ -17,15 +17,21 @@ import java.util.List;
 public interface TaskMapper {
 
     // Entity vers DTO
+    @Mapping(target = "projectName", source = "project.name")
+    @Mapping(target = "projectStatus", source = "project.status")
     TaskDTO toDto(Task task);
 
-    // DTO vers Entity
+    // DTO vers Entity (le résumé du projet n'est jamais fourni par le client)
+    @Mapping(target = "project", ignore = true)
+    @Mapping(target = "sequence", ignore = true)
     Task toEntity(TaskDTO taskDTO);
 
     // Command vers Entity
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "project", ignore = true)
+    @Mapping(target = "sequence", ignore = true)
     Task toEntity(CreateTaskCommand command);
 
     // Listes
@@ -37,5 +43,7 @@ public interface TaskMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "project", ignore = true)
+    @Mapping(target = "sequence", ignore = true)
     void updateEntityFromDto(TaskDTO taskDTO, @MappingTarget Task task);
 }
\ No newline at end of file
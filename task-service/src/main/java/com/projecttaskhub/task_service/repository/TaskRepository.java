@@ -48,11 +48,18 @@ public interface TaskRepository extends MongoRepository<Task, String> {
     @Query("{ 'assignedTo' : ?0, 'status' : ?1 }")
     List<Task> findByAssignedToAndStatus(String assignedTo, TaskStatus status);
 
+    // Tâches ni terminées ni annulées dont l'échéance tombe dans l'intervalle, la plus proche d'abord
+    @Query(value = "{ 'assignedTo' : ?0, 'status' : { $nin: ['DONE', 'CANCELLED'] }, 'dueDate' : { $gte: ?1, $lte: ?2 } }",
+            sort = "{ 'dueDate' : 1 }")
+    List<Task> findOpenTasksDueBetween(String assignedTo, LocalDateTime start, LocalDateTime end);
+
     // Requêtes de comptage
     long countByProjectId(Long projectId);
 
     long countByAssignedTo(String assignedTo);
 
+    long countByAssignedToAndStatus(String assignedTo, TaskStatus status);
+
     long countByStatus(TaskStatus status);
 
     @Query(value = "{ 'projectId' : ?0, 'status' : ?1 }", count = true)
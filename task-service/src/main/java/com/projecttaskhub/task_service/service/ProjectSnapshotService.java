@@ -0,0 +1,69 @@
+package com.projecttaskhub.task_service.service;
+
+import com.projecttaskhub.task_service.entity.ProjectSnapshot;
+import com.projecttaskhub.task_service.entity.Task;
+import com.mongodb.client.result.UpdateResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Maintient le résumé de projet embarqué dans les tâches.
+ * Les mises à jour portent sur des lots d'au plus chunk-size tâches : aucune écriture
+ * ne touche d'un coup toutes les tâches d'un gros projet.
+ */
+@Service
+@Slf4j
+public class ProjectSnapshotService {
+
+    private final MongoTemplate mongoTemplate;
+    private final int chunkSize;
+
+    public ProjectSnapshotService(MongoTemplate mongoTemplate,
+                                  @Value("${project-snapshot.chunk-size:500}") int chunkSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Applique le résumé aux tâches du projet dont la version est plus ancienne (ou absente).
+     * Les tâches mises à jour ne correspondent plus au filtre : chaque tour prend le lot
+     * suivant, jusqu'à épuisement.
+     */
+    public long applySnapshot(Long projectId, ProjectSnapshot snapshot) {
+        Criteria stale = Criteria.where("projectId").is(projectId).orOperator(
+                Criteria.where("project.version").lt(snapshot.getVersion()),
+                Criteria.where("project").is(null));
+        Update update = Update.update("project", snapshot);
+
+        long modified = 0;
+        while (true) {
+            Query chunkQuery = new Query(stale).limit(chunkSize);
+            chunkQuery.fields().include("_id");
+            List<String> ids = mongoTemplate.find(chunkQuery, Task.class).stream()
+                    .map(Task::getId)
+                    .toList();
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            // Le filtre de version est répété : une mise à jour plus récente passée entre-temps gagne
+            Query chunkUpdate = new Query(Criteria.where("_id").in(ids).andOperator(stale));
+            UpdateResult result = mongoTemplate.updateMulti(chunkUpdate, update, Task.class);
+            modified += result.getModifiedCount();
+
+            if (ids.size() < chunkSize) {
+                break;
+            }
+        }
+
+        log.info("Résumé du projet {} (version {}) appliqué à {} tâches", projectId, snapshot.getVersion(), modified);
+        return modified;
+    }
+}
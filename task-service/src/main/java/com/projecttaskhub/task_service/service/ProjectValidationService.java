@@ -1,7 +1,11 @@
 package com.projecttaskhub.task_service.service;
 
 import com.projecttaskhub.shareddto.dto.ProjectDTO;
-import com.projecttaskhub.task_service.client.ProjectServiceClient;
+import com.projecttaskhub.task_service.client.ProjectBatchLoader;
+import com.projecttaskhub.task_service.client.ProjectLookup;
+import com.projecttaskhub.task_service.exception.ProjectServiceUnavailableException;
+import com.projecttaskhub.task_service.exception.ProjectValidationException;
+import com.projecttaskhub.task_service.existence.ProjectExistenceFilter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -11,28 +15,42 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class ProjectValidationService {
 
-    private final ProjectServiceClient projectServiceClient;
+    // Les lectures concurrentes sont regroupées en un seul appel /projects/batch
+    private final ProjectBatchLoader projectBatchLoader;
+    // Rejette localement les IDs sûrement inexistants, sans appel distant
+    private final ProjectExistenceFilter projectExistenceFilter;
 
-    public boolean validateProjectExists(Long projectId) {
+    // Distingue un projet absent (MISSING) d'un project-service qui ne répond pas (UNKNOWN)
+    public ProjectLookup lookupProject(Long projectId) {
+        ProjectExistenceFilter.Verdict verdict = projectExistenceFilter.check(projectId);
+        if (verdict == ProjectExistenceFilter.Verdict.ABSENT) {
+            log.info("Projet {} inexistant (filtre local)", projectId);
+            return ProjectLookup.missing();
+        }
         try {
-            log.info("Validation de l'existence du projet: {}", projectId);
-            ProjectDTO project = projectServiceClient.getProject(projectId);
-            boolean exists = project != null && project.getId() != null;
-            log.info("Projet {} existe: {}", projectId, exists);
-            return exists;
+            ProjectDTO project = projectBatchLoader.getProject(projectId);
+            if (project == null || project.getId() == null) {
+                log.info("Projet {} inexistant", projectId);
+                if (verdict == ProjectExistenceFilter.Verdict.MAYBE_PRESENT) {
+                    projectExistenceFilter.recordFalsePositive();
+                }
+                return ProjectLookup.missing();
+            }
+            return ProjectLookup.exists(project);
         } catch (Exception e) {
-            log.error("Erreur lors de la validation du projet {}: {}", projectId, e.getMessage());
-            return false;
+            log.warn("Existence du projet {} indéterminée: {}", projectId, e.getMessage());
+            return ProjectLookup.unknown();
         }
     }
 
     public ProjectDTO getProjectDetails(Long projectId) {
-        try {
-            log.info("Récupération des détails du projet: {}", projectId);
-            return projectServiceClient.getProject(projectId);
-        } catch (Exception e) {
-            log.error("Erreur lors de la récupération du projet {}: {}", projectId, e.getMessage());
-            throw new RuntimeException("Impossible de récupérer les détails du projet: " + projectId);
-        }
+        log.info("Récupération des détails du projet: {}", projectId);
+        ProjectLookup lookup = lookupProject(projectId);
+        return switch (lookup.outcome()) {
+            case EXISTS -> lookup.project();
+            case MISSING -> throw new ProjectValidationException("Projet non trouvé avec l'ID: " + projectId);
+            case UNKNOWN -> throw new ProjectServiceUnavailableException(
+                    "Impossible de récupérer les détails du projet: " + projectId);
+        };
     }
-}
\ No newline at end of file
+}
@@ -2,10 +2,12 @@ package com.projecttaskhub.task_service.service;
 
 
 import com.projecttaskhub.shareddto.dto.TaskDTO;
+import com.projecttaskhub.task_service.cqrs.bus.MessageBus;
 import com.projecttaskhub.task_service.cqrs.command.CreateTaskCommand;
 import com.projecttaskhub.task_service.cqrs.command.DeleteTaskCommand;
+import com.projecttaskhub.task_service.cqrs.command.RebuildProjectionsCommand;
 import com.projecttaskhub.task_service.cqrs.command.UpdateTaskCommand;
-import com.projecttaskhub.task_service.cqrs.handler.TaskCommandHandler;
+import com.projecttaskhub.task_service.eventstore.ProjectionRebuilder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -15,20 +17,25 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class TaskCommandService {
 
-    private final TaskCommandHandler commandHandler;
+    private final MessageBus messageBus;
 
     public TaskDTO createTask(CreateTaskCommand command) {
         log.info("Service: Création d'une nouvelle tâche: {}", command.getTitle());
-        return commandHandler.handle(command);
+        return messageBus.send(command);
     }
 
     public TaskDTO updateTask(UpdateTaskCommand command) {
         log.info("Service: Mise à jour de la tâche: {}", command.getId());
-        return commandHandler.handle(command);
+        return messageBus.send(command);
     }
 
     public void deleteTask(DeleteTaskCommand command) {
         log.info("Service: Suppression de la tâche: {}", command.getId());
-        commandHandler.handle(command);
+        messageBus.send(command);
+    }
+
+    public ProjectionRebuilder.Report rebuildProjections(RebuildProjectionsCommand command) {
+        log.info("Service: Reconstruction des projections depuis le journal des tâches");
+        return messageBus.send(command);
     }
 }
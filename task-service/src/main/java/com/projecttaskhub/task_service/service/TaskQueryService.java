@@ -1,20 +1,18 @@
 package com.projecttaskhub.task_service.service;
 
 
+import com.projecttaskhub.shareddto.dto.MyWorkDTO;
 import com.projecttaskhub.shareddto.dto.TaskDTO;
 import com.projecttaskhub.shareddto.dto.TaskPriority;
 import com.projecttaskhub.shareddto.dto.TaskStatus;
-import com.projecttaskhub.task_service.cqrs.handler.TaskQueryHandler;
+import com.projecttaskhub.task_service.cqrs.bus.MessageBus;
 import com.projecttaskhub.task_service.cqrs.query.*;
-import com.projecttaskhub.task_service.entity.Task;
-import com.projecttaskhub.task_service.mapper.TaskMapper;
-import com.projecttaskhub.task_service.repository.TaskRepository;
+import com.projecttaskhub.task_service.index.TaskFilter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -22,85 +20,115 @@ import java.util.List;
 @Service
 @RequiredArgsConstructor
 @Slf4j
-@Transactional(readOnly = true)
 public class TaskQueryService {
 
-    private final TaskQueryHandler queryHandler;
-    private final TaskRepository taskRepository;
-    private final TaskMapper taskMapper;
+    private final MessageBus messageBus;
 
     public TaskDTO getTaskById(String id) {
         GetTaskByIdQuery query = GetTaskByIdQuery.builder()
                 .id(id)
                 .build();
-        return queryHandler.handle(query);
+        return messageBus.query(query);
     }
 
     public List<TaskDTO> getTasksByProject(Long projectId) {
         GetTasksByProjectQuery query = GetTasksByProjectQuery.builder()
                 .projectId(projectId)
                 .build();
-        return queryHandler.handle(query);
+        return messageBus.query(query);
     }
 
     public List<TaskDTO> getTasksByAssignee(String assignedTo) {
         GetTasksByAssigneeQuery query = GetTasksByAssigneeQuery.builder()
                 .assignedTo(assignedTo)
                 .build();
-        return queryHandler.handle(query);
+        return messageBus.query(query);
     }
 
     public List<TaskDTO> getTasksByStatus(TaskStatus status) {
         GetTasksByStatusQuery query = GetTasksByStatusQuery.builder()
                 .status(status)
                 .build();
-        return queryHandler.handle(query);
+        return messageBus.query(query);
+    }
+
+    // dueWithinDays <= 0 : horizon par défaut (my-work.due-within-days)
+    public MyWorkDTO getMyWork(String assignedTo, int dueWithinDays) {
+        GetMyWorkQuery query = GetMyWorkQuery.builder()
+                .assignedTo(assignedTo)
+                .dueWithinDays(dueWithinDays)
+                .build();
+        return messageBus.query(query);
     }
 
     public List<TaskDTO> getAllTasks() {
         GetAllTasksQuery query = GetAllTasksQuery.builder().build();
-        return queryHandler.handle(query);
+        return messageBus.query(query);
     }
 
-    // Méthodes additionnelles qui n'utilisent pas CQRS (accès direct au repository)
     public Page<TaskDTO> getTasksPaginated(Pageable pageable) {
         log.info("Service: Récupération des tâches paginées");
-        Page<Task> tasks = taskRepository.findAll(pageable);
-        return tasks.map(taskMapper::toDto);
+        return messageBus.query(GetTasksPageQuery.builder()
+                .pageable(pageable)
+                .build());
     }
 
     public List<TaskDTO> getTasksByPriority(TaskPriority priority) {
         log.info("Service: Récupération des tâches par priorité: {}", priority);
-        List<Task> tasks = taskRepository.findByPriority(priority);
-        return taskMapper.toDtoList(tasks);
+        return messageBus.query(GetTasksByPriorityQuery.builder()
+                .priority(priority)
+                .build());
     }
 
     public List<TaskDTO> searchTasksByTitle(String title) {
         log.info("Service: Recherche de tâches par titre: {}", title);
-        List<Task> tasks = taskRepository.findByTitleContainingIgnoreCase(title);
-        return taskMapper.toDtoList(tasks);
+        return messageBus.query(SearchTasksByTitleQuery.builder()
+                .title(title)
+                .build());
     }
 
     public List<TaskDTO> getTasksDueBetween(LocalDateTime start, LocalDateTime end) {
         log.info("Service: Récupération des tâches dues entre {} et {}", start, end);
-        List<Task> tasks = taskRepository.findTasksDueBetween(start, end);
-        return taskMapper.toDtoList(tasks);
+        return messageBus.query(GetTasksDueBetweenQuery.builder()
+                .start(start)
+                .end(end)
+                .build());
     }
 
     public long countTasksByProject(Long projectId) {
         log.info("Service: Comptage des tâches pour le projet: {}", projectId);
-        return taskRepository.countByProjectId(projectId);
+        return messageBus.query(CountTasksByProjectQuery.builder()
+                .projectId(projectId)
+                .build());
     }
 
     public long countTasksByAssignee(String assignedTo) {
         log.info("Service: Comptage des tâches pour l'assigné: {}", assignedTo);
-        return taskRepository.countByAssignedTo(assignedTo);
+        return messageBus.query(CountTasksByAssigneeQuery.builder()
+                .assignedTo(assignedTo)
+                .build());
     }
 
     public List<TaskDTO> getTasksByProjectAndStatus(Long projectId, TaskStatus status) {
         log.info("Service: Récupération des tâches pour le projet {} avec le statut {}", projectId, status);
-        List<Task> tasks = taskRepository.findByProjectIdAndStatus(projectId, status);
-        return taskMapper.toDtoList(tasks);
+        return messageBus.query(GetTasksByProjectAndStatusQuery.builder()
+                .projectId(projectId)
+                .status(status)
+                .build());
     }
 
+    public List<TaskDTO> filterTasks(TaskFilter filter, int limit) {
+        log.info("Service: Filtrage des tâches: {} (limite {})", filter, limit);
+        return messageBus.query(FilterTasksQuery.builder()
+                .filter(filter)
+                .limit(limit)
+                .build());
+    }
+
+    public long countFilteredTasks(TaskFilter filter) {
+        log.info("Service: Comptage des tâches filtrées: {}", filter);
+        return messageBus.query(CountFilteredTasksQuery.builder()
+                .filter(filter)
+                .build());
+    }
 }
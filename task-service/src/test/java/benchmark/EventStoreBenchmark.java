@@ -0,0 +1,204 @@
+package benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.projecttaskhub.shareddto.dto.TaskPriority;
+import com.projecttaskhub.shareddto.dto.TaskStatus;
+import com.projecttaskhub.task_service.config.MongoIndexInitializer;
+import com.projecttaskhub.task_service.entity.Task;
+import com.projecttaskhub.task_service.eventstore.ProjectionRebuilder;
+import com.projecttaskhub.task_service.eventstore.StoredTaskEvent;
+import com.projecttaskhub.task_service.eventstore.TaskEventStore;
+import com.projecttaskhub.task_service.eventstore.TaskEventType;
+import com.projecttaskhub.task_service.eventstore.TaskState;
+import com.projecttaskhub.task_service.eventstore.TaskStateSnapshot;
+import com.projecttaskhub.task_service.eventstore.TasksProjection;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.testcontainers.containers.MongoDBContainer;
+
+import java.io.File;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Débit du journal des tâches : ajout d'événements (création puis mises à jour, N écrivains)
+ * et reconstruction de la projection tasks (N partitions en parallèle), sur un MongoDB
+ * réel : conteneur Testcontainers, ou instance existante via eventstore.benchmark.mongo-uri.
+ * Exécuté uniquement sur demande :
+ * <pre>
+ * ./scripts/bench-eventstore.sh
+ * mvn -pl task-service test -Dtest=EventStoreBenchmark -Deventstore.benchmark=true [-Deventstore.benchmark.tasks=20000]
+ * </pre>
+ * Résultats : tableau sur la sortie standard et target/event-store-benchmark.json.
+ */
+@EnabledIfSystemProperty(named = "eventstore.benchmark", matches = "true")
+class EventStoreBenchmark {
+
+    private static final String DATABASE = "taskdb_benchmark";
+
+    private record Result(String phase, int threads, long operations, long durationMillis) {
+
+        double perSecond() {
+            return operations * 1000.0 / Math.max(durationMillis, 1);
+        }
+    }
+
+    @Test
+    void measureAppendAndRebuild() throws Exception {
+        int projects = Integer.getInteger("eventstore.benchmark.projects", 50);
+        int tasks = Integer.getInteger("eventstore.benchmark.tasks", 20_000);
+        int updates = Integer.getInteger("eventstore.benchmark.updates-per-task", 4);
+        int snapshotEvery = Integer.getInteger("eventstore.benchmark.snapshot-every", 50);
+        int[] threadCounts = Arrays.stream(System.getProperty("eventstore.benchmark.threads", "1,4,8").split(","))
+                .mapToInt(value -> Integer.parseInt(value.trim()))
+                .toArray();
+        String uri = System.getProperty("eventstore.benchmark.mongo-uri");
+
+        MongoDBContainer container = uri == null ? new MongoDBContainer("mongo:7-jammy") : null;
+        if (container != null) {
+            container.start();
+            uri = container.getReplicaSetUrl(DATABASE);
+        }
+        List<Result> results = new ArrayList<>();
+        try (MongoClient client = MongoClients.create(uri)) {
+            MongoTemplate mongoTemplate = new MongoTemplate(client, DATABASE);
+            TaskEventStore eventStore = new TaskEventStore(mongoTemplate, new SimpleMeterRegistry(), snapshotEvery);
+            TasksProjection projection = new TasksProjection(mongoTemplate, eventStore, 500);
+
+            for (int threads : threadCounts) {
+                reset(mongoTemplate);
+                results.add(append(eventStore, projects, tasks, updates, threads));
+            }
+            for (int threads : threadCounts) {
+                mongoTemplate.dropCollection(Task.class);
+                ProjectionRebuilder rebuilder = new ProjectionRebuilder(eventStore, mongoTemplate,
+                        List.of(projection), threads, 500);
+                try {
+                    ProjectionRebuilder.Report report = rebuilder.rebuild(List.of(), List.of());
+                    assertEquals(tasks, report.tasks(), "Tâches projetées après reconstruction");
+                    assertEquals(tasks, mongoTemplate.count(new Query(), Task.class));
+                    results.add(new Result("rebuild", threads, (long) tasks * (updates + 1), report.durationMillis()));
+                } finally {
+                    rebuilder.destroy();
+                }
+            }
+            client.getDatabase(DATABASE).drop();
+        } finally {
+            if (container != null) {
+                container.stop();
+            }
+        }
+
+        print(results, projects, tasks, updates);
+        write(results, projects, tasks, updates, snapshotEvery);
+    }
+
+    // Chaque écrivain crée ses tâches puis les met à jour : un événement par insertion
+    private static Result append(TaskEventStore eventStore, int projects, int tasks, int updates, int threads)
+            throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            long start = System.nanoTime();
+            List<Future<?>> writers = new ArrayList<>();
+            for (int writer = 0; writer < threads; writer++) {
+                int first = writer;
+                writers.add(executor.submit(() -> {
+                    for (int i = first; i < tasks; i += threads) {
+                        TaskState state = eventStore.append(null, created(i, projects));
+                        for (int u = 0; u < updates; u++) {
+                            state = eventStore.append(state, updated(state.getId(), u));
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+            return new Result("append", threads, (long) tasks * (updates + 1), (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static StoredTaskEvent created(int index, int projects) {
+        return StoredTaskEvent.builder()
+                .taskId(TaskEventStore.newTaskId())
+                .projectId((long) (index % projects) + 1)
+                .type(TaskEventType.CREATED)
+                .title("Tâche " + index)
+                .description("Tâche générée par le benchmark du journal")
+                .status(TaskStatus.TODO)
+                .priority(TaskPriority.values()[index % TaskPriority.values().length])
+                .assignedTo("user" + (index % 100))
+                .dueDate(LocalDateTime.of(2025, 6, 2, 9, 0).plusDays(index % 90))
+                .build();
+    }
+
+    private static StoredTaskEvent updated(String taskId, int round) {
+        return StoredTaskEvent.builder()
+                .taskId(taskId)
+                .type(TaskEventType.UPDATED)
+                .status(TaskStatus.values()[(round + 1) % 4])
+                .assignedTo(round % 2 == 0 ? "user" + round : null)
+                .build();
+    }
+
+    private static void reset(MongoTemplate mongoTemplate) {
+        mongoTemplate.dropCollection(StoredTaskEvent.class);
+        mongoTemplate.dropCollection(TaskStateSnapshot.class);
+        mongoTemplate.dropCollection(Task.class);
+        new MongoIndexInitializer(mongoTemplate).afterSingletonsInstantiated();
+    }
+
+    private static void print(List<Result> results, int projects, int tasks, int updates) {
+        System.out.printf("%n%d tâches, %d projets, %d événements par tâche%n", tasks, projects, updates + 1);
+        System.out.printf("%-10s %8s %12s %12s %14s%n", "Phase", "Threads", "Événements", "Durée ms", "Événements/s");
+        for (Result result : results) {
+            System.out.printf("%-10s %8d %12d %12d %14.0f%n", result.phase(), result.threads(),
+                    result.operations(), result.durationMillis(), result.perSecond());
+        }
+    }
+
+    private static void write(List<Result> results, int projects, int tasks, int updates, int snapshotEvery)
+            throws Exception {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Result result : results) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("phase", result.phase());
+            row.put("threads", result.threads());
+            row.put("events", result.operations());
+            row.put("durationMillis", result.durationMillis());
+            row.put("eventsPerSecond", result.perSecond());
+            rows.add(row);
+        }
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("projects", projects);
+        report.put("tasks", tasks);
+        report.put("eventsPerTask", updates + 1);
+        report.put("snapshotEvery", snapshotEvery);
+        report.put("javaVersion", System.getProperty("java.version"));
+        report.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        report.put("results", rows);
+
+        File output = new File("target/event-store-benchmark.json");
+        output.getParentFile().mkdirs();
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(output, report);
+        System.out.println("Résultats écrits dans " + output.getAbsolutePath());
+    }
+}
@@ -0,0 +1,203 @@
+package com.projecttaskhub.task_service.changestream;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.projecttaskhub.shareddto.dto.TaskPriority;
+import com.projecttaskhub.shareddto.dto.TaskStatus;
+import com.projecttaskhub.task_service.entity.Task;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Flux de modifications de tasks sur un replica set MongoDB à un nœud (conteneur
+ * Testcontainers ; ignoré sans Docker).
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class TaskChangeStreamSubscriberTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(20);
+
+    @Container
+    private static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7-jammy");
+
+    private static MongoClient client;
+    private static MongoTemplate mongoTemplate;
+
+    private final List<TaskChangeStreamSubscriber> subscribers = new ArrayList<>();
+
+    @BeforeAll
+    static void connect() {
+        client = MongoClients.create(MONGO.getReplicaSetUrl("taskdb_changestream"));
+        mongoTemplate = new MongoTemplate(client, "taskdb_changestream");
+    }
+
+    @AfterAll
+    static void disconnect() {
+        client.close();
+    }
+
+    @BeforeEach
+    void cleanUp() {
+        mongoTemplate.remove(new Query(), Task.class);
+        mongoTemplate.dropCollection(ChangeStreamCheckpoint.class);
+    }
+
+    @AfterEach
+    void stopSubscribers() {
+        subscribers.forEach(TaskChangeStreamSubscriber::stop);
+    }
+
+    @Test
+    void deliversEveryWriteIncludingBulkDeletes() {
+        RecordingHandler handler = new RecordingHandler();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        start(handler, meterRegistry, "all-writes");
+
+        Task first = mongoTemplate.insert(task("Rédiger le cahier des charges", 1L));
+        mongoTemplate.insert(task("Valider le budget", 1L));
+        mongoTemplate.insert(task("Préparer la démo", 2L));
+        await(() -> handler.changes().size() == 3);
+        // Écriture hors commande, comme une correction manuelle. Reçue avant la suppression :
+        // sinon la relecture du document (UPDATE_LOOKUP) ne le trouverait plus
+        mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(first.getId())),
+                Update.update("status", TaskStatus.DONE), Task.class);
+        await(() -> handler.changes().size() == 4);
+        // Suppression en masse, comme ProjectEventListener.deleteByProjectId
+        mongoTemplate.remove(new Query(Criteria.where("projectId").is(1L)), Task.class);
+
+        await(() -> handler.changes().size() == 6);
+        List<TaskChange> changes = handler.changes();
+        assertEquals(first.getId(), changes.get(3).taskId());
+        assertFalse(changes.get(3).deleted());
+        assertEquals(TaskStatus.DONE, changes.get(3).task().getStatus());
+        assertTrue(changes.get(4).deleted());
+        assertTrue(changes.get(5).deleted());
+        assertNull(changes.get(5).task());
+
+        assertEquals(6, meterRegistry.get("task.changestream.lag").timer().count());
+        assertTrue(meterRegistry.get("task.changestream.batch").summary().count() <= 6,
+                "Modifications regroupées en lots");
+    }
+
+    @Test
+    void resumesAfterLastCheckpointOnRestart() {
+        RecordingHandler before = new RecordingHandler();
+        TaskChangeStreamSubscriber subscriber = start(before, new SimpleMeterRegistry(), "restart");
+        mongoTemplate.insert(task("Avant l'arrêt", 1L));
+        await(() -> before.changes().size() == 1);
+        subscriber.stop();
+
+        // Écrite pendant l'arrêt : reçue au redémarrage, la précédente non
+        Task missed = mongoTemplate.insert(task("Pendant l'arrêt", 1L));
+
+        RecordingHandler after = new RecordingHandler();
+        start(after, new SimpleMeterRegistry(), "restart");
+        await(() -> after.changes().size() == 1);
+        assertEquals(missed.getId(), after.changes().get(0).taskId());
+    }
+
+    @Test
+    void resetsHandlersWhenCollectionIsDropped() {
+        RecordingHandler handler = new RecordingHandler();
+        start(handler, new SimpleMeterRegistry(), "drop");
+        mongoTemplate.insert(task("Avant la suppression", 1L));
+        await(() -> handler.changes().size() == 1);
+
+        mongoTemplate.dropCollection(Task.class);
+        await(() -> handler.resets.get() == 1);
+
+        // Le flux repart sur la collection recréée
+        Task recreated = mongoTemplate.insert(task("Après la suppression", 1L));
+        await(() -> handler.changes().size() == 2);
+        assertEquals(recreated.getId(), handler.changes().get(1).taskId());
+    }
+
+    private TaskChangeStreamSubscriber start(TaskChangeHandler handler, SimpleMeterRegistry meterRegistry,
+                                             String checkpointId) {
+        TaskChangeStreamSubscriber subscriber = new TaskChangeStreamSubscriber(mongoTemplate, List.of(handler),
+                meterRegistry, checkpointId, 50, 50, 200, 200);
+        subscribers.add(subscriber);
+        subscriber.start();
+        // Flux ouvert de façon asynchrone : les écritures du test doivent le suivre
+        await(subscriber::listening);
+        return subscriber;
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Condition non atteinte en " + TIMEOUT.toSeconds() + " s");
+            }
+            sleep();
+        }
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(20);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Task task(String title, Long projectId) {
+        return Task.builder()
+                .title(title)
+                .projectId(projectId)
+                .status(TaskStatus.TODO)
+                .priority(TaskPriority.MEDIUM)
+                .sequence(1L)
+                .build();
+    }
+
+    private static final class RecordingHandler implements TaskChangeHandler {
+
+        private final List<TaskChange> received = new CopyOnWriteArrayList<>();
+        private final AtomicInteger resets = new AtomicInteger();
+
+        @Override
+        public String name() {
+            return "recording";
+        }
+
+        @Override
+        public void onChanges(List<TaskChange> changes) {
+            received.addAll(changes);
+        }
+
+        @Override
+        public void onReset() {
+            resets.incrementAndGet();
+        }
+
+        List<TaskChange> changes() {
+            return List.copyOf(received);
+        }
+    }
+}
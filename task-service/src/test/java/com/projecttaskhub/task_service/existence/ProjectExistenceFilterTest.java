@@ -0,0 +1,118 @@
+package com.projecttaskhub.task_service.existence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projecttaskhub.shareddto.dto.ProjectDTO;
+import com.projecttaskhub.task_service.client.ProjectServiceClient;
+import com.projecttaskhub.task_service.existence.ProjectExistenceFilter.Verdict;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Verdicts du filtre d'existence des projets selon l'instantané de /projects/ids et les
+ * événements reçus (marge haute de 500 IDs).
+ */
+class ProjectExistenceFilterTest {
+
+    @Test
+    void unavailableUntilLoaded() {
+        ProjectExistenceFilter filter = filter("[1, 2, 3]");
+
+        assertEquals(Verdict.UNAVAILABLE, filter.check(1L));
+    }
+
+    // Aucun ID connu : une absence du filtre ne prouve rien, project-service confirme
+    @Test
+    void emptySnapshotDefersToProjectService() {
+        ProjectExistenceFilter filter = filter("[]");
+        filter.rebuild();
+
+        assertEquals(Verdict.BEYOND_KNOWN, filter.check(1L));
+        assertEquals(Verdict.BEYOND_KNOWN, filter.check(10_000L));
+    }
+
+    @Test
+    void missBelowHighWaterMarkIsAbsent() {
+        ProjectExistenceFilter filter = filter("[1, 2000]");
+        filter.rebuild();
+
+        assertEquals(Verdict.MAYBE_PRESENT, filter.check(2000L));
+        assertEquals(Verdict.ABSENT, filter.check(100L));
+        // Dans la marge : bloc d'IDs peut-être réservé par une autre instance de project-service
+        assertEquals(Verdict.BEYOND_KNOWN, filter.check(1600L));
+        assertEquals(Verdict.BEYOND_KNOWN, filter.check(2100L));
+    }
+
+    @Test
+    void eventsUpdateVerdicts() {
+        ProjectExistenceFilter filter = filter("[]");
+        filter.rebuild();
+
+        filter.projectsCreated(List.of(1000L));
+        assertEquals(Verdict.MAYBE_PRESENT, filter.check(1000L));
+        assertEquals(Verdict.ABSENT, filter.check(10L));
+
+        filter.projectDeleted(1000L);
+        assertEquals(Verdict.ABSENT, filter.check(1000L));
+    }
+
+    @Test
+    void creationSurvivesRebuildFromLaggingSnapshot() {
+        ProjectExistenceFilter filter = filter("[]");
+        filter.rebuild();
+        filter.projectsCreated(List.of(1000L));
+
+        filter.rebuild();
+
+        assertEquals(Verdict.MAYBE_PRESENT, filter.check(1000L));
+    }
+
+    private static ProjectExistenceFilter filter(String snapshot) {
+        return new ProjectExistenceFilter(new SnapshotClient(snapshot), new ObjectMapper(), new SimpleMeterRegistry(),
+                true, 1000, 0.01, 2.0, 900_000, 500);
+    }
+
+    // Seul /projects/ids est appelé par le filtre
+    private record SnapshotClient(String snapshot) implements ProjectServiceClient {
+
+        @Override
+        public Response getAllProjectIds() {
+            return Response.builder()
+                    .status(200)
+                    .reason("OK")
+                    .request(Request.create(Request.HttpMethod.GET, "/projects/ids", Map.of(), null,
+                            StandardCharsets.UTF_8, null))
+                    .headers(Map.of())
+                    .body(snapshot, StandardCharsets.UTF_8)
+                    .build();
+        }
+
+        @Override
+        public ProjectDTO getProject(Long id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Boolean projectExists(Long id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<ProjectDTO> getProjects(Collection<Long> ids) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<Long> existingProjectIds(Collection<Long> ids) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
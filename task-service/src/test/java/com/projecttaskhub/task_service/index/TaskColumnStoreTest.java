@@ -0,0 +1,239 @@
+package com.projecttaskhub.task_service.index;
+
+import com.projecttaskhub.shareddto.dto.TaskPriority;
+import com.projecttaskhub.shareddto.dto.TaskStatus;
+import com.projecttaskhub.task_service.entity.Task;
+import com.projecttaskhub.task_service.eventstore.TaskState;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Index en colonnes des tâches, comparé à un filtrage direct de l'état attendu.
+ */
+class TaskColumnStoreTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Test
+    void staleApplyIsIgnored() {
+        TaskColumnStore store = new TaskColumnStore(16);
+        store.apply(state("a", 2, 1L, TaskStatus.DONE));
+        store.apply(state("a", 1, 1L, TaskStatus.TODO));
+
+        assertEquals(1, store.count(byStatus(TaskStatus.DONE)));
+        assertEquals(0, store.count(byStatus(TaskStatus.TODO)));
+    }
+
+    @Test
+    void replaceAcceptsEqualSequence() {
+        TaskColumnStore store = new TaskColumnStore(16);
+        store.apply(state("a", 3, 1L, TaskStatus.TODO));
+        store.apply(state("a", 3, 1L, TaskStatus.DONE));
+        assertEquals(1, store.count(byStatus(TaskStatus.TODO)));
+
+        store.replace(state("a", 3, 1L, TaskStatus.DONE));
+        assertEquals(1, store.count(byStatus(TaskStatus.DONE)));
+        assertEquals(0, store.count(byStatus(TaskStatus.TODO)));
+
+        store.replace(state("a", 2, 1L, TaskStatus.TODO));
+        assertEquals(0, store.count(byStatus(TaskStatus.TODO)));
+    }
+
+    @Test
+    void removeOfUnknownTaskDiscardsLaterLoad() {
+        TaskColumnStore store = new TaskColumnStore(16);
+        store.remove("a");
+        store.apply(state("a", 5, 1L, TaskStatus.TODO));
+        store.replace(state("a", 5, 1L, TaskStatus.TODO));
+
+        assertEquals(0, store.liveCount());
+        assertEquals(1, store.rowCount());
+    }
+
+    @Test
+    void deletedStateLeavesIndex() {
+        TaskColumnStore store = new TaskColumnStore(16);
+        store.apply(state("a", 1, 1L, TaskStatus.TODO));
+        store.apply(state("a", 2, 1L, TaskStatus.TODO).toBuilder().deleted(true).build());
+
+        assertEquals(0, store.liveCount());
+        assertEquals(0, store.count(TaskFilter.builder().projectId(1L).build()));
+    }
+
+    @Test
+    void retainProjectRemovesTasksMissingFromPartition() {
+        TaskColumnStore store = new TaskColumnStore(16);
+        store.apply(state("a", 1, 1L, TaskStatus.TODO));
+        store.apply(state("b", 1, 1L, TaskStatus.TODO));
+        store.apply(state("c", 1, 1L, TaskStatus.TODO));
+        store.apply(state("d", 1, 2L, TaskStatus.TODO));
+
+        assertEquals(2, store.retainProject(1L, Set.of("b", "x")));
+        assertEquals(List.of("b"), store.ids(TaskFilter.builder().projectId(1L).build(), 10));
+        assertEquals(List.of("d"), store.ids(TaskFilter.builder().projectId(2L).build(), 10));
+        assertEquals(0, store.retainProject(3L, Set.of()));
+
+        // Ligne retirée, numéro conservé : seul un événement plus récent la réintègre
+        store.apply(state("a", 1, 1L, TaskStatus.TODO));
+        assertEquals(1, store.count(TaskFilter.builder().projectId(1L).build()));
+        store.apply(state("a", 2, 1L, TaskStatus.TODO));
+        assertEquals(2, store.count(TaskFilter.builder().projectId(1L).build()));
+
+        assertEquals(1, store.removeProject(2L));
+        assertEquals(2, store.liveCount());
+    }
+
+    @Test
+    void idsFollowArrivalOrderUpToLimit() {
+        TaskColumnStore store = new TaskColumnStore(16);
+        for (int i = 0; i < 5; i++) {
+            store.apply(state("t" + i, 1, 1L, TaskStatus.TODO));
+        }
+
+        assertEquals(List.of("t0", "t1", "t2"), store.ids(new TaskFilter(), 3));
+        assertEquals(List.of(), store.ids(new TaskFilter(), 0));
+        assertEquals(List.of(), store.ids(TaskFilter.builder().assignedTo("inconnu").build(), 3));
+    }
+
+    /**
+     * Suite aléatoire d'applications (dont des événements périmés), de remplacements, de
+     * suppressions et de reconstructions de partitions, puis filtres aléatoires : count et ids
+     * doivent coïncider avec le filtrage direct de l'état attendu.
+     */
+    @Test
+    void matchesBruteForceFiltering() {
+        Random random = new Random(1);
+        TaskColumnStore store = new TaskColumnStore(10);
+        Map<String, Task> expected = new HashMap<>();
+        Map<String, Long> sequences = new HashMap<>();
+        Set<String> removed = new HashSet<>();
+
+        for (int op = 0; op < 200_000; op++) {
+            String id = "t" + random.nextInt(20_000);
+            if (removed.contains(id)) {
+                continue;
+            }
+            long sequence = sequences.getOrDefault(id, 0L) + 1;
+            boolean stale = sequence > 1 && random.nextInt(20) == 0;
+            boolean deleted = random.nextInt(15) == 0;
+            TaskState state = randomState(random, id, stale ? sequence - 1 : sequence, deleted);
+
+            if (deleted && !stale && sequences.containsKey(id) && random.nextInt(3) == 0) {
+                store.remove(id);
+                removed.add(id);
+            } else if (stale || random.nextBoolean()) {
+                store.apply(state);
+            } else {
+                store.replace(state);
+            }
+            if (!stale) {
+                sequences.put(id, sequence);
+                if (deleted) {
+                    expected.remove(id);
+                } else {
+                    expected.put(id, state.toTask());
+                }
+            }
+
+            if (op % 50_000 == 49_999) {
+                long projectId = random.nextInt(50);
+                store.removeProject(projectId);
+                expected.values().removeIf(task -> task.getProjectId() == projectId);
+            } else if (op % 20_000 == 9_999) {
+                long projectId = random.nextInt(50);
+                Set<String> keep = new HashSet<>();
+                expected.values().stream()
+                        .filter(task -> task.getProjectId() == projectId && random.nextBoolean())
+                        .forEach(task -> keep.add(task.getId()));
+                store.retainProject(projectId, keep);
+                expected.values().removeIf(task -> task.getProjectId() == projectId
+                        && !keep.contains(task.getId()));
+            }
+        }
+        assertEquals(expected.size(), store.liveCount());
+
+        for (int query = 0; query < 3000; query++) {
+            TaskFilter filter = randomFilter(random);
+            long matching = expected.values().stream().filter(filter::matches).count();
+            assertEquals(matching, store.count(filter), filter::toString);
+
+            List<String> ids = store.ids(filter, 7);
+            assertEquals(Math.min(7, matching), ids.size(), filter::toString);
+            assertTrue(ids.stream().allMatch(id -> filter.matches(expected.get(id))), filter::toString);
+        }
+    }
+
+    private static TaskState state(String id, long sequence, Long projectId, TaskStatus status) {
+        return TaskState.builder()
+                .id(id)
+                .projectId(projectId)
+                .status(status)
+                .priority(TaskPriority.MEDIUM)
+                .sequence(sequence)
+                .build();
+    }
+
+    private static TaskFilter byStatus(TaskStatus status) {
+        return TaskFilter.builder().statuses(EnumSet.of(status)).build();
+    }
+
+    private static TaskState randomState(Random random, String id, long sequence, boolean deleted) {
+        return TaskState.builder()
+                .id(id)
+                .projectId((long) random.nextInt(50))
+                .status(TaskStatus.values()[random.nextInt(TaskStatus.values().length)])
+                .priority(TaskPriority.values()[random.nextInt(TaskPriority.values().length)])
+                .assignedTo(random.nextInt(8) == 0 ? null : "u" + random.nextInt(300))
+                .dueDate(random.nextInt(4) == 0 ? null : START.plusHours(random.nextInt(5000)))
+                .sequence(sequence)
+                .deleted(deleted)
+                .build();
+    }
+
+    // Projets et assignés légèrement au-delà de ceux générés : critères sans aucune ligne
+    private static TaskFilter randomFilter(Random random) {
+        TaskFilter.TaskFilterBuilder filter = TaskFilter.builder();
+        if (random.nextBoolean()) {
+            filter.projectId((long) random.nextInt(52));
+        }
+        if (random.nextBoolean()) {
+            filter.assignedTo("u" + random.nextInt(310));
+        }
+        if (random.nextBoolean()) {
+            EnumSet<TaskStatus> statuses = EnumSet.noneOf(TaskStatus.class);
+            for (TaskStatus status : TaskStatus.values()) {
+                if (random.nextBoolean()) {
+                    statuses.add(status);
+                }
+            }
+            filter.statuses(statuses);
+        }
+        if (random.nextBoolean()) {
+            EnumSet<TaskPriority> priorities = EnumSet.noneOf(TaskPriority.class);
+            for (TaskPriority priority : TaskPriority.values()) {
+                if (random.nextBoolean()) {
+                    priorities.add(priority);
+                }
+            }
+            filter.priorities(priorities);
+        }
+        if (random.nextBoolean()) {
+            filter.dueFrom(START.plusHours(random.nextInt(5000)));
+        }
+        if (random.nextBoolean()) {
+            filter.dueTo(START.plusHours(random.nextInt(5000)));
+        }
+        return filter.build();
+    }
+}
@@ -0,0 +1,177 @@
+package com.projecttaskhub.testsupport;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+
+/**
+ * Remplaçant de Keycloak pour les tests de charge et le benchmark de la gateway : mêmes URL
+ * que le realm projecttaskhub (découverte OIDC, JWKS, endpoint token), jetons RS256 signés
+ * par une clé générée au démarrage. Aucun mot de passe n'est vérifié.
+ * <p>
+ * Les rôles sont publiés dans la revendication « roles » (USER, plus ADMIN pour admin) :
+ * les configurations de load-test/config et du benchmark les mappent en ROLE_*.
+ */
+public final class StubJwtIssuer implements AutoCloseable {
+
+    public static final String REALM_PATH = "/realms/projecttaskhub";
+    private static final Duration TOKEN_LIFETIME = Duration.ofHours(12);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final RSAKey signingKey;
+    private final RSASSASigner signer;
+    private final String issuer;
+    private final HttpServer server;
+
+    public StubJwtIssuer(int port) throws IOException, JOSEException {
+        this.signingKey = new RSAKeyGenerator(2048)
+                .keyUse(KeyUse.SIGNATURE)
+                .algorithm(JWSAlgorithm.RS256)
+                .keyID(UUID.randomUUID().toString())
+                .generate();
+        this.signer = new RSASSASigner(signingKey);
+        // Doit correspondre exactement à l'issuer attendu par les JwtDecoder des services
+        this.issuer = "http://localhost:" + port + REALM_PATH;
+
+        this.server = HttpServer.create(new InetSocketAddress(port), 0);
+        server.setExecutor(Executors.newFixedThreadPool(4));
+        server.createContext(REALM_PATH + "/.well-known/openid-configuration", this::discovery);
+        server.createContext(REALM_PATH + "/protocol/openid-connect/certs", this::certs);
+        server.createContext(REALM_PATH + "/protocol/openid-connect/token", this::token);
+    }
+
+    public void start() {
+        server.start();
+        System.out.println("Émetteur JWT de substitution : " + issuer);
+    }
+
+    public String issuer() {
+        return issuer;
+    }
+
+    // Jeton pour un utilisateur du jeu de données, sans passer par HTTP
+    public String issue(String username) throws JOSEException {
+        List<String> roles = "admin".equals(username) ? List.of("USER", "ADMIN") : List.of("USER");
+        Instant now = Instant.now();
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .issuer(issuer)
+                .subject(username)
+                .audience("account")
+                .issueTime(Date.from(now))
+                .expirationTime(Date.from(now.plus(TOKEN_LIFETIME)))
+                .jwtID(UUID.randomUUID().toString())
+                .claim("preferred_username", username)
+                .claim("roles", roles)
+                .claim("realm_access", Map.of("roles", roles))
+                .build();
+        SignedJWT jwt = new SignedJWT(
+                new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(signingKey.getKeyID()).build(), claims);
+        jwt.sign(signer);
+        return jwt.serialize();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void discovery(HttpExchange exchange) throws IOException {
+        Map<String, Object> configuration = new LinkedHashMap<>();
+        configuration.put("issuer", issuer);
+        configuration.put("jwks_uri", issuer + "/protocol/openid-connect/certs");
+        configuration.put("token_endpoint", issuer + "/protocol/openid-connect/token");
+        configuration.put("authorization_endpoint", issuer + "/protocol/openid-connect/auth");
+        configuration.put("grant_types_supported", List.of("password", "client_credentials"));
+        configuration.put("subject_types_supported", List.of("public"));
+        configuration.put("response_types_supported", List.of("code"));
+        configuration.put("id_token_signing_alg_values_supported", List.of("RS256"));
+        respond(exchange, 200, objectMapper.writeValueAsBytes(configuration));
+    }
+
+    private void certs(HttpExchange exchange) throws IOException {
+        respond(exchange, 200, new JWKSet(signingKey.toPublicJWK()).toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    // password : sub = username ; client_credentials : sub = service-account-<client_id>
+    private void token(HttpExchange exchange) throws IOException {
+        if (!"POST".equals(exchange.getRequestMethod())) {
+            respond(exchange, 405, new byte[0]);
+            return;
+        }
+        Map<String, String> form = parseForm(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+        String subject = switch (form.getOrDefault("grant_type", "")) {
+            case "password" -> form.get("username");
+            case "client_credentials" -> "service-account-" + clientId(exchange, form);
+            default -> null;
+        };
+        if (subject == null || subject.isBlank()) {
+            respond(exchange, 400, objectMapper.writeValueAsBytes(Map.of("error", "unsupported_grant_type")));
+            return;
+        }
+        try {
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("access_token", issue(subject));
+            body.put("token_type", "Bearer");
+            body.put("expires_in", TOKEN_LIFETIME.toSeconds());
+            respond(exchange, 200, objectMapper.writeValueAsBytes(body));
+        } catch (JOSEException e) {
+            respond(exchange, 500, objectMapper.writeValueAsBytes(Map.of("error", e.getMessage())));
+        }
+    }
+
+    // client_secret_basic (Spring Security par défaut) ou client_secret_post
+    private static String clientId(HttpExchange exchange, Map<String, String> form) {
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        if (authorization != null && authorization.startsWith("Basic ")) {
+            String credentials = new String(Base64.getDecoder().decode(authorization.substring(6)), StandardCharsets.UTF_8);
+            return URLDecoder.decode(credentials.substring(0, credentials.indexOf(':')), StandardCharsets.UTF_8);
+        }
+        return form.get("client_id");
+    }
+
+    private static Map<String, String> parseForm(String body) {
+        Map<String, String> form = new HashMap<>();
+        for (String pair : body.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0) {
+                form.put(URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return form;
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}